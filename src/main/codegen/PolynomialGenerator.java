@@ -0,0 +1,349 @@
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Emits com.berational.Polynomials from a coefficient spec.
+ *
+ * Run by the Maven build in generate-sources as a single-file source program:
+ * <pre>
+ * java PolynomialGenerator.java SPEC OUTPUT_DIRECTORY SCHEME ASYMPTOTIC_ORDER SMALL_T_ORDER
+ * </pre>
+ * - SCHEME: horner or estrin, for the Region I and II expansions of the Black call
+ * - ASYMPTOTIC_ORDER: highest power of q kept in the Region I expansion
+ * - SMALL_T_ORDER: highest power of w = t² kept in the Region II expansion
+ *
+ * See polynomials.spec for the spec format. The Cody and AS241 rationals are always
+ * emitted in Horner form: the Vector API kernels evaluate the same coefficient tables
+ * lane by lane in that order and are held bit-identical to the scalar methods.
+ */
+public class PolynomialGenerator {
+
+    private record Polynomial(String comment, String name, String variable, List<String> coefficients) {
+    }
+
+    private record AsymptoticTerm(long multiplier, long[] coefficients) {
+    }
+
+    private record SmallTTerm(long divisor, long[] constants, long[] aCoefficients) {
+    }
+
+    private final List<Polynomial> polynomials = new ArrayList<>();
+    private final List<AsymptoticTerm> asymptotic = new ArrayList<>();
+    private final List<SmallTTerm> smallT = new ArrayList<>();
+    private String asymptoticComment = "";
+    private String smallTComment = "";
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 5) {
+            throw new IllegalArgumentException(
+                    "Usage: PolynomialGenerator SPEC OUTPUT_DIRECTORY SCHEME ASYMPTOTIC_ORDER SMALL_T_ORDER");
+        }
+        boolean estrin = switch (args[2]) {
+            case "horner" -> false;
+            case "estrin" -> true;
+            default -> throw new IllegalArgumentException("Unknown scheme: " + args[2]);
+        };
+
+        PolynomialGenerator generator = new PolynomialGenerator();
+        generator.parse(Files.readAllLines(Path.of(args[0]), StandardCharsets.UTF_8));
+
+        int asymptoticOrder = order(args[3], generator.asymptotic.size() - 1, "asymptotic");
+        int smallTOrder = order(args[4], generator.smallT.size() - 1, "small-t");
+        String source = generator.emit(args[2], estrin, asymptoticOrder, smallTOrder);
+
+        Path file = Path.of(args[1], "com", "berational", "Polynomials.java");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, source, StandardCharsets.UTF_8);
+    }
+
+    private static int order(String value, int maximum, String expansion) {
+        int order = Integer.parseInt(value);
+        if (order < 0 || order > maximum) {
+            throw new IllegalArgumentException(
+                    "The spec holds the " + expansion + " expansion to order " + maximum + ", not " + order);
+        }
+        return order;
+    }
+
+    // ==================== Spec ====================
+
+    private void parse(List<String> lines) {
+        StringBuilder comment = new StringBuilder();
+        String section = null;
+        String[] header = null;
+        List<String> tokens = new ArrayList<>();
+        String sectionComment = "";
+
+        for (String line : lines) {
+            String trimmed = line.strip();
+            if (trimmed.startsWith("#")) {
+                if (section == null) {
+                    comment.append(trimmed.substring(1).strip()).append('\n');
+                }
+                continue;
+            }
+            if (trimmed.isEmpty()) {
+                comment.setLength(0);
+                continue;
+            }
+
+            String[] words = trimmed.split("\\s+");
+            if (section == null) {
+                section = words[0];
+                header = words;
+                sectionComment = comment.toString().strip();
+                comment.setLength(0);
+                tokens.clear();
+            } else if (words[0].equals("end")) {
+                close(section, header, tokens, sectionComment);
+                section = null;
+            } else if (section.equals("polynomial")) {
+                tokens.addAll(Arrays.asList(words));
+            } else {
+                // Expansions are one term per line
+                tokens.add(trimmed);
+            }
+        }
+        if (section != null) {
+            throw new IllegalArgumentException("Missing end of " + section);
+        }
+    }
+
+    private void close(String section, String[] header, List<String> tokens, String comment) {
+        switch (section) {
+            case "polynomial" -> polynomials.add(new Polynomial(comment, header[1], header[2], List.copyOf(tokens)));
+            case "asymptotic" -> {
+                asymptoticComment = comment;
+                for (String row : tokens) {
+                    long[] values = Arrays.stream(row.split("\\s+")).mapToLong(Long::parseLong).toArray();
+                    asymptotic.add(new AsymptoticTerm(values[0], Arrays.copyOfRange(values, 1, values.length)));
+                }
+            }
+            case "smallt" -> {
+                smallTComment = comment;
+                for (String row : tokens) {
+                    String[] words = row.split("\\s+");
+                    long[] constants = new long[words.length - 1];
+                    long[] aCoefficients = new long[words.length - 1];
+                    for (int j = 1; j < words.length; j++) {
+                        String[] pair = words[j].split(":");
+                        constants[j - 1] = Long.parseLong(pair[0]);
+                        aCoefficients[j - 1] = Long.parseLong(pair[1]);
+                    }
+                    smallT.add(new SmallTTerm(Long.parseLong(words[0]), constants, aCoefficients));
+                }
+            }
+            default -> throw new IllegalArgumentException("Unknown section: " + section);
+        }
+    }
+
+    // ==================== Source ====================
+
+    private String emit(String scheme, boolean estrin, int asymptoticOrder, int smallTOrder) {
+        StringBuilder out = new StringBuilder();
+        out.append("// Generated by src/main/codegen/PolynomialGenerator.java from polynomials.spec; do not edit.\n");
+        out.append("package com.berational;\n\n");
+        out.append("/**\n");
+        out.append(" * Polynomial evaluators generated from src/main/codegen/polynomials.spec.\n");
+        out.append(" *\n");
+        out.append(" * Coefficient tables list ascending powers. Rationals are evaluated in Horner form;\n");
+        out.append(" * the Region I and II expansions use the scheme and orders chosen at build time.\n");
+        out.append(" */\n");
+        out.append("final class Polynomials {\n\n");
+        out.append("    /** Evaluation scheme of the Region I and II expansions: horner or estrin. */\n");
+        out.append("    static final String EXPANSION_SCHEME = \"").append(scheme).append("\";\n");
+        out.append("    /** Highest power of q in the Region I expansion. */\n");
+        out.append("    static final int ASYMPTOTIC_EXPANSION_ORDER = ").append(asymptoticOrder).append(";\n");
+        out.append("    /** Highest power of t² in the Region II expansion. */\n");
+        out.append("    static final int SMALL_T_EXPANSION_ORDER = ").append(smallTOrder).append(";\n");
+
+        for (Polynomial polynomial : polynomials) {
+            emitPolynomial(out, polynomial);
+        }
+        emitAsymptotic(out, estrin, asymptoticOrder);
+        emitSmallT(out, estrin, smallTOrder);
+
+        out.append("\n    // Prevent instantiation\n");
+        out.append("    private Polynomials() {\n");
+        out.append("        throw new AssertionError(\"Polynomials class should not be instantiated\");\n");
+        out.append("    }\n");
+        out.append("}\n");
+        return out.toString();
+    }
+
+    private static void emitPolynomial(StringBuilder out, Polynomial polynomial) {
+        out.append('\n');
+        if (!polynomial.comment().isEmpty()) {
+            for (String line : polynomial.comment().split("\n")) {
+                out.append("    // ").append(line).append('\n');
+            }
+        }
+        out.append("    static final double[] ").append(constantName(polynomial.name())).append(" = {\n");
+        out.append("        ").append(String.join(", ", polynomial.coefficients())).append('\n');
+        out.append("    };\n\n");
+        out.append("    static double ").append(polynomial.name()).append("(double ").append(polynomial.variable()).append(") {\n");
+        out.append("        return ").append(horner(polynomial.coefficients(), polynomial.variable())).append(";\n");
+        out.append("    }\n");
+    }
+
+    private void emitAsymptotic(StringBuilder out, boolean estrin, int order) {
+        out.append('\n');
+        javadoc(out, asymptoticComment,
+                "Σₖ qᵏ·Pₖ(e) for k = 0.." + order + ", where the caller forms e = (t/h)² and q = (h/((h+t)(h-t)))².");
+        out.append("    static double asymptoticExpansion(double q, double e) {\n");
+
+        List<String> terms = new ArrayList<>();
+        int maximumDegree = 0;
+        for (int k = 0; k <= order; k++) {
+            AsymptoticTerm term = asymptotic.get(k);
+            maximumDegree = Math.max(maximumDegree, term.coefficients().length);
+            terms.add("p" + k);
+        }
+        if (estrin) {
+            declarePowers(out, "e", maximumDegree);
+            declarePowers(out, "q", order + 1);
+        }
+        for (int k = 0; k <= order; k++) {
+            AsymptoticTerm term = asymptotic.get(k);
+            List<String> coefficients = new ArrayList<>();
+            for (long c : term.coefficients()) {
+                // Folding the multiplier in is exact: integers well below 2⁵³
+                coefficients.add(literal(Math.multiplyExact(c, term.multiplier())));
+            }
+            out.append("        double p").append(k).append(" = ")
+               .append(polynomial(coefficients, "e", estrin)).append(";\n");
+        }
+        out.append("        return ").append(polynomial(terms, "q", estrin)).append(";\n");
+        out.append("    }\n");
+    }
+
+    private void emitSmallT(StringBuilder out, boolean estrin, int order) {
+        out.append('\n');
+        javadoc(out, smallTComment,
+                "Σₖ wᵏ·Pₖ(a, h2) for k = 0.." + order + ", where the caller forms w = t², h2 = h² and a = 1 + h·Y(h).");
+        out.append("    static double smallTExpansion(double a, double h2, double w) {\n");
+
+        List<String> terms = new ArrayList<>();
+        int maximumDegree = 0;
+        for (int k = 0; k <= order; k++) {
+            maximumDegree = Math.max(maximumDegree, smallT.get(k).constants().length);
+            terms.add("p" + k);
+        }
+        if (estrin) {
+            declarePowers(out, "h2", maximumDegree);
+            declarePowers(out, "w", order + 1);
+        }
+        for (int k = 0; k <= order; k++) {
+            SmallTTerm term = smallT.get(k);
+            List<String> coefficients = new ArrayList<>();
+            for (int j = 0; j < term.constants().length; j++) {
+                coefficients.add(linearInA(term.constants()[j], term.aCoefficients()[j]));
+            }
+            String p = polynomial(coefficients, "h2", estrin);
+            out.append("        double p").append(k).append(" = ");
+            if (term.divisor() == 1) {
+                out.append(p);
+            } else {
+                out.append(atom(p)).append(" / ").append(literal(term.divisor()));
+            }
+            out.append(";\n");
+        }
+        out.append("        return ").append(polynomial(terms, "w", estrin)).append(";\n");
+        out.append("    }\n");
+    }
+
+    private static void javadoc(StringBuilder out, String comment, String summary) {
+        out.append("    /**\n");
+        for (String line : comment.split("\n")) {
+            if (!line.isEmpty()) {
+                out.append("     * ").append(line).append('\n');
+            }
+        }
+        out.append("     *\n");
+        out.append("     * ").append(summary).append('\n');
+        out.append("     */\n");
+    }
+
+    // ==================== Evaluation schemes ====================
+
+    private static String polynomial(List<String> terms, String x, boolean estrin) {
+        return estrin ? estrin(terms, x, 0, terms.size()) : horner(terms, x);
+    }
+
+    /**
+     * c₀ + x·(c₁ + x·(c₂ + ...)); a leading coefficient of 1.0 is not multiplied.
+     */
+    private static String horner(List<String> terms, String x) {
+        String result = terms.get(terms.size() - 1);
+        for (int i = terms.size() - 2; i >= 0; i--) {
+            result = terms.get(i) + " + " + times(x, result);
+        }
+        return result;
+    }
+
+    /**
+     * Split at the largest power of two h below n: E(c₀..cₕ₋₁) + xʰ·E(cₕ..cₙ₋₁).
+     */
+    private static String estrin(List<String> terms, String x, int from, int n) {
+        if (n == 1) {
+            return terms.get(from);
+        }
+        int h = Integer.highestOneBit(n - 1);
+        return estrin(terms, x, from, h) + " + " + times(power(x, h), estrin(terms, x, from + h, n - h));
+    }
+
+    private static void declarePowers(StringBuilder out, String x, int terms) {
+        for (int h = 2; h < terms; h *= 2) {
+            String previous = power(x, h / 2);
+            out.append("        double ").append(power(x, h)).append(" = ")
+               .append(previous).append(" * ").append(previous).append(";\n");
+        }
+    }
+
+    private static String power(String x, int h) {
+        return h == 1 ? x : x + "_" + h;
+    }
+
+    private static String times(String x, String term) {
+        return term.equals("1.0") ? x : x + " * " + atom(term);
+    }
+
+    private static String atom(String term) {
+        return !term.contains(" ") || enclosed(term) ? term : "(" + term + ")";
+    }
+
+    private static boolean enclosed(String term) {
+        if (!term.startsWith("(")) {
+            return false;
+        }
+        int depth = 0;
+        for (int i = 0; i < term.length(); i++) {
+            depth += term.charAt(i) == '(' ? 1 : term.charAt(i) == ')' ? -1 : 0;
+            if (depth == 0) {
+                return i == term.length() - 1;
+            }
+        }
+        return false;
+    }
+
+    private static String linearInA(long constant, long aCoefficient) {
+        if (aCoefficient == 0) {
+            return literal(constant);
+        }
+        String a = aCoefficient == 1 ? "a" : literal(aCoefficient) + " * a";
+        return constant == 0 ? a : "(" + literal(constant) + " + " + a + ")";
+    }
+
+    private static String literal(long value) {
+        return value + ".0";
+    }
+
+    private static String constantName(String name) {
+        return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase();
+    }
+}
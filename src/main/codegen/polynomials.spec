@@ -0,0 +1,146 @@
+# Coefficient specs for PolynomialGenerator, which emits com.berational.Polynomials
+# during generate-sources. Edit here, not in the generated source.
+#
+#   polynomial NAME VARIABLE
+#       c0 c1 ... cn                 ascending powers of VARIABLE, any layout
+#   end
+#
+#   asymptotic                       Region I of the normalised Black call
+#       MULTIPLIER c0 c1 ... ck      row k: q^k·MULTIPLIER·(c0 + c1·e + ... + ck·e^k)
+#   end
+#
+#   smallt                           Region II of the normalised Black call
+#       DIVISOR c:d c:d ...          row k: w^k·(Σ (c + d·a)·h2^j)/DIVISOR, ascending j
+#   end
+#
+# Literal coefficients are copied into the generated source verbatim.
+
+# Cody erf, |x| <= 0.46875: erf(x) = x·N(x²)/D(x²)
+polynomial codyErfRegion1Numerator y
+    3209.37758913846947 377.485237685302021 113.864154151050156 3.16112374387056560
+    0.185777706184603153
+end
+
+polynomial codyErfRegion1Denominator y
+    2844.23683343917062 1282.61652607737228 244.024637934444173 23.6012909523441209 1.0
+end
+
+# Cody erfc, 0.46875 < |x| <= 4: erfc(x) = exp(-x²)·N(|x|)/D(|x|)
+polynomial codyErfRegion2Numerator y
+    1230.33935479799725 2051.07837782607147 1712.04761263407058 881.95222124176909
+    298.635138197400131 66.1191906371416295 8.88314979438837594 0.564188496988670089
+    2.15311535474403846e-8
+end
+
+polynomial codyErfRegion2Denominator y
+    1230.33935480374942 3439.36767414372164 4362.61909014324716 3290.79923573345963
+    1621.38957456669019 537.181101862009858 117.693950891312499 15.7449261107098347 1.0
+end
+
+# Cody erfc, |x| > 4: erfcx(x) = (1/√π - (1/x²)·N(1/x²)/D(1/x²))/|x|
+polynomial codyErfRegion3Numerator y
+    6.58749161529837803e-4 0.0160837851487422766 0.125781726111229246 0.360344899949804439
+    0.305326634961232344 0.0163153871373020978
+end
+
+polynomial codyErfRegion3Denominator y
+    0.00233520497626869185 0.0605183413124413191 0.527905102951428412 1.87295284992346047
+    2.56852019228982242 1.0
+end
+
+# AS241, |u - 0.5| <= 0.425: Φ⁻¹(u) = q·N(r)/D(r) with q = u - 0.5, r = 0.180625 - q²
+polynomial as241CentralNumerator r
+    3.3871328727963666080E0 1.3314166789178437745E+2 1.9715909503065514427E+3
+    1.3731693765509461125E+4 4.5921953931549871457E+4 6.7265770927008700853E+4
+    3.3430575583588128105E+4 2.5090809287301226727E+3
+end
+
+polynomial as241CentralDenominator r
+    1.0 4.2313330701600911252E+1 6.8718700749205790830E+2 5.3941960214247511077E+3
+    2.1213794301586595867E+4 3.9307895800092710610E+4 2.8729085735721942674E+4
+    5.2264952788528545610E+3
+end
+
+# AS241, tails with r = √(-ln p) < 5: -Φ⁻¹(p) = N(r - 1.6)/D(r - 1.6)
+polynomial as241NearTailNumerator r
+    1.42343711074968357734E0 4.63033784615654529590E0 5.76949722146069140550E0
+    3.64784832476320460504E0 1.27045825245236838258E0 2.41780725177450611770E-1
+    2.27238449892691845833E-2 7.74545014278341407640E-4
+end
+
+polynomial as241NearTailDenominator r
+    1.0 2.05319162663775882187E0 1.67638483018380384940E0 6.89767334985100004550E-1
+    1.48103976427480074590E-1 1.51986665636164571966E-2 5.47593808499534494600E-4
+    1.05075007164441684324E-9
+end
+
+# AS241, tails with r = √(-ln p) >= 5: -Φ⁻¹(p) = N(r - 5)/D(r - 5)
+polynomial as241FarTailNumerator r
+    6.65790464350110377720E0 5.46378491116411436990E0 1.78482653991729133580E0
+    2.96560571828504891230E-1 2.65321895265761230930E-2 1.24266094738807843860E-3
+    2.71155556874348757815E-5 2.01033439929228813265E-7
+end
+
+polynomial as241FarTailDenominator r
+    1.0 5.99832206555887937690E-1 1.36929880922735805310E-1 1.48753612908506148525E-2
+    7.86869131145613259100E-4 1.84631831751005468180E-5 1.42151175831644588870E-7
+    2.04426310338993978564E-15
+end
+
+# AS241 PPND7, the lower-degree variant, over the same regions
+polynomial ppnd7CentralNumerator r
+    3.3871327179E+00 5.0434271938E+01 1.5929113202E+02 5.9109374720E+01
+end
+
+polynomial ppnd7CentralDenominator r
+    1.0 1.7895169469E+01 7.8757757664E+01 6.7187563600E+01
+end
+
+polynomial ppnd7NearTailNumerator r
+    1.4234372777E+00 2.7568153900E+00 1.3067284816E+00 1.7023821103E-01
+end
+
+polynomial ppnd7NearTailDenominator r
+    1.0 7.3700164250E-01 1.2021132975E-01
+end
+
+polynomial ppnd7FarTailNumerator r
+    6.6579051150E+00 3.0812263860E+00 4.2868294337E-01 1.7337203997E-02
+end
+
+polynomial ppnd7FarTailDenominator r
+    1.0 2.4197894225E-01 1.2258202635E-02
+end
+
+# Asymptotic expansion for large negative h and small t, to order 17 (relative accuracy 1.64E-16)
+asymptotic
+    1  2
+    1  -6 -2
+    3  10 20 2
+    5  -14 -70 -42 -2
+    7  18 168 252 72 2
+    9  -22 -330 -924 -660 -110 -2
+    11 26 572 2574 3432 1430 156 2
+    13 -30 -910 -6006 -12870 -10010 -2730 -210 -2
+    15 34 1360 12376 38896 48620 24752 4760 272 2
+    17 -38 -1938 -23256 -100776 -184756 -151164 -54264 -7752 -342 -2
+    19 42 2660 40698 232560 587860 705432 406980 108528 11970 420 2
+    21 -46 -3542 -67298 -490314 -1634380 -2704156 -2288132 -980628 -201894 -17710 -506 -2
+    23 50 4600 106260 961400 4085950 8914800 10400600 6537520 2163150 354200 25300 600 2
+    25 -54 -5850 -161460 -1776060 -9373650 -26075790 -40116600 -34767720 -16872570 -4440150 -592020 -35100 -702 -2
+    27 58 7308 237510 3121560 20030010 69194580 135727830 155117520 103791870 40060020 8584290 950040 47502 812 2
+    29 -62 -8990 -339822 -5259150 -40320150 -169344630 -412506150 -601080390 -530365050 -282241050 -88704330 -15777450 -1472562 -62930 -930 -2
+    31 66 10912 474672 8544096 77134200 387073440 1146332880 2074316640 2333606220 1637618400 709634640 185122080 27768312 2215136 81840 1056 2
+    33 -70 -13090 -649264 -13449040 -141214920 -834451800 -2952675600 -6495886320 -9075135300 -8119857900 -4639918800 -1668903600 -367158792 -47071640 -3246320 -104720 -1190 -2
+end
+
+# 12th order Taylor expansion in t of Y(h+t) - Y(h-t), Y(z) = Φ(z)/φ(z), with a = 1 + h·Y(h)
+smallt
+    1          0:1
+    6          -1:3 0:1
+    120        -7:15 -1:10 0:1
+    5040       -57:105 -18:105 -1:21 0:1
+    362880     -561:945 -285:1260 -33:378 -1:36 0:1
+    39916800   -6555:10395 -4680:17325 -840:6930 -52:990 -1:55 0:1
+    6227020800 -89055:135135 -82845:270270 -20370:135135 -1926:25740 -75:2145 -1:78 0:1
+end
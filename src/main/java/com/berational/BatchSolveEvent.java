@@ -0,0 +1,100 @@
+package com.berational;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one call of a batch solver.
+ *
+ * The throwing flavours stop at the first invalid price, so they report at most one
+ * failure; the status flavours count every invalid price in the batch.
+ *
+ * While no recording enables the event, {@link #start} returns a shared inert instance, so
+ * batch calls allocate nothing for it.
+ */
+@Name("com.berational.BatchSolve")
+@Label("Implied Volatility Batch")
+@Category("Let's Be Rational")
+@Description("One call of a batch implied volatility solver")
+@StackTrace(false)
+final class BatchSolveEvent extends jdk.jfr.Event {
+
+    @Label("Solver")
+    String solver;
+
+    @Label("Size")
+    @Description("Number of options in the batch")
+    int size;
+
+    @Label("Below Intrinsic")
+    @Description("Options priced below intrinsic value")
+    int belowIntrinsic;
+
+    @Label("Above Maximum")
+    @Description("Options priced at or above the maximum value")
+    int aboveMaximum;
+
+    private static final EventType TYPE = EventType.getEventType(BatchSolveEvent.class);
+
+    // Returned while the event is disabled; never begun or committed
+    private static final BatchSolveEvent DISABLED = new BatchSolveEvent();
+
+    /**
+     * Create the event and start its clock, or return the inert instance if it is disabled.
+     */
+    static BatchSolveEvent start(String solver, int size) {
+        if (!TYPE.isEnabled()) {
+            return DISABLED;
+        }
+        BatchSolveEvent event = new BatchSolveEvent();
+        event.solver = solver;
+        event.size = size;
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Count the exception that aborted a throwing batch.
+     */
+    void failed(RuntimeException e) {
+        if (this == DISABLED) {
+            return;
+        }
+        if (e instanceof BelowIntrinsicException) {
+            belowIntrinsic++;
+        } else if (e instanceof AboveMaximumException) {
+            aboveMaximum++;
+        }
+    }
+
+    /**
+     * Stop the clock and commit, counting failures from the status column if there is one.
+     *
+     * @param status status column of the batch, or null for the throwing flavour
+     * @param from first index (inclusive)
+     * @param to last index (exclusive)
+     */
+    void finish(byte[] status, int from, int to) {
+        if (this == DISABLED) {
+            return;
+        }
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        if (status != null) {
+            for (int i = from; i < to; i++) {
+                if (status[i] == LetsBeRationalBatch.STATUS_BELOW_INTRINSIC) {
+                    belowIntrinsic++;
+                } else if (status[i] == LetsBeRationalBatch.STATUS_ABOVE_MAXIMUM) {
+                    aboveMaximum++;
+                }
+            }
+        }
+        commit();
+    }
+}
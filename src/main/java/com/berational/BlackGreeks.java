@@ -0,0 +1,143 @@
+package com.berational;
+
+import static com.berational.Constants.*;
+import static com.berational.NormalDistribution.cdf;
+
+/**
+ * Analytic Black Greeks from one shared evaluation of the normalized Black functions.
+ *
+ * With x = ln(F/K), s = σ√T, d₁ = x/s + s/2 and d₂ = d₁ - s, every Greek below is a
+ * simple expression in the normalized vega
+ * ν(x, s) = (1/√(2π))·exp(-½((x/s)² + (s/2)²)) = √(F/K)·φ(d₁):
+ * - Price = √(F·K)·b(θx, s)
+ * - Delta = ∂V/∂F = θ·Φ(θd₁)
+ * - Gamma = ∂²V/∂F² = √(F·K)·ν / (F²·s)
+ * - Vega = ∂V/∂σ = √(F·K)·ν·√T
+ * - Vanna = ∂²V/∂F∂σ = -Vega·d₂ / (F·s)
+ * - Volga = ∂²V/∂σ² = Vega·d₁·d₂ / σ
+ *
+ * The exponential factor of ν is shared with the price through
+ * {@link LetsBeRational#normalisedBlackCall(double, double, double)}, so a full set
+ * costs one exponential, one price evaluation and one normal CDF.
+ *
+ * Prices are undiscounted (Black on the forward), matching {@link LetsBeRational}.
+ */
+public final class BlackGreeks {
+
+    /** Index of the price in a Greeks array. */
+    public static final int PRICE = 0;
+    /** Index of delta, ∂V/∂F. */
+    public static final int DELTA = 1;
+    /** Index of gamma, ∂²V/∂F². */
+    public static final int GAMMA = 2;
+    /** Index of vega, ∂V/∂σ. */
+    public static final int VEGA = 3;
+    /** Index of vanna, ∂²V/∂F∂σ. */
+    public static final int VANNA = 4;
+    /** Index of volga, ∂²V/∂σ². */
+    public static final int VOLGA = 5;
+    /** Number of values in a Greeks array. */
+    public static final int COUNT = 6;
+
+    /**
+     * Compute price and Greeks of one option.
+     *
+     * @param F forward price
+     * @param K strike price
+     * @param T time to expiration
+     * @param sigma volatility
+     * @param q +1 for call, -1 for put
+     * @return [price, delta, gamma, vega, vanna, volga]
+     */
+    public static double[] greeks(double F, double K, double T, double sigma, int q) {
+        double[] out = new double[COUNT];
+        greeks(F, K, T, sigma, q, out, 0);
+        return out;
+    }
+
+    /**
+     * Compute price and Greeks of one option into {@code out[offset, offset + COUNT)}.
+     *
+     * @param F forward price
+     * @param K strike price
+     * @param T time to expiration
+     * @param sigma volatility
+     * @param q +1 for call, -1 for put
+     * @param out destination, laid out as [price, delta, gamma, vega, vanna, volga]
+     * @param offset index of the price in {@code out}
+     */
+    public static void greeks(double F, double K, double T, double sigma, int q,
+                              double[] out, int offset) {
+        double x = Math.log(F / K);
+        double sqrtT = Math.sqrt(T);
+        double s = sigma * sqrtT;
+
+        if (!(s > 0)) {
+            // No time value: intrinsic price, step delta
+            out[offset + PRICE] = Math.abs(Math.max(q < 0 ? K - F : F - K, 0.0));
+            out[offset + DELTA] = q * x > 0 ? q : 0.0;
+            out[offset + GAMMA] = 0.0;
+            out[offset + VEGA] = 0.0;
+            out[offset + VANNA] = 0.0;
+            out[offset + VOLGA] = 0.0;
+            return;
+        }
+
+        double sqrtFK = Math.sqrt(F) * Math.sqrt(K);
+        double e = LetsBeRational.normalisedBlackExponentialFactor(x, s);
+        double d1 = x / s + 0.5 * s;
+        double d2 = d1 - s;
+        double vega = sqrtFK * ONE_OVER_SQRT_TWO_PI * e * sqrtT;
+
+        out[offset + PRICE] = sqrtFK * LetsBeRational.normalisedBlackCall(q < 0 ? -x : x, s, e);
+        out[offset + DELTA] = q < 0 ? -cdf(-d1) : cdf(d1);
+        out[offset + GAMMA] = vega / (F * F * sigma * T);
+        out[offset + VEGA] = vega;
+        out[offset + VANNA] = -vega * d2 / (F * s);
+        out[offset + VOLGA] = vega * d1 * d2 / sigma;
+    }
+
+    /**
+     * Compute price and Greeks for a batch of options.
+     *
+     * Output columns are filled per option exactly as by the scalar method.
+     *
+     * @param F forward prices
+     * @param K strike prices
+     * @param T times to expiration
+     * @param sigma volatilities
+     * @param q +1 for call, -1 for put
+     * @param price prices (output)
+     * @param delta deltas (output)
+     * @param gamma gammas (output)
+     * @param vega vegas (output)
+     * @param vanna vannas (output)
+     * @param volga volgas (output)
+     */
+    public static void greeks(double[] F, double[] K, double[] T, double[] sigma, int[] q,
+                              double[] price, double[] delta, double[] gamma,
+                              double[] vega, double[] vanna, double[] volga) {
+        int n = F.length;
+        if (K.length != n || T.length != n || sigma.length != n || q.length != n ||
+            price.length != n || delta.length != n || gamma.length != n ||
+            vega.length != n || vanna.length != n || volga.length != n) {
+            throw new IllegalArgumentException("All columns must have the same length");
+        }
+
+        double[] row = new double[COUNT];
+        for (int i = 0; i < n; i++) {
+            greeks(F[i], K[i], T[i], sigma[i], q[i], row, 0);
+            price[i] = row[PRICE];
+            delta[i] = row[DELTA];
+            gamma[i] = row[GAMMA];
+            vega[i] = row[VEGA];
+            vanna[i] = row[VANNA];
+            volga[i] = row[VOLGA];
+        }
+    }
+
+    // Prevent instantiation
+    private BlackGreeks() {
+        throw new AssertionError("BlackGreeks class should not be instantiated");
+    }
+}
@@ -0,0 +1,286 @@
+package com.berational;
+
+import java.util.Arrays;
+
+import static com.berational.Constants.*;
+
+/**
+ * Batch implied volatility solver that groups options by initial-guess branch.
+ *
+ * A mixed option chain sends consecutive options down different rational-guess
+ * branches and objective functions, which the branch predictor cannot anticipate.
+ * This solver works in three passes:
+ * 1. Classify: map each option to an out-of-the-money call, compute the inflection
+ *    point state and decide its branch (lower, center-left, center-right, upper)
+ *    from the b_L, b_C and b_H thresholds
+ * 2. Bucket: counting-sort the option indices by branch
+ * 3. Solve: run one branch-specialised loop per bucket, writing each result
+ *    back to its original position
+ *
+ * Each option goes through the same guess and Householder(3) iteration as
+ * {@link LetsBeRational}, so results are bit-identical to the scalar path.
+ *
+ * The per-option workspace is kept between calls and only grows, so repeated
+ * batches of similar size do not allocate. Instances are not thread-safe.
+ */
+public final class BranchBucketedSolver {
+
+    // Branch identifiers; SOLVED marks options finished during classification
+    static final byte SOLVED = 0;
+    static final byte LOWER = 1;
+    static final byte CENTRE_LEFT = 2;
+    static final byte CENTRE_RIGHT = 3;
+    static final byte UPPER = 4;
+    private static final int BRANCH_COUNT = 5;
+
+    // Per-option state after mapping to an out-of-the-money call
+    private double[] beta;
+    private double[] x;
+    private double[] bMax;
+    private double[] sC;
+    private double[] bC;
+    private double[] vC;
+    // sL and bL for the lower half, sH and bH for the upper half
+    private double[] sBracket;
+    private double[] bBracket;
+    private byte[] branch;
+    private int[] order;
+    private final int[] bucketStart = new int[BRANCH_COUNT + 1];
+
+    /**
+     * Create a solver with workspace for {@code initialCapacity} options.
+     *
+     * @param initialCapacity expected batch size
+     */
+    public BranchBucketedSolver(int initialCapacity) {
+        allocate(initialCapacity);
+    }
+
+    /**
+     * Compute Black implied volatilities for a batch of options.
+     *
+     * @param price option prices
+     * @param F forward prices
+     * @param K strike prices
+     * @param T times to expiration
+     * @param q +1 for call, -1 for put
+     * @param out implied volatilities σ (output)
+     * @throws BelowIntrinsicException if any price is below intrinsic value
+     * @throws AboveMaximumException if any price exceeds maximum possible value
+     */
+    public void impliedVolatilities(double[] price, double[] F, double[] K, double[] T,
+                                    int[] q, double[] out) {
+        int n = price.length;
+        LetsBeRationalBatch.checkColumns(price, F, K, T, q, out, 0, n);
+        ensureCapacity(n);
+
+        BatchSolveEvent event = BatchSolveEvent.start("BranchBucketedSolver", n);
+        try {
+            for (int i = 0; i < n; i++) {
+                double p = price[i];
+                int qi = q[i];
+                double intrinsic = Math.abs(Math.max(qi < 0 ? K[i] - F[i] : F[i] - K[i], 0.0));
+
+                if (p < intrinsic) {
+                    throw new BelowIntrinsicException();
+                }
+                if (p >= (qi < 0 ? K[i] : F[i])) {
+                    throw new AboveMaximumException();
+                }
+
+                double xi = Math.log(F[i] / K[i]);
+
+                // Map in-the-money to out-of-the-money
+                if (qi * xi > 0) {
+                    p = Math.abs(Math.max(p - intrinsic, 0.0));
+                    qi = -qi;
+                }
+
+                classify(i, p / (Math.sqrt(F[i]) * Math.sqrt(K[i])), xi, qi, out);
+            }
+
+            solveBuckets(n, out);
+
+            for (int i = 0; i < n; i++) {
+                out[i] /= Math.sqrt(T[i]);
+            }
+        } catch (BelowIntrinsicException | AboveMaximumException e) {
+            event.failed(e);
+            throw e;
+        } finally {
+            event.finish(null, 0, n);
+        }
+    }
+
+    /**
+     * Compute normalized implied volatilities for a batch of normalized prices.
+     *
+     * @param beta normalized prices β = price / √(F·K)
+     * @param x log-moneyness ln(F/K)
+     * @param q +1 for call, -1 for put
+     * @param out σ√T (output)
+     * @throws BelowIntrinsicException if any price is below intrinsic value
+     * @throws AboveMaximumException if any price exceeds maximum possible value
+     */
+    public void normalisedImpliedVolatilities(double[] beta, double[] x, int[] q, double[] out) {
+        int n = beta.length;
+        if (x.length != n || q.length != n || out.length != n) {
+            throw new IllegalArgumentException("All columns must have the same length");
+        }
+        ensureCapacity(n);
+
+        for (int i = 0; i < n; i++) {
+            double b = beta[i];
+            double xi = x[i];
+            int qi = q[i];
+
+            // Map in-the-money to out-of-the-money
+            if (qi * xi > 0) {
+                b -= LetsBeRational.normalisedIntrinsic(xi, qi);
+                qi = -qi;
+            }
+
+            if (b < 0) {
+                throw new BelowIntrinsicException();
+            }
+
+            classify(i, b, xi, qi, out);
+        }
+
+        solveBuckets(n, out);
+    }
+
+    /**
+     * Map option i to an out-of-the-money call and record its branch and inflection state.
+     */
+    private void classify(int i, double b, double xi, int qi, double[] out) {
+        // Subtract intrinsic and map to out-of-the-money
+        if (qi * xi > 0) {
+            b = Math.abs(Math.max(b - LetsBeRational.normalisedIntrinsic(xi, qi), 0.0));
+            qi = -qi;
+        }
+
+        // Map puts to calls
+        if (qi < 0) {
+            xi = -xi;
+        }
+
+        if (b <= 0 || b < DENORMALIZATION_CUTOFF) {
+            branch[i] = SOLVED;
+            out[i] = 0.0;
+            return;
+        }
+
+        double bm = Math.exp(0.5 * xi);
+        if (b >= bm) {
+            throw new AboveMaximumException();
+        }
+
+        // At and near the money: closed form, no branch needed
+        if (LetsBeRational.isNearTheMoney(b, xi)) {
+            branch[i] = SOLVED;
+            out[i] = LetsBeRational.nearTheMoneyVolatility(b, xi);
+            if (SolverStatistics.ENABLED) {
+                SolverStatistics.branch(SolverStatistics.AT_THE_MONEY);
+            }
+            return;
+        }
+
+        double sCi = Math.sqrt(Math.abs(2.0 * xi));
+        double bCi = LetsBeRational.normalisedBlackCall(xi, sCi);
+        double vCi = LetsBeRational.normalisedVega(xi, sCi);
+
+        beta[i] = b;
+        x[i] = xi;
+        bMax[i] = bm;
+        sC[i] = sCi;
+        bC[i] = bCi;
+        vC[i] = vCi;
+
+        if (b < bCi) {
+            double sL = sCi - bCi / vCi;
+            double bL = LetsBeRational.normalisedBlackCall(xi, sL);
+            sBracket[i] = sL;
+            bBracket[i] = bL;
+            branch[i] = b < bL ? LOWER : CENTRE_LEFT;
+        } else {
+            double sH = vCi > DBL_MIN ? sCi + (bm - bCi) / vCi : sCi;
+            double bH = LetsBeRational.normalisedBlackCall(xi, sH);
+            sBracket[i] = sH;
+            bBracket[i] = bH;
+            branch[i] = b <= bH ? CENTRE_RIGHT : UPPER;
+        }
+        if (SolverStatistics.ENABLED) {
+            SolverStatistics.branch(branch[i]);
+        }
+    }
+
+    /**
+     * Counting-sort the classified options by branch and run one loop per bucket.
+     */
+    private void solveBuckets(int n, double[] out) {
+        int[] start = bucketStart;
+        Arrays.fill(start, 0);
+        for (int i = 0; i < n; i++) {
+            start[branch[i] + 1]++;
+        }
+        for (int k = 0; k < BRANCH_COUNT; k++) {
+            start[k + 1] += start[k];
+        }
+        for (int i = 0; i < n; i++) {
+            order[start[branch[i]]++] = i;
+        }
+        // start[k] now holds the end of bucket k, which is the beginning of bucket k + 1
+        int N = IMPLIED_VOLATILITY_MAXIMUM_ITERATIONS;
+
+        for (int j = start[SOLVED]; j < start[LOWER]; j++) {
+            int i = order[j];
+            double lnBeta = Math.log(beta[i]);
+            double s = beta[i] >= DBL_MIN
+                    ? LetsBeRational.lowerBranchGuess(beta[i], x[i], sBracket[i], bBracket[i])
+                    : LetsBeRational.lowerBranchGuessFromLogPrice(lnBeta, x[i]);
+            out[i] = LetsBeRational.householderOnLowerObjective(lnBeta, x[i], s, DBL_MIN, sBracket[i], N);
+        }
+
+        for (int j = start[LOWER]; j < start[CENTRE_LEFT]; j++) {
+            int i = order[j];
+            double s = LetsBeRational.centreLeftGuess(beta[i], x[i], sBracket[i], bBracket[i], sC[i], bC[i], vC[i]);
+            out[i] = LetsBeRational.householderOnMiddleObjective(beta[i], x[i], s, sBracket[i], sC[i], N);
+        }
+
+        for (int j = start[CENTRE_LEFT]; j < start[CENTRE_RIGHT]; j++) {
+            int i = order[j];
+            double s = LetsBeRational.centreRightGuess(beta[i], x[i], sC[i], bC[i], vC[i], sBracket[i], bBracket[i]);
+            out[i] = LetsBeRational.householderOnMiddleObjective(beta[i], x[i], s, sC[i], sBracket[i], N);
+        }
+
+        for (int j = start[CENTRE_RIGHT]; j < start[UPPER]; j++) {
+            int i = order[j];
+            double s = LetsBeRational.upperBranchGuess(beta[i], x[i], bMax[i], sBracket[i], bBracket[i]);
+            if (beta[i] > 0.5 * bMax[i]) {
+                out[i] = LetsBeRational.householderOnUpperObjective(beta[i], x[i], bMax[i], s, sBracket[i], DBL_MAX, N);
+            } else {
+                out[i] = LetsBeRational.householderOnMiddleObjective(beta[i], x[i], s, sBracket[i], DBL_MAX, N);
+            }
+        }
+    }
+
+    private void ensureCapacity(int n) {
+        if (n > order.length) {
+            allocate(Math.max(n, 2 * order.length));
+        }
+    }
+
+    private void allocate(int capacity) {
+        beta = new double[capacity];
+        x = new double[capacity];
+        bMax = new double[capacity];
+        sC = new double[capacity];
+        bC = new double[capacity];
+        vC = new double[capacity];
+        sBracket = new double[capacity];
+        bBracket = new double[capacity];
+        branch = new byte[capacity];
+        order = new int[capacity];
+    }
+}
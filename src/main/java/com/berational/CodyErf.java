@@ -9,80 +9,25 @@ package com.berational;
  * - erf(x)   - Error function
  * - erfc(x)  - Complementary error function
  * - erfcx(x) - Scaled complementary error function: exp(x²) × erfc(x)
+ *
+ * Each also has an array form. With the Vector API present, the region polynomials
+ * run on lanes and only the exponential scaling stays scalar; results are
+ * bit-identical to the scalar functions.
  */
 public class CodyErf {
 
     // Machine-dependent constants for IEEE 754 double precision
     private static final double XINF = 1.79e308;      // Largest positive finite float
     private static final double XNEG = -26.628;       // Largest negative argument for erfcx
-    private static final double XSMALL = 1.11e-16;    // Threshold for erf(x) ≈ 2x/√π
+    static final double XSMALL = 1.11e-16;            // Threshold for erf(x) ≈ 2x/√π
     private static final double XBIG = 26.543;        // Largest argument for erfc
     private static final double XHUGE = 6.71e7;       // Threshold for 1 - 1/(2x²) = 1
     private static final double XMAX = 2.53e307;      // Largest acceptable argument for erfcx
 
     private static final double SQRPI = 0.56418958354775628695;  // 1/√π
-    private static final double THRESHOLD = 0.46875;              // 15/32
-
-    // Coefficients for Region 1: |x| <= 0.46875
-    // P(y) and Q(y) for erf(x) = x * P(x²) / Q(x²)
-    private static final double[] A = {
-        3.16112374387056560,
-        113.864154151050156,
-        377.485237685302021,
-        3209.37758913846947,
-        0.185777706184603153
-    };
-
-    private static final double[] B = {
-        23.6012909523441209,
-        244.024637934444173,
-        1282.61652607737228,
-        2844.23683343917062
-    };
-
-    // Coefficients for Region 2: 0.46875 < |x| <= 4.0
-    // erfc(x) = exp(-x²) × R(x)
-    private static final double[] C = {
-        0.564188496988670089,
-        8.88314979438837594,
-        66.1191906371416295,
-        298.635138197400131,
-        881.95222124176909,
-        1712.04761263407058,
-        2051.07837782607147,
-        1230.33935479799725,
-        2.15311535474403846e-8
-    };
-
-    private static final double[] D = {
-        15.7449261107098347,
-        117.693950891312499,
-        537.181101862009858,
-        1621.38957456669019,
-        3290.79923573345963,
-        4362.61909014324716,
-        3439.36767414372164,
-        1230.33935480374942
-    };
-
-    // Coefficients for Region 3: |x| > 4.0
-    // R(x) = (1/x²) × P(1/x²) / Q(1/x²)
-    private static final double[] P = {
-        0.305326634961232344,
-        0.360344899949804439,
-        0.125781726111229246,
-        0.0160837851487422766,
-        6.58749161529837803e-4,
-        0.0163153871373020978
-    };
-
-    private static final double[] Q = {
-        2.56852019228982242,
-        1.87295284992346047,
-        0.527905102951428412,
-        0.0605183413124413191,
-        0.00233520497626869185
-    };
+    static final double THRESHOLD = 0.46875;                      // 15/32
+
+    // Rational coefficients are generated from src/main/codegen/polynomials.spec into Polynomials
 
     /**
      * Core computation function for error functions.
@@ -92,8 +37,23 @@ public class CodyErf {
      * @return computed result
      */
     private static double calerf(double x, int jint) {
+        return finish(x, rational(x), jint);
+    }
+
+    /**
+     * Rational approximation of the region containing |x|, before exponential
+     * scaling and reflection:
+     * - Region 1: x·P(x²)/Q(x²)
+     * - Region 2: R(|x|)
+     * - Region 3: (1/x²)·P(1/x²)/Q(1/x²), meaningful only for 4 < |x| < min(XBIG, XHUGE)
+     *
+     * Polynomials only, so {@link VectorErfKernel} evaluates the same expressions on lanes.
+     *
+     * @param x the argument
+     * @return region-specific rational value consumed by {@link #finish}
+     */
+    static double rational(double x) {
         double y = Math.abs(x);
-        double result;
 
         // Region 1: |x| <= 0.46875
         if (y <= THRESHOLD) {
@@ -101,21 +61,43 @@ public class CodyErf {
             if (y > XSMALL) {
                 ysq = y * y;
             }
+            return x * Polynomials.codyErfRegion1Numerator(ysq) / Polynomials.codyErfRegion1Denominator(ysq);
+        }
 
-            double xnum = A[4] * ysq;
-            double xden = ysq;
+        // Region 2: 0.46875 < |x| <= 4.0
+        if (y <= 4.0) {
+            return Polynomials.codyErfRegion2Numerator(y) / Polynomials.codyErfRegion2Denominator(y);
+        }
 
-            for (int i = 0; i < 3; i++) {
-                xnum = (xnum + A[i]) * ysq;
-                xden = (xden + B[i]) * ysq;
-            }
+        // Region 3: |x| > 4.0
+        double ysq = 1.0 / (y * y);
+        return ysq * Polynomials.codyErfRegion3Numerator(ysq) / Polynomials.codyErfRegion3Denominator(ysq);
+    }
 
-            result = x * (xnum + A[3]) / (xden + B[3]);
+    /**
+     * Turn the region's rational value into erf, erfc or erfcx of x.
+     *
+     * @param x the argument
+     * @param rational {@link #rational}(x)
+     * @param jint function selector: 0 for erf, 1 for erfc, 2 for erfcx
+     * @return computed result
+     */
+    static double finish(double x, double rational, int jint) {
+        double y = Math.abs(x);
+        double result;
+
+        // Region 1: |x| <= 0.46875
+        if (y <= THRESHOLD) {
+            result = rational;
 
             if (jint != 0) {
                 result = 1.0 - result;
             }
             if (jint == 2) {
+                double ysq = 0.0;
+                if (y > XSMALL) {
+                    ysq = y * y;
+                }
                 result = Math.exp(ysq) * result;
             }
             return result;
@@ -123,15 +105,7 @@ public class CodyErf {
 
         // Region 2: 0.46875 < |x| <= 4.0
         if (y <= 4.0) {
-            double xnum = C[8] * y;
-            double xden = y;
-
-            for (int i = 0; i < 7; i++) {
-                xnum = (xnum + C[i]) * y;
-                xden = (xden + D[i]) * y;
-            }
-
-            result = (xnum + C[7]) / (xden + D[7]);
+            result = rational;
 
             if (jint != 2) {
                 // Compute exp(-x²) carefully to avoid overflow
@@ -160,17 +134,7 @@ public class CodyErf {
             } else {
                 // For very large x, use simplified asymptotic formula
                 if (y < XHUGE) {
-                    double ysq = 1.0 / (y * y);
-                    double xnum = P[5] * ysq;
-                    double xden = ysq;
-
-                    for (int i = 0; i < 4; i++) {
-                        xnum = (xnum + P[i]) * ysq;
-                        xden = (xden + Q[i]) * ysq;
-                    }
-
-                    result = ysq * (xnum + P[4]) / (xden + Q[4]);
-                    result = (SQRPI - result) / y;
+                    result = (SQRPI - rational) / y;
                 } else {
                     // When x >= XHUGE, 1/(2x²) underflows, so use asymptotic approximation
                     // erfcx(x) ≈ 1/(x√π) and erfc(x) ≈ exp(-x²)/(x√π)
@@ -246,4 +210,57 @@ public class CodyErf {
     public static double erfcx(double x) {
         return calerf(x, 2);
     }
+
+    /**
+     * Error function of every element: {@code out[i] = erf(x[i])}.
+     *
+     * @param x the arguments
+     * @param out erf(x) (output; must not be {@code x})
+     */
+    public static void erf(double[] x, double[] out) {
+        calerf(x, out, 0);
+    }
+
+    /**
+     * Complementary error function of every element: {@code out[i] = erfc(x[i])}.
+     *
+     * @param x the arguments
+     * @param out erfc(x) (output; must not be {@code x})
+     */
+    public static void erfc(double[] x, double[] out) {
+        calerf(x, out, 1);
+    }
+
+    /**
+     * Scaled complementary error function of every element: {@code out[i] = erfcx(x[i])}.
+     *
+     * @param x the arguments
+     * @param out erfcx(x) (output; must not be {@code x})
+     */
+    public static void erfcx(double[] x, double[] out) {
+        calerf(x, out, 2);
+    }
+
+    private static void calerf(double[] x, double[] out, int jint) {
+        if (out.length != x.length) {
+            throw new IllegalArgumentException("All columns must have the same length");
+        }
+        if (out == x) {
+            throw new IllegalArgumentException("Output must not alias the arguments");
+        }
+
+        // Stage 1: region polynomials into out
+        if (LetsBeRationalBatch.VECTOR_API_AVAILABLE) {
+            VectorErfKernel.rational(x, out);
+        } else {
+            for (int i = 0; i < x.length; i++) {
+                out[i] = rational(x[i]);
+            }
+        }
+
+        // Stage 2: exponential scaling and reflection
+        for (int i = 0; i < x.length; i++) {
+            out[i] = finish(x[i], out[i], jint);
+        }
+    }
 }
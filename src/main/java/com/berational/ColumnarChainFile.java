@@ -0,0 +1,291 @@
+package com.berational;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Memory-mapped binary file of option columns with output columns for the solution.
+ *
+ * Layout, little-endian, for n rows:
+ * - Header of {@value #HEADER_BYTES} bytes: the magic {@code "LBRCHAIN"}, the int
+ *   version {@value #VERSION}, 4 reserved bytes and the long row count n; the rest is zero
+ * - Input columns of n doubles each: forward F, strike K, expiry T and price
+ * - Input column of n ints: +1 for call, -1 for put, padded to 8 bytes
+ * - Output columns: n doubles of implied volatility σ and n status bytes, with the codes
+ *   of {@link LetsBeRationalBatch}
+ *
+ * Every column is mapped on its own with {@link FileChannel#map}, which takes at most
+ * {@link Integer#MAX_VALUE} bytes, so a file holds at most {@link #MAXIMUM_ROWS} rows,
+ * 2^28 - 1, the most for which a double column fits in one mapping. {@link #solve} runs the batch
+ * kernel over the mapped columns and writes σ and the status straight into the output
+ * mappings; the inputs are never parsed or turned into objects, only moved 4096 rows at a
+ * time into cache-resident arrays for the kernel with one bulk copy per column.
+ *
+ * {@link #convertCsv} writes a file from CSV with a header naming the columns
+ * {@code F}, {@code K}, {@code T}, {@code price} and {@code q} in any order.
+ *
+ * Instances are not thread-safe. The mappings stay valid until garbage collected, even
+ * after {@link #close()}.
+ */
+public final class ColumnarChainFile implements AutoCloseable {
+
+    /** "LBRCHAIN" as a little-endian long. */
+    public static final long MAGIC = 0x4E49414843524C42L;
+    /** Current format version. */
+    public static final int VERSION = 1;
+    /** Size of the header; the first column starts here. */
+    public static final int HEADER_BYTES = 64;
+    /** Largest row count a file may hold: a double column of this many rows fits in one mapping. */
+    public static final int MAXIMUM_ROWS = Integer.MAX_VALUE / Double.BYTES;
+
+    // Rows solved per kernel call: 4096 rows of the staged columns take about 200 KB
+    private static final int CHUNK = 4096;
+
+    private final FileChannel channel;
+    private final int rows;
+    private final DoubleBuffer F;
+    private final DoubleBuffer K;
+    private final DoubleBuffer T;
+    private final DoubleBuffer price;
+    private final IntBuffer q;
+    private final MappedByteBuffer volatilityMapping;
+    private final DoubleBuffer volatility;
+    private final MappedByteBuffer status;
+
+    private ColumnarChainFile(FileChannel channel, int rows, boolean writable) throws IOException {
+        this.channel = channel;
+        this.rows = rows;
+        FileChannel.MapMode input = writable ? FileChannel.MapMode.READ_WRITE : FileChannel.MapMode.READ_ONLY;
+        long offset = HEADER_BYTES;
+        F = map(input, offset, 8L * rows).asDoubleBuffer();
+        offset += 8L * rows;
+        K = map(input, offset, 8L * rows).asDoubleBuffer();
+        offset += 8L * rows;
+        T = map(input, offset, 8L * rows).asDoubleBuffer();
+        offset += 8L * rows;
+        price = map(input, offset, 8L * rows).asDoubleBuffer();
+        offset += 8L * rows;
+        q = map(input, offset, 4L * rows).asIntBuffer();
+        offset += (4L * rows + 7) & ~7L;
+        volatilityMapping = map(FileChannel.MapMode.READ_WRITE, offset, 8L * rows);
+        volatility = volatilityMapping.asDoubleBuffer();
+        offset += 8L * rows;
+        status = map(FileChannel.MapMode.READ_WRITE, offset, rows);
+    }
+
+    private MappedByteBuffer map(FileChannel.MapMode mode, long offset, long size) throws IOException {
+        MappedByteBuffer buffer = channel.map(mode, offset, size);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return buffer;
+    }
+
+    /**
+     * File size for a row count.
+     *
+     * @param rows number of options
+     * @return size in bytes
+     */
+    public static long fileSize(int rows) {
+        return HEADER_BYTES + 32L * rows + ((4L * rows + 7) & ~7L) + 8L * rows + rows;
+    }
+
+    /**
+     * Create a file of zeroed columns, replacing any existing file, for the caller to fill.
+     *
+     * @param path file to create
+     * @param rows number of options
+     * @return the file, with all columns writable
+     * @throws IOException if the file cannot be created
+     */
+    public static ColumnarChainFile create(Path path, int rows) throws IOException {
+        if (rows < 0 || rows > MAXIMUM_ROWS) {
+            throw new IllegalArgumentException("Row count must be between 0 and " + MAXIMUM_ROWS);
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                                               StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putLong(MAGIC).putInt(VERSION).putInt(0).putLong(rows).rewind();
+            channel.write(header, 0);
+            // Extend the file to its full size; the gap reads as zeros
+            channel.write(ByteBuffer.allocate(1), fileSize(rows) - 1);
+            return new ColumnarChainFile(channel, rows, true);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Open an existing file; the input columns are read-only, the output columns writable.
+     *
+     * @param path file to open
+     * @return the file
+     * @throws IOException if the file cannot be read or is not in this format
+     */
+    public static ColumnarChainFile open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            if (channel.read(header, 0) != HEADER_BYTES || header.getLong(0) != MAGIC) {
+                throw new IOException("Not an option chain file: " + path);
+            }
+            if (header.getInt(8) != VERSION) {
+                throw new IOException("Unsupported option chain file version " + header.getInt(8) + ": " + path);
+            }
+            long rows = header.getLong(16);
+            if (rows < 0 || rows > MAXIMUM_ROWS || channel.size() < fileSize((int) rows)) {
+                throw new IOException("Truncated option chain file: " + path);
+            }
+            return new ColumnarChainFile(channel, (int) rows, false);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Write a file from CSV text.
+     *
+     * The first line names the columns; F, K, T, price and q must be among them, other
+     * columns are skipped. Blank lines are ignored. The CSV is read twice by
+     * {@link CsvChainReader}, once to count the rows and once to write them.
+     *
+     * @param csv CSV file to read
+     * @param path file to write, replacing any existing file
+     * @return number of rows written
+     * @throws IOException if a file cannot be read or written, or the CSV is malformed
+     */
+    public static int convertCsv(Path csv, Path path) throws IOException {
+        long lines;
+        try (CsvChainReader reader = new CsvChainReader(csv, CHUNK)) {
+            while (reader.next() > 0) {
+                if (reader.rowsRead() > MAXIMUM_ROWS) {
+                    throw new IOException("More than " + MAXIMUM_ROWS + " rows: " + csv);
+                }
+            }
+            lines = reader.rowsRead();
+        }
+
+        try (CsvChainReader reader = new CsvChainReader(csv, CHUNK);
+             ColumnarChainFile file = create(path, (int) lines)) {
+            int row = 0;
+            for (int n; row < lines && (n = reader.next()) > 0; row += n) {
+                n = Math.min(n, (int) lines - row);
+                file.F.put(row, reader.forward(), 0, n);
+                file.K.put(row, reader.strike(), 0, n);
+                file.T.put(row, reader.expiry(), 0, n);
+                file.price.put(row, reader.price(), 0, n);
+                file.q.put(row, reader.optionType(), 0, n);
+            }
+            return row;
+        }
+    }
+
+    /**
+     * Solve every row, writing σ and the status into the output columns.
+     *
+     * Never throws for invalid prices; see {@link LetsBeRationalBatch} for the signal
+     * values and status codes.
+     */
+    public void solve() {
+        int n = Math.min(CHUNK, rows);
+        double[] f = new double[n];
+        double[] k = new double[n];
+        double[] t = new double[n];
+        double[] p = new double[n];
+        int[] type = new int[n];
+        double[] out = new double[n];
+        byte[] s = new byte[n];
+
+        for (int from = 0; from < rows; from += CHUNK) {
+            int m = Math.min(CHUNK, rows - from);
+            F.get(from, f, 0, m);
+            K.get(from, k, 0, m);
+            T.get(from, t, 0, m);
+            price.get(from, p, 0, m);
+            q.get(from, type, 0, m);
+            LetsBeRationalBatch.solve(p, f, k, t, type, out, s, 0, m);
+            volatility.put(from, out, 0, m);
+            status.put(from, s, 0, m);
+        }
+    }
+
+    /**
+     * Write changes to the output columns through to the storage device.
+     */
+    public void force() {
+        volatilityMapping.force();
+        status.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * @return number of options
+     */
+    public int rows() {
+        return rows;
+    }
+
+    // Column views share the mappings; the input columns are read-only in an opened file
+
+    /**
+     * @return forward column
+     */
+    public DoubleBuffer forward() {
+        return F.duplicate();
+    }
+
+    /**
+     * @return strike column
+     */
+    public DoubleBuffer strike() {
+        return K.duplicate();
+    }
+
+    /**
+     * @return expiry column
+     */
+    public DoubleBuffer expiry() {
+        return T.duplicate();
+    }
+
+    /**
+     * @return price column
+     */
+    public DoubleBuffer price() {
+        return price.duplicate();
+    }
+
+    /**
+     * @return call/put column, +1 for call and -1 for put
+     */
+    public IntBuffer optionType() {
+        return q.duplicate();
+    }
+
+    /**
+     * @return implied volatility column, filled by {@link #solve}
+     */
+    public DoubleBuffer volatility() {
+        return volatility.duplicate();
+    }
+
+    /**
+     * @return status column, filled by {@link #solve}
+     */
+    public ByteBuffer status() {
+        return status.duplicate();
+    }
+}
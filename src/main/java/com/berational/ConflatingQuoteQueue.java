@@ -0,0 +1,169 @@
+package com.berational;
+
+import java.util.Arrays;
+
+/**
+ * Latest quote per instrument, solved as one deduplicated batch.
+ *
+ * During a burst, an instrument may be quoted several times before the solver gets to
+ * it, and only the newest quote's volatility is wanted. {@link #put} overwrites the
+ * pending quote of an instrument that already has one and appends a new instrument to
+ * the batch; {@link #solve} runs the batch kernel over the pending quotes, publishes the
+ * results in the order the instruments first arrived and empties the queue.
+ *
+ * Instruments are found through a primitive open-addressing map from the integer
+ * instrument id to the batch slot, with linear probing over twice the capacity. Entries
+ * are only ever removed all at once, by clearing the buckets the pending slots occupy,
+ * so no tombstones are needed. Nothing is allocated after construction.
+ *
+ * Instances are not thread-safe; the queue is meant to be owned by the solving thread,
+ * which reads the raw quotes from the feed into it between solves.
+ */
+public final class ConflatingQuoteQueue {
+
+    /**
+     * Receiver of solved quotes.
+     */
+    @FunctionalInterface
+    public interface Publisher {
+
+        /**
+         * @param instrument instrument id
+         * @param tag tag of the newest quote of the instrument
+         * @param volatility implied volatility σ, or a signal value of {@link Constants}
+         * @param status {@link LetsBeRationalBatch#STATUS_OK},
+         *               {@link LetsBeRationalBatch#STATUS_BELOW_INTRINSIC} or
+         *               {@link LetsBeRationalBatch#STATUS_ABOVE_MAXIMUM}
+         */
+        void publish(int instrument, long tag, double volatility, byte status);
+    }
+
+    private static final int EMPTY = -1;
+
+    // Open-addressing map: instrument id and batch slot per bucket
+    private final int[] keys;
+    private final int[] slots;
+    private final int shift;
+
+    // Pending batch, in first-arrival order
+    private final int[] instrument;
+    private final int[] bucket;
+    private final long[] tag;
+    private final double[] price;
+    private final double[] F;
+    private final double[] K;
+    private final double[] T;
+    private final int[] q;
+    private final double[] out;
+    private final byte[] status;
+    private int size;
+
+    private long received;
+    private long conflated;
+
+    /**
+     * Create an empty queue.
+     *
+     * @param capacity most distinct instruments pending at once
+     */
+    public ConflatingQuoteQueue(int capacity) {
+        if (capacity <= 0 || capacity > 1 << 29) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^29");
+        }
+        int buckets = Integer.highestOneBit(2 * capacity - 1) << 1;
+        keys = new int[buckets];
+        slots = new int[buckets];
+        Arrays.fill(slots, EMPTY);
+        shift = Integer.numberOfLeadingZeros(buckets - 1);
+
+        instrument = new int[capacity];
+        bucket = new int[capacity];
+        tag = new long[capacity];
+        price = new double[capacity];
+        F = new double[capacity];
+        K = new double[capacity];
+        T = new double[capacity];
+        q = new int[capacity];
+        out = new double[capacity];
+        status = new byte[capacity];
+    }
+
+    /**
+     * Record a quote, replacing any pending quote of the same instrument.
+     *
+     * @param instrument instrument id
+     * @param tag opaque value handed back with the result, e.g. a quote id or receive time
+     * @param price option price
+     * @param F forward price
+     * @param K strike price
+     * @param T time to expiration
+     * @param q +1 for call, -1 for put
+     * @return false, without recording, if the instrument is new and the queue is full
+     */
+    public boolean put(int instrument, long tag, double price, double F, double K, double T, int q) {
+        int mask = keys.length - 1;
+        int b = (instrument * 0x9E3779B9) >>> shift;
+        int slot;
+        while ((slot = slots[b]) != EMPTY && keys[b] != instrument) {
+            b = (b + 1) & mask;
+        }
+        if (slot == EMPTY) {
+            if (size == this.instrument.length) {
+                return false;
+            }
+            slot = size++;
+            keys[b] = instrument;
+            slots[b] = slot;
+            this.instrument[slot] = instrument;
+            bucket[slot] = b;
+        } else {
+            conflated++;
+        }
+        received++;
+        this.tag[slot] = tag;
+        this.price[slot] = price;
+        this.F[slot] = F;
+        this.K[slot] = K;
+        this.T[slot] = T;
+        this.q[slot] = q;
+        return true;
+    }
+
+    /**
+     * Solve and publish the pending quotes, then empty the queue.
+     *
+     * @param publisher receiver of the results
+     * @return number of quotes solved
+     */
+    public int solve(Publisher publisher) {
+        int n = size;
+        LetsBeRationalBatch.solve(price, F, K, T, q, out, status, 0, n);
+        for (int i = 0; i < n; i++) {
+            publisher.publish(instrument[i], tag[i], out[i], status[i]);
+            slots[bucket[i]] = EMPTY;
+        }
+        size = 0;
+        return n;
+    }
+
+    /**
+     * @return number of instruments with a pending quote
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return quotes accepted by {@link #put} since construction
+     */
+    public long received() {
+        return received;
+    }
+
+    /**
+     * @return quotes that replaced a pending quote of the same instrument since construction
+     */
+    public long conflated() {
+        return conflated;
+    }
+}
@@ -46,6 +46,12 @@ public class Constants {
     public static final double ASYMPTOTIC_EXPANSION_ACCURACY_THRESHOLD = -10.0;
     public static final double SMALL_T_EXPANSION_OF_NORMALIZED_BLACK_THRESHOLD = 2.0 * SIXTEENTH_ROOT_DBL_EPSILON;
 
+    // Largest |x|/β inverted in closed form to first order in x; see LetsBeRational.isNearTheMoney
+    public static final double NEAR_THE_MONEY_MAXIMUM_RELATIVE_LOG_MONEYNESS = SQRT_DBL_EPSILON;
+
+    // Warm start: largest first Newton step, relative to the previous σ√T, that skips the rational guess
+    public static final double WARM_START_MAXIMUM_RELATIVE_STEP = 0.05;
+
     // Prevent instantiation
     private Constants() {
         throw new AssertionError("Constants class should not be instantiated");
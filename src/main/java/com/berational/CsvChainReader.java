@@ -0,0 +1,341 @@
+package com.berational;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streaming reader of CSV option chains into reused primitive columns.
+ *
+ * The first line names the columns; F, K, T, price and q must be among them, in any
+ * order, and other columns are skipped. Each {@link #next()} fills the columns with up
+ * to {@code chunkRows} rows, ready for the batch solver:
+ *
+ * <pre>{@code
+ * try (CsvChainReader reader = new CsvChainReader(Path.of("chain.csv"), 4096)) {
+ *     for (int n; (n = reader.next()) > 0; ) {
+ *         LetsBeRationalBatch.impliedVolatilities(reader.price(), reader.forward(), reader.strike(),
+ *                                                 reader.expiry(), reader.optionType(), out, status, 0, n);
+ *     }
+ * }
+ * }</pre>
+ *
+ * The file is read through a {@link FileChannel} into one byte buffer and numbers are
+ * parsed in place from its bytes, so memory use is the buffer plus the columns whatever
+ * the size of the file, and no {@code String} is created per line or per field. Fields
+ * may be padded with spaces or enclosed in double quotes; quoted commas do not separate
+ * fields. Lines end with LF or CRLF, and blank lines are ignored. A line must fit in the
+ * buffer.
+ *
+ * Instances are not thread-safe.
+ */
+public final class CsvChainReader implements AutoCloseable {
+
+    /** Size of the read buffer unless given. */
+    public static final int DEFAULT_BUFFER_BYTES = 1 << 20;
+
+    private static final String[] REQUIRED = {"F", "K", "T", "price", "q"};
+    private static final int FORWARD = 0;
+    private static final int STRIKE = 1;
+    private static final int EXPIRY = 2;
+    private static final int OPTION_TYPE = 4;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final byte[] bytes;
+    private final ByteBuffer buffer;
+    private final int[] roles;
+
+    private final double[] forward;
+    private final double[] strike;
+    private final double[] expiry;
+    private final double[] price;
+    private final int[] optionType;
+
+    // Unread bytes are bytes[position, limit)
+    private int position;
+    private int limit;
+    private boolean endOfFile;
+    // Current line is bytes[lineStart, lineEnd), without its line ending
+    private int lineStart;
+    private int lineEnd;
+    private long lineNumber;
+    private long rowsRead;
+
+    /**
+     * Open a CSV file with a read buffer of {@value #DEFAULT_BUFFER_BYTES} bytes and read its header.
+     *
+     * @param csv CSV file to read
+     * @param chunkRows most rows returned by one {@link #next()}
+     * @throws IOException if the file cannot be read or the header lacks a required column
+     */
+    public CsvChainReader(Path csv, int chunkRows) throws IOException {
+        this(csv, chunkRows, DEFAULT_BUFFER_BYTES);
+    }
+
+    /**
+     * Open a CSV file and read its header.
+     *
+     * @param csv CSV file to read
+     * @param chunkRows most rows returned by one {@link #next()}
+     * @param bufferBytes size of the read buffer, which bounds the length of a line
+     * @throws IOException if the file cannot be read or the header lacks a required column
+     */
+    public CsvChainReader(Path csv, int chunkRows, int bufferBytes) throws IOException {
+        if (chunkRows <= 0 || bufferBytes <= 0) {
+            throw new IllegalArgumentException("Chunk rows and buffer size must be positive");
+        }
+        path = csv;
+        bytes = new byte[bufferBytes];
+        buffer = ByteBuffer.wrap(bytes);
+        forward = new double[chunkRows];
+        strike = new double[chunkRows];
+        expiry = new double[chunkRows];
+        price = new double[chunkRows];
+        optionType = new int[chunkRows];
+        channel = FileChannel.open(csv, StandardOpenOption.READ);
+        try {
+            roles = readHeader();
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Map each column of the header to the index of its required name, or -1 to skip it.
+     * A repeated name takes the last of its columns.
+     */
+    private int[] readHeader() throws IOException {
+        if (!nextLine()) {
+            throw new IOException("Missing header: " + path);
+        }
+        String[] names = new String(bytes, lineStart, lineEnd - lineStart, StandardCharsets.US_ASCII).split(",", -1);
+        int[] roles = new int[names.length];
+        int[] column = {-1, -1, -1, -1, -1};
+        for (int c = 0; c < names.length; c++) {
+            roles[c] = -1;
+            String name = names[c].trim();
+            if (name.length() >= 2 && name.startsWith("\"") && name.endsWith("\"")) {
+                name = name.substring(1, name.length() - 1).trim();
+            }
+            for (int r = 0; r < REQUIRED.length; r++) {
+                if (name.equals(REQUIRED[r])) {
+                    if (column[r] >= 0) {
+                        roles[column[r]] = -1;
+                    }
+                    column[r] = c;
+                    roles[c] = r;
+                }
+            }
+        }
+        for (int r = 0; r < REQUIRED.length; r++) {
+            if (column[r] < 0) {
+                throw new IOException("Missing column " + REQUIRED[r] + ": " + path);
+            }
+        }
+        return roles;
+    }
+
+    /**
+     * Read the next chunk of rows into the columns, overwriting the previous chunk.
+     *
+     * @return number of rows read, from 0 at the end of the file to {@code chunkRows}
+     * @throws IOException if the file cannot be read or a line is malformed
+     */
+    public int next() throws IOException {
+        int rows = 0;
+        while (rows < price.length && nextLine()) {
+            if (!isBlank()) {
+                parseRow(rows++);
+            }
+        }
+        rowsRead += rows;
+        return rows;
+    }
+
+    /**
+     * Advance to the next line, reading more of the file as needed.
+     *
+     * @return false at the end of the file
+     */
+    private boolean nextLine() throws IOException {
+        int i = position;
+        while (true) {
+            while (i < limit && bytes[i] != '\n') {
+                i++;
+            }
+            if (i < limit) {
+                lineStart = position;
+                lineEnd = i;
+                position = i + 1;
+                break;
+            }
+            if (endOfFile) {
+                if (position == limit) {
+                    return false;
+                }
+                // Last line without a line ending
+                lineStart = position;
+                lineEnd = limit;
+                position = limit;
+                break;
+            }
+            int scanned = i - position;
+            fill();
+            i = position + scanned;
+        }
+        if (lineEnd > lineStart && bytes[lineEnd - 1] == '\r') {
+            lineEnd--;
+        }
+        lineNumber++;
+        return true;
+    }
+
+    /**
+     * Move the unread bytes to the start of the buffer and read from the file after them.
+     */
+    private void fill() throws IOException {
+        int unread = limit - position;
+        if (position > 0) {
+            System.arraycopy(bytes, position, bytes, 0, unread);
+            position = 0;
+            limit = unread;
+        }
+        if (limit == bytes.length) {
+            throw new IOException("Line " + (lineNumber + 1) + " is longer than the buffer of " +
+                                  bytes.length + " bytes: " + path);
+        }
+        buffer.limit(bytes.length).position(limit);
+        int read = channel.read(buffer);
+        if (read < 0) {
+            endOfFile = true;
+        } else {
+            limit += read;
+        }
+    }
+
+    private boolean isBlank() {
+        for (int i = lineStart; i < lineEnd; i++) {
+            if (bytes[i] > ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void parseRow(int row) throws IOException {
+        int found = 0;
+        int column = 0;
+        int i = lineStart;
+        while (true) {
+            int start = i;
+            boolean quoted = false;
+            while (i < lineEnd && (quoted || bytes[i] != ',')) {
+                if (bytes[i] == '"') {
+                    quoted = !quoted;
+                }
+                i++;
+            }
+            if (column < roles.length && roles[column] >= 0) {
+                parseField(roles[column], row, start, i);
+                found++;
+            }
+            if (i == lineEnd) {
+                break;
+            }
+            i++;
+            column++;
+        }
+        if (found != REQUIRED.length) {
+            throw malformed(null);
+        }
+    }
+
+    private void parseField(int role, int row, int from, int to) throws IOException {
+        while (from < to && bytes[from] <= ' ') {
+            from++;
+        }
+        while (to > from && bytes[to - 1] <= ' ') {
+            to--;
+        }
+        if (to - from >= 2 && bytes[from] == '"' && bytes[to - 1] == '"') {
+            from++;
+            to--;
+        }
+        try {
+            if (role == OPTION_TYPE) {
+                optionType[row] = DecimalParser.parseInt(bytes, from, to);
+                return;
+            }
+            double value = DecimalParser.parseDouble(bytes, from, to);
+            if (role == FORWARD) {
+                forward[row] = value;
+            } else if (role == STRIKE) {
+                strike[row] = value;
+            } else if (role == EXPIRY) {
+                expiry[row] = value;
+            } else {
+                price[row] = value;
+            }
+        } catch (NumberFormatException e) {
+            throw malformed(e);
+        }
+    }
+
+    private IOException malformed(Throwable cause) {
+        return new IOException("Malformed line " + lineNumber + ": " + path, cause);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * @return rows returned by {@link #next()} so far
+     */
+    public long rowsRead() {
+        return rowsRead;
+    }
+
+    // Columns are reused by every call of next(); only the first rows it returned are valid
+
+    /**
+     * @return forward column
+     */
+    public double[] forward() {
+        return forward;
+    }
+
+    /**
+     * @return strike column
+     */
+    public double[] strike() {
+        return strike;
+    }
+
+    /**
+     * @return expiry column
+     */
+    public double[] expiry() {
+        return expiry;
+    }
+
+    /**
+     * @return price column
+     */
+    public double[] price() {
+        return price;
+    }
+
+    /**
+     * @return call/put column, +1 for call and -1 for put
+     */
+    public int[] optionType() {
+        return optionType;
+    }
+}
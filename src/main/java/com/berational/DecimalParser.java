@@ -0,0 +1,252 @@
+package com.berational;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Correctly rounded parsing of ASCII decimal numbers straight from a byte array.
+ *
+ * Doubles take the Eisel-Lemire path: up to 19 significant digits are accumulated into
+ * a long w, and w·10^q is rounded to the nearest double with one or two 64×128-bit
+ * multiplications by a truncated power of five. Longer mantissas, and the rare products
+ * the algorithm cannot round with certainty, fall back to {@link Double#parseDouble},
+ * which is the only path that allocates. Results are bit-identical to
+ * {@link Double#parseDouble} for every input both accept.
+ *
+ * See D. Lemire, "Number Parsing at a Gigabyte per Second", Software: Practice and
+ * Experience 51(8), 2021.
+ */
+final class DecimalParser {
+
+    private static final int SMALLEST_POWER_OF_FIVE = -342;
+    private static final int LARGEST_POWER_OF_FIVE = 308;
+    private static final int MANTISSA_BITS = 52;
+    private static final int MAXIMUM_DIGITS = 19;
+
+    /**
+     * 5^q for q from -342 to 308, normalized to 128 bits with the top bit set: truncated
+     * for q ≥ 0, rounded up for q < 0. High and low 64 bits at 2(q + 342) and 2(q + 342) + 1.
+     */
+    private static final long[] POWERS_OF_FIVE = powersOfFive();
+
+    private static long[] powersOfFive() {
+        long[] table = new long[2 * (LARGEST_POWER_OF_FIVE - SMALLEST_POWER_OF_FIVE + 1)];
+        BigInteger two128 = BigInteger.ONE.shiftLeft(128);
+        for (int q = SMALLEST_POWER_OF_FIVE; q <= LARGEST_POWER_OF_FIVE; q++) {
+            BigInteger c;
+            if (q >= 0) {
+                c = BigInteger.valueOf(5).pow(q);
+                int bits = c.bitLength();
+                c = bits > 128 ? c.shiftRight(bits - 128) : c.shiftLeft(128 - bits);
+            } else {
+                BigInteger power5 = BigInteger.valueOf(5).pow(-q);
+                int z = power5.subtract(BigInteger.ONE).bitLength();
+                int b = q >= -27 ? z + 127 : 2 * z + 128;
+                c = BigInteger.ONE.shiftLeft(b).divide(power5).add(BigInteger.ONE);
+                while (c.compareTo(two128) >= 0) {
+                    c = c.shiftRight(1);
+                }
+            }
+            int i = 2 * (q - SMALLEST_POWER_OF_FIVE);
+            table[i] = c.shiftRight(64).longValue();
+            table[i + 1] = c.longValue();
+        }
+        return table;
+    }
+
+    /**
+     * Parse a decimal number such as {@code -12.5}, {@code 3e-7} or {@code .25}.
+     *
+     * @param b bytes holding the number
+     * @param from first byte (inclusive)
+     * @param to last byte (exclusive)
+     * @return the nearest double
+     * @throws NumberFormatException if the bytes are not a decimal number
+     */
+    static double parseDouble(byte[] b, int from, int to) {
+        int i = from;
+        boolean negative = false;
+        if (i < to && (b[i] == '-' || b[i] == '+')) {
+            negative = b[i] == '-';
+            i++;
+        }
+
+        long w = 0;
+        int digits = 0;
+        int exponent = 0;
+        boolean any = false;
+        // Skip leading zeros so that they do not count towards the 19 digits
+        while (i < to && b[i] == '0') {
+            i++;
+            any = true;
+        }
+        while (i < to && isDigit(b[i])) {
+            if (digits < MAXIMUM_DIGITS) {
+                w = 10 * w + (b[i] - '0');
+            }
+            digits++;
+            i++;
+            any = true;
+        }
+        if (i < to && b[i] == '.') {
+            i++;
+            if (digits == 0) {
+                while (i < to && b[i] == '0') {
+                    exponent--;
+                    i++;
+                    any = true;
+                }
+            }
+            while (i < to && isDigit(b[i])) {
+                if (digits < MAXIMUM_DIGITS) {
+                    w = 10 * w + (b[i] - '0');
+                    exponent--;
+                }
+                digits++;
+                i++;
+                any = true;
+            }
+        }
+        if (!any) {
+            throw new NumberFormatException("Not a number: " + text(b, from, to));
+        }
+        if (i < to && (b[i] == 'e' || b[i] == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < to && (b[i] == '-' || b[i] == '+')) {
+                negativeExponent = b[i] == '-';
+                i++;
+            }
+            if (i == to) {
+                throw new NumberFormatException("Not a number: " + text(b, from, to));
+            }
+            int e = 0;
+            while (i < to && isDigit(b[i])) {
+                // Saturate: anything this large is zero or infinite
+                e = Math.min(10 * e + (b[i] - '0'), 100_000);
+                i++;
+            }
+            exponent += negativeExponent ? -e : e;
+        }
+        if (i != to) {
+            throw new NumberFormatException("Not a number: " + text(b, from, to));
+        }
+
+        if (digits > MAXIMUM_DIGITS) {
+            return Double.parseDouble(text(b, from, to));
+        }
+        long bits = eiselLemire(w, exponent);
+        if (bits < 0) {
+            return Double.parseDouble(text(b, from, to));
+        }
+        double value = Double.longBitsToDouble(bits);
+        return negative ? -value : value;
+    }
+
+    /**
+     * Bits of the double nearest w·10^q, or -1 if the product cannot be rounded with certainty.
+     */
+    private static long eiselLemire(long w, int q) {
+        if (w == 0 || q < SMALLEST_POWER_OF_FIVE) {
+            return 0L;
+        }
+        if (q > LARGEST_POWER_OF_FIVE) {
+            return Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+        }
+
+        int lz = Long.numberOfLeadingZeros(w);
+        w <<= lz;
+
+        // 128-bit product of w and 5^q, to 55 significant bits
+        int index = 2 * (q - SMALLEST_POWER_OF_FIVE);
+        long hi = Math.unsignedMultiplyHigh(w, POWERS_OF_FIVE[index]);
+        long lo = w * POWERS_OF_FIVE[index];
+        long precisionMask = -1L >>> (MANTISSA_BITS + 3);
+        if ((hi & precisionMask) == precisionMask) {
+            long secondHi = Math.unsignedMultiplyHigh(w, POWERS_OF_FIVE[index + 1]);
+            lo += secondHi;
+            if (Long.compareUnsigned(secondHi, lo) > 0) {
+                hi++;
+            }
+        }
+        if (lo == -1L && (q < -27 || q > 55)) {
+            return -1L;
+        }
+
+        int upperBit = (int) (hi >>> 63);
+        long mantissa = hi >>> (upperBit + 64 - MANTISSA_BITS - 3);
+        // Binary exponent, biased: floor(q·log2(10)) + 63 + upperBit - lz + 1023
+        int power2 = ((217706 * q) >> 16) + 63 + upperBit - lz + 1023;
+
+        if (power2 <= 0) {
+            // Subnormal or zero
+            if (-power2 + 1 >= 64) {
+                return 0L;
+            }
+            mantissa >>>= -power2 + 1;
+            mantissa += mantissa & 1;
+            mantissa >>>= 1;
+            power2 = mantissa < (1L << MANTISSA_BITS) ? 0 : 1;
+            return mantissa & ((1L << MANTISSA_BITS) - 1) | (long) power2 << MANTISSA_BITS;
+        }
+
+        // Exactly halfway between two doubles: round to even
+        if (Long.compareUnsigned(lo, 1) <= 0 && q >= -4 && q <= 23 && (mantissa & 3) == 1
+            && mantissa << (upperBit + 64 - MANTISSA_BITS - 3) == hi) {
+            mantissa &= ~1L;
+        }
+        mantissa += mantissa & 1;
+        mantissa >>>= 1;
+        if (mantissa >= (2L << MANTISSA_BITS)) {
+            mantissa = 1L << MANTISSA_BITS;
+            power2++;
+        }
+        mantissa &= ~(1L << MANTISSA_BITS);
+        if (power2 >= 0x7FF) {
+            return Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+        }
+        return mantissa | (long) power2 << MANTISSA_BITS;
+    }
+
+    /**
+     * Parse a decimal integer such as {@code -1} or {@code +1}.
+     *
+     * @throws NumberFormatException if the bytes are not an int
+     */
+    static int parseInt(byte[] b, int from, int to) {
+        int i = from;
+        boolean negative = false;
+        if (i < to && (b[i] == '-' || b[i] == '+')) {
+            negative = b[i] == '-';
+            i++;
+        }
+        if (i == to || to - i > 10) {
+            throw new NumberFormatException("Not an int: " + text(b, from, to));
+        }
+        long value = 0;
+        for (; i < to; i++) {
+            if (!isDigit(b[i])) {
+                throw new NumberFormatException("Not an int: " + text(b, from, to));
+            }
+            value = 10 * value + (b[i] - '0');
+        }
+        value = negative ? -value : value;
+        if (value != (int) value) {
+            throw new NumberFormatException("Not an int: " + text(b, from, to));
+        }
+        return (int) value;
+    }
+
+    private static boolean isDigit(byte c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static String text(byte[] b, int from, int to) {
+        return new String(b, from, to - from, StandardCharsets.US_ASCII);
+    }
+
+    // Prevent instantiation
+    private DecimalParser() {
+        throw new AssertionError("DecimalParser class should not be instantiated");
+    }
+}
@@ -0,0 +1,105 @@
+package com.berational;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Log-bucketed histogram of latencies in nanoseconds with percentile queries.
+ *
+ * Each power of two is split into 16 linear sub-buckets, so a value is reported to
+ * within 1/16 (6.25%) of itself; values below 16 ns are exact. 960 buckets cover
+ * the whole non-negative {@code long} range, so recording never resizes.
+ *
+ * {@link #record} is thread-safe and allocation-free: one atomic increment of a
+ * preallocated counter. Queries scan all buckets and are meant for reporting, not for
+ * the hot path. Percentiles are read from counts that concurrent recording may still
+ * be changing.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    /**
+     * Record one latency.
+     *
+     * @param nanos latency in nanoseconds; negative values are recorded as zero
+     */
+    public void record(long nanos) {
+        counts.incrementAndGet(bucketOf(Math.max(nanos, 0L)));
+    }
+
+    /**
+     * @return number of recorded latencies
+     */
+    public long count() {
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            count += counts.get(i);
+        }
+        return count;
+    }
+
+    /**
+     * Latency at a percentile, e.g. 99.9 for p99.9.
+     *
+     * @param percentile percentile in [0, 100]
+     * @return upper end of the bucket holding that rank, or 0 if nothing was recorded
+     */
+    public long valueAtPercentile(double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Percentile must be in [0, 100]: " + percentile);
+        }
+        long count = count();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return highestValueOf(i);
+            }
+        }
+        // Recording raced with the scan past the last non-empty bucket
+        return valueAtPercentile(100.0);
+    }
+
+    /**
+     * Discard all recorded latencies.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+    }
+
+    /**
+     * Bucket of a non-negative value: exact below 16, otherwise the leading five bits
+     * select one of 16 sub-buckets of the value's power of two.
+     */
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    /**
+     * Largest value that falls into a bucket.
+     */
+    static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long leading = SUB_BUCKETS + bucket % SUB_BUCKETS;
+        long next = (leading + 1) << shift;
+        // The top bucket ends at Long.MAX_VALUE, where next wraps around
+        return next > 0 ? next - 1 : Long.MAX_VALUE;
+    }
+}
@@ -3,7 +3,6 @@ package com.berational;
 import static com.berational.Constants.*;
 import static com.berational.RationalCubic.*;
 import static com.berational.NormalDistribution.*;
-import static com.berational.CodyErf.erfcx;
 
 /**
  * Let's Be Rational - Black Implied Volatility Algorithm
@@ -22,6 +21,13 @@ import static com.berational.CodyErf.erfcx;
  */
 public class LetsBeRational {
 
+    /**
+     * Whether Regions II and IV use {@link TableErfcx} instead of {@link CodyErf#erfcx},
+     * selected with {@code -Dcom.berational.erfcx=table}. Fixed at class initialisation
+     * so that the JIT folds the choice away.
+     */
+    static final boolean TABLE_ERFCX = "table".equals(System.getProperty("com.berational.erfcx"));
+
     /**
      * Check if value is below denormalization horizon (effectively zero).
      */
@@ -46,7 +52,7 @@ public class LetsBeRational {
      * @param q +1 for call, -1 for put
      * @return normalized intrinsic value
      */
-    private static double normalisedIntrinsic(double x, int q) {
+    static double normalisedIntrinsic(double x, int q) {
         if (q * x <= 0) {
             return 0.0;
         }
@@ -75,37 +81,19 @@ public class LetsBeRational {
      *
      * @param h x/σ
      * @param t σ/2
+     * @param exponentialFactor exp(-½(h²+t²))
      * @return normalized Black call value
      */
-    private static double asymptoticExpansionOfNormalizedBlackCall(double h, double t) {
+    private static double asymptoticExpansionOfNormalizedBlackCall(double h, double t, double exponentialFactor) {
         double e = (t / h) * (t / h);
         double r = (h + t) * (h - t);
         double q = (h / r) * (h / r);
 
-        // 17th order asymptotic expansion sufficient for relative accuracy of 1.64E-16
-        // Computed as nested polynomial in q (iteration index squared)
-        double sum = 2.0;
-        sum += q * (-6.0E0 - 2.0 * e);
-        sum += q * q * 3.0 * (1.0E1 + e * (2.0E1 + 2.0 * e));
-        sum += q * q * q * 5.0 * (-1.4E1 + e * (-7.0E1 + e * (-4.2E1 - 2.0 * e)));
-        sum += q * q * q * q * 7.0 * (1.8E1 + e * (1.68E2 + e * (2.52E2 + e * (7.2E1 + 2.0 * e))));
-        sum += q * q * q * q * q * 9.0 * (-2.2E1 + e * (-3.3E2 + e * (-9.24E2 + e * (-6.6E2 + e * (-1.1E2 - 2.0 * e)))));
-        sum += Math.pow(q, 6) * 1.1E1 * (2.6E1 + e * (5.72E2 + e * (2.574E3 + e * (3.432E3 + e * (1.43E3 + e * (1.56E2 + 2.0 * e))))));
-        sum += Math.pow(q, 7) * 1.3E1 * (-3.0E1 + e * (-9.1E2 + e * (-6.006E3 + e * (-1.287E4 + e * (-1.001E4 + e * (-2.73E3 + e * (-2.1E2 - 2.0 * e)))))));
-        sum += Math.pow(q, 8) * 1.5E1 * (3.4E1 + e * (1.36E3 + e * (1.2376E4 + e * (3.8896E4 + e * (4.862E4 + e * (2.4752E4 + e * (4.76E3 + e * (2.72E2 + 2.0 * e))))))));
-        sum += Math.pow(q, 9) * 1.7E1 * (-3.8E1 + e * (-1.938E3 + e * (-2.3256E4 + e * (-1.00776E5 + e * (-1.84756E5 + e * (-1.51164E5 + e * (-5.4264E4 + e * (-7.752E3 + e * (-3.42E2 - 2.0 * e)))))))));
-        sum += Math.pow(q, 10) * 1.9E1 * (4.2E1 + e * (2.66E3 + e * (4.0698E4 + e * (2.3256E5 + e * (5.8786E5 + e * (7.05432E5 + e * (4.0698E5 + e * (1.08528E5 + e * (1.197E4 + e * (4.2E2 + 2.0 * e))))))))));
-        sum += Math.pow(q, 11) * 2.1E1 * (-4.6E1 + e * (-3.542E3 + e * (-6.7298E4 + e * (-4.90314E5 + e * (-1.63438E6 + e * (-2.704156E6 + e * (-2.288132E6 + e * (-9.80628E5 + e * (-2.01894E5 + e * (-1.771E4 + e * (-5.06E2 - 2.0 * e)))))))))));
-        sum += Math.pow(q, 12) * 2.3E1 * (5.0E1 + e * (4.6E3 + e * (1.0626E5 + e * (9.614E5 + e * (4.08595E6 + e * (8.9148E6 + e * (1.04006E7 + e * (6.53752E6 + e * (2.16315E6 + e * (3.542E5 + e * (2.53E4 + e * (6.0E2 + 2.0 * e))))))))))));
-        sum += Math.pow(q, 13) * 2.5E1 * (-5.4E1 + e * (-5.85E3 + e * (-1.6146E5 + e * (-1.77606E6 + e * (-9.37365E6 + e * (-2.607579E7 + e * (-4.01166E7 + e * (-3.476772E7 + e * (-1.687257E7 + e * (-4.44015E6 + e * (-5.9202E5 + e * (-3.51E4 + e * (-7.02E2 - 2.0 * e)))))))))))));
-        sum += Math.pow(q, 14) * 2.7E1 * (5.8E1 + e * (7.308E3 + e * (2.3751E5 + e * (3.12156E6 + e * (2.003001E7 + e * (6.919458E7 + e * (1.3572783E8 + e * (1.5511752E8 + e * (1.0379187E8 + e * (4.006002E7 + e * (8.58429E6 + e * (9.5004E5 + e * (4.7502E4 + e * (8.12E2 + 2.0 * e))))))))))))));
-        sum += Math.pow(q, 15) * 2.9E1 * (-6.2E1 + e * (-8.99E3 + e * (-3.39822E5 + e * (-5.25915E6 + e * (-4.032015E7 + e * (-1.6934463E8 + e * (-4.1250615E8 + e * (-6.0108039E8 + e * (-5.3036505E8 + e * (-2.8224105E8 + e * (-8.870433E7 + e * (-1.577745E7 + e * (-1.472562E6 + e * (-6.293E4 + e * (-9.3E2 - 2.0 * e)))))))))))))));
-        sum += Math.pow(q, 16) * 3.1E1 * (6.6E1 + e * (1.0912E4 + e * (4.74672E5 + e * (8.544096E6 + e * (7.71342E7 + e * (3.8707344E8 + e * (1.14633288E9 + e * (2.07431664E9 + e * (2.33360622E9 + e * (1.6376184E9 + e * (7.0963464E8 + e * (1.8512208E8 + e * (2.7768312E7 + e * (2.215136E6 + e * (8.184E4 + e * (1.056E3 + 2.0 * e))))))))))))))));
-        sum += Math.pow(q, 17) * 3.3E1 * (-7.0E1 + e * (-1.309E4 + e * (-6.49264E5 + e * (-1.344904E7 + e * (-1.4121492E8 + e * (-8.344518E8 + e * (-2.9526756E9 + e * (-6.49588632E9 + e * (-9.0751353E9 + e * (-8.1198579E9 + e * (-4.6399188E9 + e * (-1.6689036E9 + e * (-3.67158792E8 + e * (-4.707164E7 + e * (-3.24632E6 + e * (-1.0472E5 + e * (-1.19E3 - 2.0 * e)))))))))))))))));
-
-        double asymptoticExpansionSum = sum;
-
-        double b = ONE_OVER_SQRT_TWO_PI * Math.exp(-0.5 * (h * h + t * t)) * (t / r) * asymptoticExpansionSum;
+        // Expansion in q, by default to order 17 for relative accuracy of 1.64E-16,
+        // generated from src/main/codegen/polynomials.spec
+        double asymptoticExpansionSum = Polynomials.asymptoticExpansion(q, e);
+
+        double b = ONE_OVER_SQRT_TWO_PI * exponentialFactor * (t / r) * asymptoticExpansionSum;
         return Math.abs(Math.max(b, 0.0));
     }
 
@@ -120,18 +108,20 @@ public class LetsBeRational {
      *
      * @param h x/σ
      * @param t σ/2
+     * @param exponentialFactor exp(-½(h²+t²))
      * @return normalized Black call value
      */
-    private static double smallTExpansionOfNormalizedBlackCall(double h, double t) {
+    private static double smallTExpansionOfNormalizedBlackCall(double h, double t, double exponentialFactor) {
         // Y(h) = Φ(h)/φ(h) = √(π/2)·erfcx(-h/√2)
         // a = 1 + h·Y(h)
         double a = 1.0 + h * (0.5 * SQRT_TWO_PI) * erfcx(-ONE_OVER_SQRT_TWO * h);
         double w = t * t;
         double h2 = h * h;
 
-        double expansion = 2.0 * t * (a + w * ((-1.0 + 3.0 * a + a * h2) / 6.0 + w * ((-7.0 + 15.0 * a + h2 * (-1.0 + 10.0 * a + a * h2)) / 120.0 + w * ((-57.0 + 105.0 * a + h2 * (-18.0 + 105.0 * a + h2 * (-1.0 + 21.0 * a + a * h2))) / 5040.0 + w * ((-561.0 + 945.0 * a + h2 * (-285.0 + 1260.0 * a + h2 * (-33.0 + 378.0 * a + h2 * (-1.0 + 36.0 * a + a * h2)))) / 362880.0 + w * ((-6555.0 + 10395.0 * a + h2 * (-4680.0 + 17325.0 * a + h2 * (-840.0 + 6930.0 * a + h2 * (-52.0 + 990.0 * a + h2 * (-1.0 + 55.0 * a + a * h2))))) / 39916800.0 + ((-89055.0 + 135135.0 * a + h2 * (-82845.0 + 270270.0 * a + h2 * (-20370.0 + 135135.0 * a + h2 * (-1926.0 + 25740.0 * a + h2 * (-75.0 + 2145.0 * a + h2 * (-1.0 + 78.0 * a + a * h2)))))) * w) / 6227020800.0))))));
+        // Generated from src/main/codegen/polynomials.spec
+        double expansion = 2.0 * t * Polynomials.smallTExpansion(a, h2, w);
 
-        double b = ONE_OVER_SQRT_TWO_PI * Math.exp(-0.5 * (h * h + t * t)) * expansion;
+        double b = ONE_OVER_SQRT_TWO_PI * exponentialFactor * expansion;
         return Math.abs(Math.max(b, 0.0));
     }
 
@@ -153,6 +143,13 @@ public class LetsBeRational {
         return Math.abs(Math.max(b, 0.0));
     }
 
+    /**
+     * Scaled complementary error function of the selected implementation.
+     */
+    private static double erfcx(double x) {
+        return TABLE_ERFCX ? TableErfcx.erfcx(x) : CodyErf.erfcx(x);
+    }
+
     /**
      * Normalized Black call using erfcx (scaled complementary error function).
      *
@@ -164,10 +161,11 @@ public class LetsBeRational {
      *
      * @param h x/σ
      * @param t σ/2
+     * @param exponentialFactor exp(-½(h²+t²))
      * @return normalized Black call value
      */
-    private static double normalizedBlackCallUsingErfcx(double h, double t) {
-        double b = 0.5 * Math.exp(-0.5 * (h * h + t * t)) *
+    private static double normalizedBlackCallUsingErfcx(double h, double t, double exponentialFactor) {
+        double b = 0.5 * exponentialFactor *
                    (erfcx(-ONE_OVER_SQRT_TWO * (h + t)) - erfcx(-ONE_OVER_SQRT_TWO * (h - t)));
         return Math.abs(Math.max(b, 0.0));
     }
@@ -183,9 +181,32 @@ public class LetsBeRational {
      * @return normalized Black call value
      */
     public static double normalisedBlackCall(double x, double s) {
+        return normalisedBlackCall(x, s, Double.NaN);
+    }
+
+    /**
+     * Compute normalized Black call value sharing the exponential factor with vega.
+     *
+     * Regions I, II and IV need exp(-½(h²+t²)), which is also the only transcendental
+     * in {@link #normalisedVega}. Passing the value of
+     * {@link #normalisedBlackExponentialFactor} lets an iteration that needs both
+     * price and vega evaluate the exponential once:
+     * <pre>
+     * double e = normalisedBlackExponentialFactor(x, s);
+     * double b = normalisedBlackCall(x, s, e);
+     * double vega = ONE_OVER_SQRT_TWO_PI * e;
+     * </pre>
+     * Results are bit-identical to {@link #normalisedBlackCall(double, double)}.
+     *
+     * @param x log-moneyness ln(F/K)
+     * @param s σ√T (normalized volatility)
+     * @param exponentialFactor exp(-½(h²+t²)), or NaN to evaluate it when needed
+     * @return normalized Black call value
+     */
+    public static double normalisedBlackCall(double x, double s, double exponentialFactor) {
         // Use put-call symmetry for positive x
         if (x > 0) {
-            return normalisedIntrinsic(x, 1) + normalisedBlackCall(-x, s);
+            return normalisedIntrinsic(x, 1) + normalisedBlackCall(-x, s, exponentialFactor);
         }
 
         double ax = Math.abs(x);
@@ -202,21 +223,80 @@ public class LetsBeRational {
         if (x < s * ASYMPTOTIC_EXPANSION_ACCURACY_THRESHOLD &&
             0.5 * s * s + x < s * (SMALL_T_EXPANSION_OF_NORMALIZED_BLACK_THRESHOLD +
                                    ASYMPTOTIC_EXPANSION_ACCURACY_THRESHOLD)) {
-            return asymptoticExpansionOfNormalizedBlackCall(h, t);
+            if (SolverStatistics.ENABLED) {
+                SolverStatistics.region(SolverStatistics.REGION_I);
+            }
+            return asymptoticExpansionOfNormalizedBlackCall(h, t, exponentialFactor(exponentialFactor, h, t));
         }
 
         // Region II: Small t expansion
         if (t < SMALL_T_EXPANSION_OF_NORMALIZED_BLACK_THRESHOLD) {
-            return smallTExpansionOfNormalizedBlackCall(h, t);
+            if (SolverStatistics.ENABLED) {
+                SolverStatistics.region(SolverStatistics.REGION_II);
+            }
+            return smallTExpansionOfNormalizedBlackCall(h, t, exponentialFactor(exponentialFactor, h, t));
         }
 
         // Region III: Large t where b is dominated by first term
         if (x + 0.5 * s * s > s * 0.85) {
+            if (SolverStatistics.ENABLED) {
+                SolverStatistics.region(SolverStatistics.REGION_III);
+            }
             return normalizedBlackCallUsingNormCdf(x, s);
         }
 
         // Region IV: Use erfcx formulation
-        return normalizedBlackCallUsingErfcx(h, t);
+        if (SolverStatistics.ENABLED) {
+            SolverStatistics.region(SolverStatistics.REGION_IV);
+        }
+        return normalizedBlackCallUsingErfcx(h, t, exponentialFactor(exponentialFactor, h, t));
+    }
+
+    /**
+     * The given exponential factor, or exp(-½(h²+t²)) if none was given.
+     */
+    private static double exponentialFactor(double given, double h, double t) {
+        return Double.isNaN(given) ? Math.exp(-0.5 * (h * h + t * t)) : given;
+    }
+
+    /**
+     * Compute the logarithm of the normalized Black call value.
+     *
+     * Regions I, II and IV are b = exp(-½(h²+t²))·b̃ with a scaled value b̃ of moderate
+     * size, so ln b = ln b̃ - ½(h²+t²) is evaluated without the exponential. Deep out of
+     * the money this stays finite where {@link #normalisedBlackCall(double, double)}
+     * underflows to zero. Region III and x ≥ 0 take the logarithm of the price, which
+     * is not small there.
+     *
+     * @param x log-moneyness ln(F/K)
+     * @param s σ√T (normalized volatility)
+     * @return ln b(x, s), or -∞ where the price is zero
+     */
+    public static double logNormalisedBlackCall(double x, double s) {
+        if (x >= 0 || isNormCdfRegion(x, s)) {
+            return Math.log(normalisedBlackCall(x, s));
+        }
+        double h = x / s;
+        double t = 0.5 * s;
+        return Math.log(scaledNormalisedBlackCall(x, s)) - 0.5 * (h * h + t * t);
+    }
+
+    /**
+     * Whether x ≤ 0 and s select Region III of {@link #normalisedBlackCall(double, double, double)},
+     * the only region without the factor exp(-½(h²+t²)).
+     */
+    private static boolean isNormCdfRegion(double x, double s) {
+        return 0.5 * s >= SMALL_T_EXPANSION_OF_NORMALIZED_BLACK_THRESHOLD && x + 0.5 * s * s > s * 0.85;
+    }
+
+    /**
+     * b(x, s)·exp(½(h²+t²)) for x ≤ 0 outside Region III.
+     *
+     * Regions I, II and IV are linear in the exponential factor, so passing a factor of
+     * one leaves the scaled value.
+     */
+    private static double scaledNormalisedBlackCall(double x, double s) {
+        return normalisedBlackCall(x, s, 1.0);
     }
 
     /**
@@ -229,80 +309,136 @@ public class LetsBeRational {
      * @return normalized vega
      */
     public static double normalisedVega(double x, double s) {
+        return ONE_OVER_SQRT_TWO_PI * normalisedBlackExponentialFactor(x, s);
+    }
+
+    /**
+     * Compute the exponential factor exp(-½((x/s)² + (s/2)²)) shared by price and vega.
+     *
+     * Equals √(2π)·vega, and is zero where {@link #normalisedVega} underflows.
+     *
+     * @param x log-moneyness ln(F/K)
+     * @param s σ√T
+     * @return exp(-½(h²+t²)) with h = x/s and t = s/2
+     */
+    public static double normalisedBlackExponentialFactor(double x, double s) {
         double ax = Math.abs(x);
 
         if (ax <= 0) {
-            return ONE_OVER_SQRT_TWO_PI * Math.exp(-0.125 * s * s);
+            return Math.exp(-0.125 * s * s);
         } else {
             if (s <= 0 || s <= ax * SQRT_DBL_MIN) {
                 return 0.0;
             }
-            return ONE_OVER_SQRT_TWO_PI * Math.exp(-0.5 * (square(x / s) + square(0.5 * s)));
+            return Math.exp(-0.5 * (square(x / s) + square(0.5 * s)));
         }
     }
 
     /**
-     * Compute f_lower_map and its first two derivatives.
+     * Φ(-|x|/(√3·s)), the normal CDF shared by f_lower_map and its first two derivatives.
+     *
+     * The map and its derivatives are separate methods, rather than one method returning
+     * an array, so that the branch 1 guess never allocates.
+     *
+     * @param x log-moneyness
+     * @param s σ√T
+     * @return Φ(-z) with z = |x|/(√3·s)
+     */
+    static double fLowerMapCdf(double x, double s) {
+        return cdf(-(SQRT_ONE_OVER_THREE * Math.abs(x) / s));
+    }
+
+    /**
+     * f_lower_map, used for the lower branch of the initial guess.
      *
-     * Used for the lower branch of the initial guess.
      * Maps normalized price β to an intermediate value via non-linear transformation.
      *
      * @param x log-moneyness
      * @param s σ√T
-     * @return array [f, f', f'']
+     * @param Phi {@link #fLowerMapCdf(double, double)} at (x, s)
+     * @return f
+     */
+    static double fLowerMap(double x, double s, double Phi) {
+        if (isBelowHorizon(s) || isBelowHorizon(x)) {
+            return 0.0;
+        }
+        return TWO_PI_OVER_SQRT_TWENTY_SEVEN * Math.abs(x) * (Phi * Phi * Phi);
+    }
+
+    /**
+     * First derivative of f_lower_map with respect to β.
+     *
+     * @param x log-moneyness
+     * @param s σ√T
+     * @param Phi {@link #fLowerMapCdf(double, double)} at (x, s)
+     * @return f'
+     */
+    static double dFLowerMapdBeta(double x, double s, double Phi) {
+        if (isBelowHorizon(s)) {
+            return 1.0;
+        }
+        double z = SQRT_ONE_OVER_THREE * Math.abs(x) / s;
+        double y = z * z;
+        return TWO_PI * y * (Phi * Phi) * Math.exp(y + 0.125 * s * s);
+    }
+
+    /**
+     * Second derivative of f_lower_map with respect to β.
+     *
+     * @param x log-moneyness
+     * @param s σ√T
+     * @param Phi {@link #fLowerMapCdf(double, double)} at (x, s)
+     * @return f''
      */
-    private static double[] computeFLowerMapAndFirstTwoDerivatives(double x, double s) {
+    static double d2FLowerMapdBeta2(double x, double s, double Phi) {
         double ax = Math.abs(x);
         double z = SQRT_ONE_OVER_THREE * ax / s;
         double y = z * z;
         double s2 = s * s;
-        double Phi = cdf(-z);
         double phi = pdf(z);
 
-        double fpp = PI_OVER_SIX * y / (s2 * s) * Phi *
-                     (8.0 * SQRT_THREE * s * ax + (3.0 * s2 * (s2 - 8.0) - 8.0 * x * x) * Phi / phi) *
-                     Math.exp(2.0 * y + 0.25 * s2);
-
-        double fp, f;
-        if (isBelowHorizon(s)) {
-            fp = 1.0;
-            f = 0.0;
-        } else {
-            double Phi2 = Phi * Phi;
-            fp = TWO_PI * y * Phi2 * Math.exp(y + 0.125 * s * s);
-            if (isBelowHorizon(x)) {
-                f = 0.0;
-            } else {
-                f = TWO_PI_OVER_SQRT_TWENTY_SEVEN * ax * (Phi2 * Phi);
-            }
-        }
-
-        return new double[]{f, fp, fpp};
+        return PI_OVER_SIX * y / (s2 * s) * Phi *
+               (8.0 * SQRT_THREE * s * ax + (3.0 * s2 * (s2 - 8.0) - 8.0 * x * x) * Phi / phi) *
+               Math.exp(2.0 * y + 0.25 * s2);
     }
 
     /**
-     * Compute f_upper_map and its first two derivatives.
+     * f_upper_map, used for the upper branch of the initial guess.
      *
-     * Used for the upper branch of the initial guess.
+     * @param s σ√T
+     * @return f
+     */
+    static double fUpperMap(double s) {
+        return cdf(-0.5 * s);
+    }
+
+    /**
+     * First derivative of f_upper_map with respect to β.
      *
      * @param x log-moneyness
      * @param s σ√T
-     * @return array [f, f', f'']
+     * @return f'
      */
-    private static double[] computeFUpperMapAndFirstTwoDerivatives(double x, double s) {
-        double f = cdf(-0.5 * s);
-        double fp, fpp;
-
+    static double dFUpperMapdBeta(double x, double s) {
         if (isBelowHorizon(x)) {
-            fp = -0.5;
-            fpp = 0.0;
-        } else {
-            double w = square(x / s);
-            fp = -0.5 * Math.exp(0.5 * w);
-            fpp = SQRT_PI_OVER_TWO * Math.exp(w + 0.125 * s * s) * w / s;
+            return -0.5;
         }
+        return -0.5 * Math.exp(0.5 * square(x / s));
+    }
 
-        return new double[]{f, fp, fpp};
+    /**
+     * Second derivative of f_upper_map with respect to β.
+     *
+     * @param x log-moneyness
+     * @param s σ√T
+     * @return f''
+     */
+    static double d2FUpperMapdBeta2(double x, double s) {
+        if (isBelowHorizon(x)) {
+            return 0.0;
+        }
+        double w = square(x / s);
+        return SQRT_PI_OVER_TWO * Math.exp(w + 0.125 * s * s) * w / s;
     }
 
     /**
@@ -342,247 +478,313 @@ public class LetsBeRational {
     }
 
     /**
-     * Core algorithm: unchecked normalized implied volatility computation.
+     * Initial guess for branch 1 (very low prices, β < b_L).
      *
-     * Computes implied volatility from normalized price β using:
-     * 1. Four-branch initial guess
-     * 2. Three-branch objective function
-     * 3. Two iterations of Householder(3) method
+     * Rational cubic interpolation of f_lower_map between 0 and b_L,
+     * with a quadratic fallback, mapped back through the inverse map.
      *
-     * @param beta normalized price
-     * @param x log-moneyness ln(F/K)
-     * @param q +1 for call, -1 for put
-     * @param N maximum iterations (typically 2)
-     * @return σ√T (normalized implied volatility)
+     * @param beta normalized out-of-the-money call price
+     * @param x log-moneyness (x ≤ 0)
+     * @param sL left bracket σ√T
+     * @param bL normalized call price at sL
+     * @return initial guess for σ√T
      */
-    private static double uncheckedNormalisedImpliedVolatilityFromATransformedRationalGuessWithLimitedIterations(
-            double beta, double x, int q, int N) {
+    static double lowerBranchGuess(double beta, double x, double sL, double bL) {
+        double PhiL = fLowerMapCdf(x, sL);
+        double fLowerMapL = fLowerMap(x, sL, PhiL);
+        double dFLowerMapLdBeta = dFLowerMapdBeta(x, sL, PhiL);
+        double d2FLowerMapLdBeta2 = d2FLowerMapdBeta2(x, sL, PhiL);
 
-        // Subtract intrinsic and map to out-of-the-money
-        if (q * x > 0) {
-            beta = Math.abs(Math.max(beta - normalisedIntrinsic(x, q), 0.0));
-            q = -q;
-        }
+        double rLL = convexRationalCubicControlParameterToFitSecondDerivativeAtRightSide(
+                0.0, bL, 0.0, fLowerMapL, 1.0, dFLowerMapLdBeta, d2FLowerMapLdBeta2, true);
 
-        // Map puts to calls
-        if (q < 0) {
-            x = -x;
-            q = -q;
-        }
+        return lowerBranchGuess(beta, x, bL, fLowerMapL, dFLowerMapLdBeta, rLL);
+    }
 
-        // Handle edge cases
-        if (beta <= 0) {
-            return 0.0;
+    /**
+     * Initial guess for branch 1 given the f_lower_map interpolation parameters at b_L.
+     */
+    static double lowerBranchGuess(double beta, double x, double bL,
+                                   double fLowerMapL, double dFLowerMapLdBeta, double rLL) {
+        double f = rationalCubicInterpolation(beta, 0.0, bL, 0.0, fLowerMapL,
+                                              1.0, dFLowerMapLdBeta, rLL);
+
+        if (!(f > 0)) {
+            // Fallback to quadratic
+            if (SolverStatistics.ENABLED) {
+                SolverStatistics.lowerQuadraticFallback();
+            }
+            double t = beta / bL;
+            f = (fLowerMapL * t + bL * (1.0 - t)) * t;
         }
-        if (beta < DENORMALIZATION_CUTOFF) {
-            return 0.0;
+
+        return inverseFLowerMap(x, f);
+    }
+
+    /**
+     * Initial guess for branch 1 when β is too small for the rational cubic.
+     *
+     * f_lower_map has unit slope at β = 0, so f ≈ β and the inverse map
+     * |x| / (√3·|Φ⁻¹((f / (2π|x|/√27))^⅓)|) is evaluated from ln β with
+     * {@link NormalDistribution#inverseLogCdf}.
+     *
+     * @param lnBeta logarithm of the normalized out-of-the-money call price
+     * @param x log-moneyness (x < 0)
+     * @return initial guess for σ√T
+     */
+    static double lowerBranchGuessFromLogPrice(double lnBeta, double x) {
+        double ax = Math.abs(x);
+        double lnU = (lnBeta - Math.log(TWO_PI_OVER_SQRT_TWENTY_SEVEN * ax)) / 3.0;
+        return Math.abs(x / (SQRT_THREE * inverseLogCdf(lnU)));
+    }
+
+    /**
+     * Initial guess for branch 2 (center-left, b_L ≤ β < b_C).
+     *
+     * @param beta normalized out-of-the-money call price
+     * @param x log-moneyness (x ≤ 0)
+     * @param sL left bracket σ√T
+     * @param bL normalized call price at sL
+     * @param sC inflection point σ√T
+     * @param bC normalized call price at sC
+     * @param vC normalized vega at sC
+     * @return initial guess for σ√T
+     */
+    static double centreLeftGuess(double beta, double x, double sL, double bL,
+                                  double sC, double bC, double vC) {
+        double vL = normalisedVega(x, sL);
+        double rLM = convexRationalCubicControlParameterToFitSecondDerivativeAtRightSide(
+                bL, bC, sL, sC, 1.0 / vL, 1.0 / vC, 0.0, false);
+        return centreLeftGuess(beta, sL, bL, vL, sC, bC, vC, rLM);
+    }
+
+    /**
+     * Initial guess for branch 2 given the interpolation parameter r_LM.
+     */
+    static double centreLeftGuess(double beta, double sL, double bL, double vL,
+                                  double sC, double bC, double vC, double rLM) {
+        return rationalCubicInterpolation(beta, bL, bC, sL, sC, 1.0 / vL, 1.0 / vC, rLM);
+    }
+
+    /**
+     * Initial guess for branch 3 (center-right, b_C ≤ β ≤ b_H).
+     *
+     * @param beta normalized out-of-the-money call price
+     * @param x log-moneyness (x ≤ 0)
+     * @param sC inflection point σ√T
+     * @param bC normalized call price at sC
+     * @param vC normalized vega at sC
+     * @param sH right bracket σ√T
+     * @param bH normalized call price at sH
+     * @return initial guess for σ√T
+     */
+    static double centreRightGuess(double beta, double x, double sC, double bC, double vC,
+                                   double sH, double bH) {
+        double vH = normalisedVega(x, sH);
+        double rHM = convexRationalCubicControlParameterToFitSecondDerivativeAtLeftSide(
+                bC, bH, sC, sH, 1.0 / vC, 1.0 / vH, 0.0, false);
+        return centreRightGuess(beta, sC, bC, vC, sH, bH, vH, rHM);
+    }
+
+    /**
+     * Initial guess for branch 3 given the interpolation parameter r_HM.
+     */
+    static double centreRightGuess(double beta, double sC, double bC, double vC,
+                                   double sH, double bH, double vH, double rHM) {
+        return rationalCubicInterpolation(beta, bC, bH, sC, sH, 1.0 / vC, 1.0 / vH, rHM);
+    }
+
+    /**
+     * Initial guess for branch 4 (very high prices, β > b_H).
+     *
+     * Rational cubic interpolation of f_upper_map between b_H and b_max,
+     * with a quadratic fallback, mapped back through the inverse map.
+     *
+     * @param beta normalized out-of-the-money call price
+     * @param x log-moneyness (x ≤ 0)
+     * @param bMax maximum normalized call price exp(x/2)
+     * @param sH right bracket σ√T
+     * @param bH normalized call price at sH
+     * @return initial guess for σ√T
+     */
+    static double upperBranchGuess(double beta, double x, double bMax, double sH, double bH) {
+        double fUpperMapH = fUpperMap(sH);
+        double dFUpperMapHdBeta = dFUpperMapdBeta(x, sH);
+        double d2FUpperMapHdBeta2 = d2FUpperMapdBeta2(x, sH);
+
+        boolean interpolate = fitsUpperBranchSecondDerivative(d2FUpperMapHdBeta2);
+        double rHH = interpolate
+                ? upperBranchControlParameter(bMax, bH, fUpperMapH, dFUpperMapHdBeta, d2FUpperMapHdBeta2)
+                : 0.0;
+        return upperBranchGuess(beta, bMax, bH, fUpperMapH, dFUpperMapHdBeta, rHH, interpolate);
+    }
+
+    /**
+     * Whether the second derivative of f_upper_map is small enough to be fitted by r_HH.
+     */
+    static boolean fitsUpperBranchSecondDerivative(double d2FUpperMapHdBeta2) {
+        return d2FUpperMapHdBeta2 > -SQRT_DBL_MAX && d2FUpperMapHdBeta2 < SQRT_DBL_MAX;
+    }
+
+    /**
+     * Interpolation parameter r_HH for branch 4.
+     */
+    static double upperBranchControlParameter(double bMax, double bH, double fUpperMapH,
+                                              double dFUpperMapHdBeta, double d2FUpperMapHdBeta2) {
+        return convexRationalCubicControlParameterToFitSecondDerivativeAtLeftSide(
+                bH, bMax, fUpperMapH, 0.0, dFUpperMapHdBeta, -0.5, d2FUpperMapHdBeta2, true);
+    }
+
+    /**
+     * Initial guess for branch 4 given the f_upper_map interpolation parameters at b_H.
+     *
+     * When {@code interpolate} is false, the quadratic fallback is used directly.
+     */
+    static double upperBranchGuess(double beta, double bMax, double bH, double fUpperMapH,
+                                   double dFUpperMapHdBeta, double rHH, boolean interpolate) {
+        double f = 0.0;
+        if (interpolate) {
+            f = rationalCubicInterpolation(beta, bH, bMax, fUpperMapH, 0.0,
+                                           dFUpperMapHdBeta, -0.5, rHH);
         }
 
-        double bMax = Math.exp(0.5 * x);
-        if (beta >= bMax) {
-            throw new AboveMaximumException();
+        if (f <= 0) {
+            // Fallback to quadratic
+            if (SolverStatistics.ENABLED) {
+                SolverStatistics.upperQuadraticFallback();
+            }
+            double h = bMax - bH;
+            double t = (beta - bH) / h;
+            f = (fUpperMapH * (1.0 - t) + 0.5 * h * t) * (1.0 - t);
         }
 
-        // Compute inflection point
-        double sC = Math.sqrt(Math.abs(2.0 * x));
-        double bC = normalisedBlackCall(x, sC);
-        double vC = normalisedVega(x, sC);
+        return inverseFUpperMap(f);
+    }
 
-        // Initial guess and iteration setup
+    /**
+     * Householder(3) iteration on the lower objective g(s) = 1/ln(b(s)) - 1/ln(β).
+     *
+     * Used for branch 1, where b(s) spans many orders of magnitude. Outside Region III,
+     * ln b and b'/b come from the scaled price of {@link #logNormalisedBlackCall}, so no
+     * exponential is evaluated and deep out-of-the-money iterates do not underflow.
+     *
+     * @param lnBeta logarithm of the normalized out-of-the-money call price
+     * @param x log-moneyness (x < 0)
+     * @param s initial guess for σ√T
+     * @param sLeft left bracket
+     * @param sRight right bracket
+     * @param N maximum iterations
+     * @return σ√T
+     */
+    static double householderOnLowerObjective(double lnBeta, double x, double s,
+                                              double sLeft, double sRight, int N) {
         int iterations = 0;
         int directionReversalCount = 0;
-        double s = -DBL_MAX;
-        double ds = 0.0;
+        double ds = s;  // Ensure iteration loop executes
         double dsPrevious = 0.0;
-        double sLeft = DBL_MIN;
-        double sRight = DBL_MAX;
 
-        // Four branches for initial guess
-        if (beta < bC) {
-            // Lower half: branches 1 and 2
-            double sL = sC - bC / vC;
-            double bL = normalisedBlackCall(x, sL);
-
-            if (beta < bL) {
-                // Branch 1: Very low prices
-                double[] fLower = computeFLowerMapAndFirstTwoDerivatives(x, sL);
-                double fLowerMapL = fLower[0];
-                double dFLowerMapLdBeta = fLower[1];
-                double d2FLowerMapLdBeta2 = fLower[2];
-
-                double rLL = convexRationalCubicControlParameterToFitSecondDerivativeAtRightSide(
-                        0.0, bL, 0.0, fLowerMapL, 1.0, dFLowerMapLdBeta, d2FLowerMapLdBeta2, true);
-
-                double f = rationalCubicInterpolation(beta, 0.0, bL, 0.0, fLowerMapL,
-                                                      1.0, dFLowerMapLdBeta, rLL);
-
-                if (!(f > 0)) {
-                    // Fallback to quadratic
-                    double t = beta / bL;
-                    f = (fLowerMapL * t + bL * (1.0 - t)) * t;
+        while (iterations < N && Math.abs(ds) > DBL_EPSILON * s) {
+            if (ds * dsPrevious < 0) {
+                directionReversalCount++;
+                if (SolverStatistics.ENABLED) {
+                    SolverStatistics.directionReversal();
                 }
+            }
 
-                s = inverseFLowerMap(x, f);
-                sRight = sL;
-                ds = s;  // Ensure iteration loop executes
-
-                // Objective function: g(s) = 1/ln(b(s)) - 1/ln(β)
-                while (iterations < N && Math.abs(ds) > DBL_EPSILON * s) {
-                    if (ds * dsPrevious < 0) {
-                        directionReversalCount++;
-                    }
-
-                    if (iterations > 0 && (directionReversalCount == 3 || !(s > sLeft && s < sRight))) {
-                        // Binary nesting
-                        s = 0.5 * (sLeft + sRight);
-                        if (sRight - sLeft <= DBL_EPSILON * s) {
-                            break;
-                        }
-                        directionReversalCount = 0;
-                        ds = 0.0;
-                    }
-
-                    dsPrevious = ds;
-                    double b = normalisedBlackCall(x, s);
-                    double bp = normalisedVega(x, s);
-
-                    if (b > beta && s < sRight) {
-                        sRight = s;
-                    } else if (b < beta && s > sLeft) {
-                        sLeft = s;
-                    }
-
-                    if (b <= 0 || bp <= 0) {
-                        // Numerical underflow
-                        ds = 0.5 * (sLeft + sRight) - s;
-                    } else {
-                        double lnB = Math.log(b);
-                        double lnBeta = Math.log(beta);
-                        double bpob = bp / b;
-                        double h = x / s;
-                        double bHalley = h * h / s - s / 4.0;
-                        double newton = (lnBeta - lnB) * lnB / lnBeta / bpob;
-                        double halley = bHalley - bpob * (1.0 + 2.0 / lnB);
-                        double bHh3 = bHalley * bHalley - 3.0 * square(h / s) - 0.25;
-                        double hh3 = bHh3 + 2.0 * square(bpob) * (1.0 + 3.0 / lnB * (1.0 + 1.0 / lnB)) -
-                                     3.0 * bHalley * bpob * (1.0 + 2.0 / lnB);
-                        ds = newton * householderFactor(newton, halley, hh3);
-                    }
-
-                    ds = Math.max(-0.5 * s, ds);
-                    s += ds;
-                    iterations++;
+            if (iterations > 0 && (directionReversalCount == 3 || !(s > sLeft && s < sRight))) {
+                // Binary nesting
+                s = 0.5 * (sLeft + sRight);
+                if (SolverStatistics.ENABLED) {
+                    SolverStatistics.bisection();
+                }
+                if (sRight - sLeft <= DBL_EPSILON * s) {
+                    break;
                 }
-                return s;
+                directionReversalCount = 0;
+                ds = 0.0;
+            }
 
+            dsPrevious = ds;
+            double h = x / s;
+            double lnB;
+            double bpob;
+            if (isNormCdfRegion(x, s)) {
+                double e = normalisedBlackExponentialFactor(x, s);
+                double b = normalisedBlackCall(x, s, e);
+                lnB = Math.log(b);
+                bpob = ONE_OVER_SQRT_TWO_PI * e / b;
             } else {
-                // Branch 2: Center-left
-                double vL = normalisedVega(x, sL);
-                double rLM = convexRationalCubicControlParameterToFitSecondDerivativeAtRightSide(
-                        bL, bC, sL, sC, 1.0 / vL, 1.0 / vC, 0.0, false);
-                s = rationalCubicInterpolation(beta, bL, bC, sL, sC, 1.0 / vL, 1.0 / vC, rLM);
-                sLeft = sL;
-                sRight = sC;
-                ds = s;  // Ensure iteration loop executes
+                double scaled = scaledNormalisedBlackCall(x, s);
+                double t = 0.5 * s;
+                lnB = Math.log(scaled) - 0.5 * (h * h + t * t);
+                bpob = ONE_OVER_SQRT_TWO_PI / scaled;
             }
-        } else {
-            // Upper half: branches 3 and 4
-            double sH = vC > DBL_MIN ? sC + (bMax - bC) / vC : sC;
-            double bH = normalisedBlackCall(x, sH);
-
-            if (beta <= bH) {
-                // Branch 3: Center-right
-                double vH = normalisedVega(x, sH);
-                double rHM = convexRationalCubicControlParameterToFitSecondDerivativeAtLeftSide(
-                        bC, bH, sC, sH, 1.0 / vC, 1.0 / vH, 0.0, false);
-                s = rationalCubicInterpolation(beta, bC, bH, sC, sH, 1.0 / vC, 1.0 / vH, rHM);
-                sLeft = sC;
-                sRight = sH;
-                ds = s;  // Ensure iteration loop executes
-            } else {
-                // Branch 4: Very high prices
-                double[] fUpper = computeFUpperMapAndFirstTwoDerivatives(x, sH);
-                double fUpperMapH = fUpper[0];
-                double dFUpperMapHdBeta = fUpper[1];
-                double d2FUpperMapHdBeta2 = fUpper[2];
-
-                double f = 0.0;
-                if (d2FUpperMapHdBeta2 > -SQRT_DBL_MAX && d2FUpperMapHdBeta2 < SQRT_DBL_MAX) {
-                    double rHH = convexRationalCubicControlParameterToFitSecondDerivativeAtLeftSide(
-                            bH, bMax, fUpperMapH, 0.0, dFUpperMapHdBeta, -0.5, d2FUpperMapHdBeta2, true);
-                    f = rationalCubicInterpolation(beta, bH, bMax, fUpperMapH, 0.0,
-                                                   dFUpperMapHdBeta, -0.5, rHH);
-                }
 
-                if (f <= 0) {
-                    // Fallback to quadratic
-                    double h = bMax - bH;
-                    double t = (beta - bH) / h;
-                    f = (fUpperMapH * (1.0 - t) + 0.5 * h * t) * (1.0 - t);
-                }
+            if (lnB > lnBeta && s < sRight) {
+                sRight = s;
+            } else if (lnB < lnBeta && s > sLeft) {
+                sLeft = s;
+            }
 
-                s = inverseFUpperMap(f);
-                sLeft = sH;
-                ds = s;  // Ensure iteration loop executes if we fall through
-
-                if (beta > 0.5 * bMax) {
-                    // Objective function: g(s) = ln((b_max-β)/(b_max-b(s)))
-                    ds = s;  // Ensure iteration loop executes
-                    while (iterations < N && Math.abs(ds) > DBL_EPSILON * s) {
-                        if (ds * dsPrevious < 0) {
-                            directionReversalCount++;
-                        }
-
-                        if (iterations > 0 && (directionReversalCount == 3 || !(s > sLeft && s < sRight))) {
-                            s = 0.5 * (sLeft + sRight);
-                            if (sRight - sLeft <= DBL_EPSILON * s) {
-                                break;
-                            }
-                            directionReversalCount = 0;
-                            ds = 0.0;
-                        }
-
-                        dsPrevious = ds;
-                        double b = normalisedBlackCall(x, s);
-                        double bp = normalisedVega(x, s);
-
-                        if (b > beta && s < sRight) {
-                            sRight = s;
-                        } else if (b < beta && s > sLeft) {
-                            sLeft = s;
-                        }
-
-                        if (b >= bMax || bp <= DBL_MIN) {
-                            ds = 0.5 * (sLeft + sRight) - s;
-                        } else {
-                            double bMaxMinusB = bMax - b;
-                            double g = Math.log((bMax - beta) / bMaxMinusB);
-                            double gp = bp / bMaxMinusB;
-                            double bHalley = square(x / s) / s - s / 4.0;
-                            double bHh3 = bHalley * bHalley - 3.0 * square(x / (s * s)) - 0.25;
-                            double newton = -g / gp;
-                            double halley = bHalley + gp;
-                            double hh3 = bHh3 + gp * (2.0 * gp + 3.0 * bHalley);
-                            ds = newton * householderFactor(newton, halley, hh3);
-                        }
-
-                        ds = Math.max(-0.5 * s, ds);
-                        s += ds;
-                        iterations++;
-                    }
-                    return s;
+            if (!(lnB > Double.NEGATIVE_INFINITY && bpob > 0)) {
+                // Numerical underflow
+                ds = 0.5 * (sLeft + sRight) - s;
+                if (SolverStatistics.ENABLED) {
+                    SolverStatistics.bisection();
                 }
+            } else {
+                double bHalley = h * h / s - s / 4.0;
+                double newton = (lnBeta - lnB) * lnB / lnBeta / bpob;
+                double halley = bHalley - bpob * (1.0 + 2.0 / lnB);
+                double bHh3 = bHalley * bHalley - 3.0 * square(h / s) - 0.25;
+                double hh3 = bHh3 + 2.0 * square(bpob) * (1.0 + 3.0 / lnB * (1.0 + 1.0 / lnB)) -
+                             3.0 * bHalley * bpob * (1.0 + 2.0 / lnB);
+                ds = newton * householderFactor(newton, halley, hh3);
             }
+
+            ds = Math.max(-0.5 * s, ds);
+            s += ds;
+            iterations++;
         }
+        if (SolverStatistics.HOOKS) {
+            SolverStatistics.iterations(iterations);
+        }
+        return s;
+    }
+
+    /**
+     * Householder(3) iteration on the middle objective g(s) = b(s) - β.
+     *
+     * Used for branches 2 and 3, and for branch 4 when β ≤ b_max/2.
+     *
+     * @param beta normalized out-of-the-money call price
+     * @param x log-moneyness (x ≤ 0)
+     * @param s initial guess for σ√T
+     * @param sLeft left bracket
+     * @param sRight right bracket
+     * @param N maximum iterations
+     * @return σ√T
+     */
+    static double householderOnMiddleObjective(double beta, double x, double s,
+                                               double sLeft, double sRight, int N) {
+        int iterations = 0;
+        int directionReversalCount = 0;
+        double ds = s;  // Ensure iteration loop executes
+        double dsPrevious = 0.0;
 
-        // Middle branches: objective function g(s) = b(s) - β
         while (iterations < N && Math.abs(ds) > DBL_EPSILON * s) {
             if (ds * dsPrevious < 0) {
                 directionReversalCount++;
+                if (SolverStatistics.ENABLED) {
+                    SolverStatistics.directionReversal();
+                }
             }
 
             if (iterations > 0 && (directionReversalCount == 3 || !(s > sLeft && s < sRight))) {
                 s = 0.5 * (sLeft + sRight);
+                if (SolverStatistics.ENABLED) {
+                    SolverStatistics.bisection();
+                }
                 if (sRight - sLeft <= DBL_EPSILON * s) {
                     break;
                 }
@@ -591,8 +793,9 @@ public class LetsBeRational {
             }
 
             dsPrevious = ds;
-            double b = normalisedBlackCall(x, s);
-            double bp = normalisedVega(x, s);
+            double e = normalisedBlackExponentialFactor(x, s);
+            double b = normalisedBlackCall(x, s, e);
+            double bp = ONE_OVER_SQRT_TWO_PI * e;
 
             if (b > beta && s < sRight) {
                 sRight = s;
@@ -608,20 +811,578 @@ public class LetsBeRational {
             iterations++;
         }
 
+        if (SolverStatistics.HOOKS) {
+            SolverStatistics.iterations(iterations);
+        }
         return s;
     }
 
     /**
-     * Compute normalized implied volatility from normalized price.
+     * Householder(3) iteration on the upper objective g(s) = ln((b_max-β)/(b_max-b(s))).
      *
-     * @param beta normalized price β = price / √(F·K)
-     * @param x log-moneyness ln(F/K)
-     * @param q +1 for call, -1 for put
-     * @return σ√T (normalized implied volatility)
-     * @throws BelowIntrinsicException if price is below intrinsic value
+     * Used for branch 4 when β > b_max/2.
+     *
+     * @param beta normalized out-of-the-money call price
+     * @param x log-moneyness (x ≤ 0)
+     * @param bMax maximum normalized call price exp(x/2)
+     * @param s initial guess for σ√T
+     * @param sLeft left bracket
+     * @param sRight right bracket
+     * @param N maximum iterations
+     * @return σ√T
      */
-    public static double normalisedImpliedVolatilityFromATransformedRationalGuess(
-            double beta, double x, int q) {
+    static double householderOnUpperObjective(double beta, double x, double bMax, double s,
+                                              double sLeft, double sRight, int N) {
+        int iterations = 0;
+        int directionReversalCount = 0;
+        double ds = s;  // Ensure iteration loop executes
+        double dsPrevious = 0.0;
+
+        while (iterations < N && Math.abs(ds) > DBL_EPSILON * s) {
+            if (ds * dsPrevious < 0) {
+                directionReversalCount++;
+                if (SolverStatistics.ENABLED) {
+                    SolverStatistics.directionReversal();
+                }
+            }
+
+            if (iterations > 0 && (directionReversalCount == 3 || !(s > sLeft && s < sRight))) {
+                s = 0.5 * (sLeft + sRight);
+                if (SolverStatistics.ENABLED) {
+                    SolverStatistics.bisection();
+                }
+                if (sRight - sLeft <= DBL_EPSILON * s) {
+                    break;
+                }
+                directionReversalCount = 0;
+                ds = 0.0;
+            }
+
+            dsPrevious = ds;
+            double e = normalisedBlackExponentialFactor(x, s);
+            double b = normalisedBlackCall(x, s, e);
+            double bp = ONE_OVER_SQRT_TWO_PI * e;
+
+            if (b > beta && s < sRight) {
+                sRight = s;
+            } else if (b < beta && s > sLeft) {
+                sLeft = s;
+            }
+
+            if (b >= bMax || bp <= DBL_MIN) {
+                ds = 0.5 * (sLeft + sRight) - s;
+                if (SolverStatistics.ENABLED) {
+                    SolverStatistics.bisection();
+                }
+            } else {
+                double bMaxMinusB = bMax - b;
+                double g = Math.log((bMax - beta) / bMaxMinusB);
+                double gp = bp / bMaxMinusB;
+                double bHalley = square(x / s) / s - s / 4.0;
+                double bHh3 = bHalley * bHalley - 3.0 * square(x / (s * s)) - 0.25;
+                double newton = -g / gp;
+                double halley = bHalley + gp;
+                double hh3 = bHh3 + gp * (2.0 * gp + 3.0 * bHalley);
+                ds = newton * householderFactor(newton, halley, hh3);
+            }
+
+            ds = Math.max(-0.5 * s, ds);
+            s += ds;
+            iterations++;
+        }
+        if (SolverStatistics.HOOKS) {
+            SolverStatistics.iterations(iterations);
+        }
+        return s;
+    }
+
+    /**
+     * Core algorithm: unchecked normalized implied volatility computation.
+     *
+     * Computes implied volatility from normalized price β using:
+     * 1. Four-branch initial guess
+     * 2. Three-branch objective function
+     * 3. Two iterations of Householder(3) method
+     *
+     * At and near the money, |x| ≤ √ε·β, the price is inverted in closed form instead;
+     * see {@link #isNearTheMoney(double, double)}.
+     *
+     * @param beta normalized price
+     * @param x log-moneyness ln(F/K)
+     * @param q +1 for call, -1 for put
+     * @param N maximum iterations (typically 2)
+     * @return σ√T (normalized implied volatility), or
+     *         {@link Constants#VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_ABOVE_MAXIMUM}
+     */
+    static double uncheckedNormalisedImpliedVolatilityFromATransformedRationalGuessWithLimitedIterations(
+            double beta, double x, int q, int N) {
+        if (SolverEvents.SAMPLING) {
+            SolverEvents.solveStarted();
+            double s = impliedVolatilityOfNormalisedPrice(beta, x, q, N);
+            SolverEvents.solveFinished();
+            return s;
+        }
+        return impliedVolatilityOfNormalisedPrice(beta, x, q, N);
+    }
+
+    // Solve body; the core above times it when SolverEvents samples the solve
+    private static double impliedVolatilityOfNormalisedPrice(double beta, double x, int q, int N) {
+
+        // Subtract intrinsic and map to out-of-the-money
+        if (q * x > 0) {
+            beta = Math.abs(Math.max(beta - normalisedIntrinsic(x, q), 0.0));
+            q = -q;
+        }
+
+        // Map puts to calls
+        if (q < 0) {
+            x = -x;
+            q = -q;
+        }
+
+        // Handle edge cases
+        if (beta <= 0) {
+            return 0.0;
+        }
+        if (beta < DENORMALIZATION_CUTOFF) {
+            return 0.0;
+        }
+
+        double bMax = Math.exp(0.5 * x);
+        if (beta >= bMax) {
+            return VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_ABOVE_MAXIMUM;
+        }
+
+        // At and near the money: b = 2Φ(s/2) - 1 + x/2 + O(x²) inverts in closed form
+        if (isNearTheMoney(beta, x)) {
+            if (SolverStatistics.HOOKS) {
+                SolverStatistics.branch(SolverStatistics.AT_THE_MONEY);
+            }
+            return nearTheMoneyVolatility(beta, x);
+        }
+
+        return impliedVolatilityOfOutOfTheMoneyCall(beta, Double.NaN, x, bMax, N);
+    }
+
+    /**
+     * Core algorithm from a logarithmic normalized price.
+     *
+     * Branches and iterations are those of
+     * {@link #uncheckedNormalisedImpliedVolatilityFromATransformedRationalGuessWithLimitedIterations(double, double, int, int)}.
+     * Branch 1 iterates on ln β as given, and its initial guess is taken in log space
+     * when β is below {@link Constants#DBL_MIN}, so deep out-of-the-money prices that do
+     * not fit in a double are still solved.
+     *
+     * @param lnBeta logarithm of the normalized out-of-the-money price
+     * @param x log-moneyness ln(F/K), with q·x ≤ 0
+     * @param q +1 for call, -1 for put
+     * @param N maximum iterations (typically 2)
+     * @return σ√T (normalized implied volatility), or
+     *         {@link Constants#VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_ABOVE_MAXIMUM}
+     */
+    static double uncheckedNormalisedImpliedVolatilityFromLogPriceWithLimitedIterations(
+            double lnBeta, double x, int q, int N) {
+        if (SolverEvents.SAMPLING) {
+            SolverEvents.solveStarted();
+            double s = impliedVolatilityOfLogPrice(lnBeta, x, q, N);
+            SolverEvents.solveFinished();
+            return s;
+        }
+        return impliedVolatilityOfLogPrice(lnBeta, x, q, N);
+    }
+
+    // Solve body; the core above times it when SolverEvents samples the solve
+    private static double impliedVolatilityOfLogPrice(double lnBeta, double x, int q, int N) {
+
+        // Map puts to calls
+        if (q < 0) {
+            x = -x;
+        }
+
+        // Handle edge cases
+        if (lnBeta == Double.NEGATIVE_INFINITY) {
+            return 0.0;
+        }
+        if (lnBeta >= 0.5 * x) {
+            return VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_ABOVE_MAXIMUM;
+        }
+
+        double beta = Math.exp(lnBeta);
+
+        // At and near the money: b = 2Φ(s/2) - 1 + x/2 + O(x²) inverts in closed form
+        if (isNearTheMoney(beta, x)) {
+            if (SolverStatistics.HOOKS) {
+                SolverStatistics.branch(SolverStatistics.AT_THE_MONEY);
+            }
+            return nearTheMoneyVolatility(beta, x);
+        }
+
+        return impliedVolatilityOfOutOfTheMoneyCall(beta, lnBeta, x, Math.exp(0.5 * x), N);
+    }
+
+    /**
+     * Whether an out-of-the-money call is close enough to the money to invert in closed form.
+     *
+     * At x = 0, ∂b/∂x = ½ for every s, so b(x, s) = 2Φ(s/2) - 1 + x/2 + O(x²). The x² term
+     * is ½x²·(b(0, s)/4 + φ(s/2)/s), which for |x| ≤ √ε·β stays below ε·β/8, a quarter of
+     * an ulp of β, for every s: the first-order inversion is then as accurate as the iterations.
+     *
+     * @param beta normalized out-of-the-money call price, 0 < β < b_max
+     * @param x log-moneyness (x ≤ 0)
+     * @return whether {@link #nearTheMoneyVolatility(double, double)} applies
+     */
+    static boolean isNearTheMoney(double beta, double x) {
+        // β - x/2 < 1 also rules out rounding up to 1 just below b_max
+        return -x <= NEAR_THE_MONEY_MAXIMUM_RELATIVE_LOG_MONEYNESS * beta && beta - 0.5 * x < 1.0;
+    }
+
+    /**
+     * σ√T of a near-the-money call from 2Φ(s/2) - 1 = β - x/2.
+     *
+     * @param beta normalized out-of-the-money call price
+     * @param x log-moneyness with {@link #isNearTheMoney(double, double)}
+     * @return σ√T
+     */
+    static double nearTheMoneyVolatility(double beta, double x) {
+        return 2.0 * inverseCentralCdf(beta - 0.5 * x);
+    }
+
+    /**
+     * Four-branch initial guess and iterations for an out-of-the-money call, x < 0.
+     *
+     * @param beta normalized price, 0 ≤ β < b_max
+     * @param lnBeta ln β, or NaN to take the logarithm only if branch 1 needs it
+     * @param x log-moneyness (x < 0)
+     * @param bMax maximum normalized call price exp(x/2)
+     * @param N maximum iterations
+     * @return σ√T
+     */
+    private static double impliedVolatilityOfOutOfTheMoneyCall(double beta, double lnBeta, double x,
+                                                               double bMax, int N) {
+        // Compute inflection point
+        double sC = Math.sqrt(Math.abs(2.0 * x));
+        double bC = normalisedBlackCall(x, sC);
+        double vC = normalisedVega(x, sC);
+
+        // Four branches for initial guess
+        if (beta < bC) {
+            // Lower half: branches 1 and 2
+            double sL = sC - bC / vC;
+            double bL = normalisedBlackCall(x, sL);
+
+            if (beta < bL) {
+                // Branch 1: Very low prices
+                if (SolverStatistics.HOOKS) {
+                    SolverStatistics.branch(1);
+                }
+                if (Double.isNaN(lnBeta)) {
+                    lnBeta = Math.log(beta);
+                }
+                double s = beta >= DBL_MIN
+                        ? lowerBranchGuess(beta, x, sL, bL)
+                        : lowerBranchGuessFromLogPrice(lnBeta, x);
+                return householderOnLowerObjective(lnBeta, x, s, DBL_MIN, sL, N);
+            }
+
+            // Branch 2: Center-left
+            if (SolverStatistics.HOOKS) {
+                SolverStatistics.branch(2);
+            }
+            double s = centreLeftGuess(beta, x, sL, bL, sC, bC, vC);
+            return householderOnMiddleObjective(beta, x, s, sL, sC, N);
+        }
+
+        // Upper half: branches 3 and 4
+        double sH = vC > DBL_MIN ? sC + (bMax - bC) / vC : sC;
+        double bH = normalisedBlackCall(x, sH);
+
+        if (beta <= bH) {
+            // Branch 3: Center-right
+            if (SolverStatistics.HOOKS) {
+                SolverStatistics.branch(3);
+            }
+            double s = centreRightGuess(beta, x, sC, bC, vC, sH, bH);
+            return householderOnMiddleObjective(beta, x, s, sC, sH, N);
+        }
+
+        // Branch 4: Very high prices
+        if (SolverStatistics.HOOKS) {
+            SolverStatistics.branch(4);
+        }
+        double s = upperBranchGuess(beta, x, bMax, sH, bH);
+        if (beta > 0.5 * bMax) {
+            return householderOnUpperObjective(beta, x, bMax, s, sH, DBL_MAX, N);
+        }
+        return householderOnMiddleObjective(beta, x, s, sH, DBL_MAX, N);
+    }
+
+    /**
+     * Core algorithm with the inflection-point state taken from a precomputed context.
+     *
+     * Same branches and iterations as
+     * {@link #uncheckedNormalisedImpliedVolatilityFromATransformedRationalGuessWithLimitedIterations(double, double, int, int)},
+     * skipping every evaluation that depends only on the log-moneyness.
+     *
+     * @param beta normalized price
+     * @param context precomputed state for x = ln(F/K)
+     * @param q +1 for call, -1 for put
+     * @param N maximum iterations (typically 2)
+     * @return σ√T (normalized implied volatility), or
+     *         {@link Constants#VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_ABOVE_MAXIMUM}
+     */
+    static double uncheckedNormalisedImpliedVolatilityFromATransformedRationalGuessWithLimitedIterations(
+            double beta, MoneynessContext context, int q, int N) {
+        if (SolverEvents.SAMPLING) {
+            SolverEvents.solveStarted();
+            double s = impliedVolatilityOfNormalisedPrice(beta, context, q, N);
+            SolverEvents.solveFinished();
+            return s;
+        }
+        return impliedVolatilityOfNormalisedPrice(beta, context, q, N);
+    }
+
+    // Solve body; the core above times it when SolverEvents samples the solve
+    private static double impliedVolatilityOfNormalisedPrice(double beta, MoneynessContext context, int q, int N) {
+
+        // Subtract intrinsic and map to out-of-the-money
+        if (q * context.x > 0) {
+            beta = Math.abs(Math.max(beta - context.intrinsic, 0.0));
+        }
+
+        // Handle edge cases
+        if (beta <= 0) {
+            return 0.0;
+        }
+        if (beta < DENORMALIZATION_CUTOFF) {
+            return 0.0;
+        }
+
+        MoneynessContext c = context;
+        double x = c.xOtm;
+        if (beta >= c.bMax) {
+            return VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_ABOVE_MAXIMUM;
+        }
+
+        // At and near the money: b = 2Φ(s/2) - 1 + x/2 + O(x²) inverts in closed form
+        if (isNearTheMoney(beta, x)) {
+            if (SolverStatistics.HOOKS) {
+                SolverStatistics.branch(SolverStatistics.AT_THE_MONEY);
+            }
+            return nearTheMoneyVolatility(beta, x);
+        }
+
+        if (beta < c.bC) {
+            if (beta < c.bL) {
+                // Branch 1: Very low prices
+                if (SolverStatistics.HOOKS) {
+                    SolverStatistics.branch(1);
+                }
+                double lnBeta = Math.log(beta);
+                double s = beta >= DBL_MIN
+                        ? lowerBranchGuess(beta, x, c.bL, c.fLowerMapL, c.dFLowerMapLdBeta, c.rLL)
+                        : lowerBranchGuessFromLogPrice(lnBeta, x);
+                return householderOnLowerObjective(lnBeta, x, s, DBL_MIN, c.sL, N);
+            }
+
+            // Branch 2: Center-left
+            if (SolverStatistics.HOOKS) {
+                SolverStatistics.branch(2);
+            }
+            double s = centreLeftGuess(beta, c.sL, c.bL, c.vL, c.sC, c.bC, c.vC, c.rLM);
+            return householderOnMiddleObjective(beta, x, s, c.sL, c.sC, N);
+        }
+
+        if (beta <= c.bH) {
+            // Branch 3: Center-right
+            if (SolverStatistics.HOOKS) {
+                SolverStatistics.branch(3);
+            }
+            double s = centreRightGuess(beta, c.sC, c.bC, c.vC, c.sH, c.bH, c.vH, c.rHM);
+            return householderOnMiddleObjective(beta, x, s, c.sC, c.sH, N);
+        }
+
+        // Branch 4: Very high prices
+        if (SolverStatistics.HOOKS) {
+            SolverStatistics.branch(4);
+        }
+        double s = upperBranchGuess(beta, c.bMax, c.bH, c.fUpperMapH, c.dFUpperMapHdBeta, c.rHH, c.interpolateUpper);
+        if (beta > 0.5 * c.bMax) {
+            return householderOnUpperObjective(beta, x, c.bMax, s, c.sH, DBL_MAX, N);
+        }
+        return householderOnMiddleObjective(beta, x, s, c.sH, DBL_MAX, N);
+    }
+
+    /**
+     * Core algorithm started from a previous solution instead of the rational guess.
+     *
+     * The objective is chosen from the previous σ√T: lower below the inflection point
+     * s_C, upper when β > b_max/2, middle otherwise. If the Newton step of that objective
+     * at the previous solution exceeds {@link Constants#WARM_START_MAXIMUM_RELATIVE_STEP}
+     * of it, the price has moved too far and the full rational guess is used instead.
+     * Otherwise the Householder(3) iterations start from the previous solution. They are
+     * bracketed, as in the cold path, by the s_L/s_C/s_H interval of the initial-guess
+     * branch β falls in, narrowed by the previous solution on the side the price moved
+     * away from, so a bad warm guess falls back to bisection within the branch.
+     *
+     * @param beta normalized price
+     * @param x log-moneyness ln(F/K)
+     * @param q +1 for call, -1 for put
+     * @param previousS previous σ√T at the same log-moneyness
+     * @param N maximum iterations (typically 2)
+     * @return σ√T (normalized implied volatility), or
+     *         {@link Constants#VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_ABOVE_MAXIMUM}
+     */
+    static double uncheckedNormalisedImpliedVolatilityFromPreviousSolutionWithLimitedIterations(
+            double beta, double x, int q, double previousS, int N) {
+        if (SolverEvents.SAMPLING) {
+            SolverEvents.solveStarted();
+            double s = impliedVolatilityFromPreviousSolution(beta, x, q, previousS, N);
+            SolverEvents.solveFinished();
+            return s;
+        }
+        return impliedVolatilityFromPreviousSolution(beta, x, q, previousS, N);
+    }
+
+    // Solve body; the core above times it when SolverEvents samples the solve
+    private static double impliedVolatilityFromPreviousSolution(double beta, double x, int q, double previousS, int N) {
+
+        // Subtract intrinsic and map to out-of-the-money
+        if (q * x > 0) {
+            beta = Math.abs(Math.max(beta - normalisedIntrinsic(x, q), 0.0));
+            q = -q;
+        }
+
+        // Map puts to calls
+        if (q < 0) {
+            x = -x;
+            q = -q;
+        }
+
+        // Handle edge cases
+        if (beta <= 0) {
+            return 0.0;
+        }
+        if (beta < DENORMALIZATION_CUTOFF) {
+            return 0.0;
+        }
+
+        double bMax = Math.exp(0.5 * x);
+        if (beta >= bMax) {
+            return VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_ABOVE_MAXIMUM;
+        }
+
+        // At and near the money: b = 2Φ(s/2) - 1 + x/2 + O(x²) inverts in closed form
+        if (isNearTheMoney(beta, x)) {
+            if (SolverStatistics.HOOKS) {
+                SolverStatistics.branch(SolverStatistics.AT_THE_MONEY);
+            }
+            return nearTheMoneyVolatility(beta, x);
+        }
+
+        double s = previousS;
+        double e = s > 0 ? normalisedBlackExponentialFactor(x, s) : 0.0;
+        double bp = ONE_OVER_SQRT_TWO_PI * e;
+        double b = normalisedBlackCall(x, s, e);
+
+        if (!(b >= DBL_MIN && bp > 0 && b < bMax)) {
+            // No usable previous solution, or one priced in the denormalized range
+            return impliedVolatilityOfNormalisedPrice(beta, x, q, N);
+        }
+
+        double sC = Math.sqrt(Math.abs(2.0 * x));
+        int objective;
+        double newton;
+        if (s < sC) {
+            double lnB = Math.log(b);
+            double lnBeta = Math.log(beta);
+            objective = 1;
+            newton = (lnBeta - lnB) * lnB / lnBeta / (bp / b);
+        } else if (beta > 0.5 * bMax) {
+            objective = 3;
+            newton = -Math.log((bMax - beta) / (bMax - b)) / (bp / (bMax - b));
+        } else {
+            objective = 2;
+            newton = (beta - b) / bp;
+        }
+
+        if (!(Math.abs(newton) <= WARM_START_MAXIMUM_RELATIVE_STEP * s)) {
+            // Price moved too far from the previous solution
+            return impliedVolatilityOfNormalisedPrice(beta, x, q, N);
+        }
+
+        // Bracket: the previous solution on the side the price moved away from, narrowed to
+        // the s_L/s_C/s_H interval of the initial-guess branch β falls in, as in the cold
+        // path. b_L or b_H is evaluated only when the previous solution does not settle it.
+        double sLeft = b < beta ? s : DBL_MIN;
+        double sRight = b > beta ? s : DBL_MAX;
+        double eC = normalisedBlackExponentialFactor(x, sC);
+        double bC = normalisedBlackCall(x, sC, eC);
+        double vC = ONE_OVER_SQRT_TWO_PI * eC;
+        if (beta < bC) {
+            sRight = Math.min(sRight, sC);
+            double sL = sC - bC / vC;
+            if (sL > sLeft && sL < sRight) {
+                if (beta < normalisedBlackCall(x, sL)) {
+                    sRight = sL;
+                } else {
+                    sLeft = sL;
+                }
+            }
+        } else {
+            sLeft = Math.max(sLeft, sC);
+            double sH = vC > DBL_MIN ? sC + (bMax - bC) / vC : sC;
+            if (sH > sLeft && sH < sRight) {
+                if (beta <= normalisedBlackCall(x, sH)) {
+                    sRight = sH;
+                } else {
+                    sLeft = sH;
+                }
+            }
+        }
+        if (!(sLeft < sRight)) {
+            // Rounding put the previous solution on the wrong side of s_C
+            return impliedVolatilityOfNormalisedPrice(beta, x, q, N);
+        }
+
+        if (objective == 1) {
+            return householderOnLowerObjective(Math.log(beta), x, s, sLeft, sRight, N);
+        }
+        if (objective == 3) {
+            return householderOnUpperObjective(beta, x, bMax, s, sLeft, sRight, N);
+        }
+        return householderOnMiddleObjective(beta, x, s, sLeft, sRight, N);
+    }
+
+    /**
+     * Compute normalized implied volatility from normalized price.
+     *
+     * @param beta normalized price β = price / √(F·K)
+     * @param x log-moneyness ln(F/K)
+     * @param q +1 for call, -1 for put
+     * @return σ√T (normalized implied volatility)
+     * @throws BelowIntrinsicException if price is below intrinsic value
+     * @throws AboveMaximumException if price exceeds maximum possible value
+     */
+    public static double normalisedImpliedVolatilityFromATransformedRationalGuess(
+            double beta, double x, int q) {
+        return throwIfSignal(normalisedImpliedVolatilityFromATransformedRationalGuessOrSignal(beta, x, q));
+    }
+
+    /**
+     * Compute normalized implied volatility from normalized price without throwing.
+     *
+     * Invalid prices are reported through the signal values of {@link Constants}
+     * instead of exceptions, so that bad quotes in a chain cost no more than good ones.
+     *
+     * @param beta normalized price β = price / √(F·K)
+     * @param x log-moneyness ln(F/K)
+     * @param q +1 for call, -1 for put
+     * @return σ√T (normalized implied volatility), or
+     *         {@link Constants#VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_BELOW_INTRINSIC} /
+     *         {@link Constants#VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_ABOVE_MAXIMUM}
+     */
+    public static double normalisedImpliedVolatilityFromATransformedRationalGuessOrSignal(
+            double beta, double x, int q) {
 
         // Map in-the-money to out-of-the-money
         if (q * x > 0) {
@@ -630,13 +1391,54 @@ public class LetsBeRational {
         }
 
         if (beta < 0) {
-            throw new BelowIntrinsicException();
+            return VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_BELOW_INTRINSIC;
         }
 
         return uncheckedNormalisedImpliedVolatilityFromATransformedRationalGuessWithLimitedIterations(
                 beta, x, q, IMPLIED_VOLATILITY_MAXIMUM_ITERATIONS);
     }
 
+    /**
+     * Compute normalized implied volatility from the logarithm of the normalized price.
+     *
+     * For deep out-of-the-money quotes held as ln β, the lower branch iterates on ln β
+     * directly, without converting to β and back; prices too small for a double are
+     * still solved.
+     *
+     * @param lnBeta ln β with β = price / √(F·K)
+     * @param x log-moneyness ln(F/K)
+     * @param q +1 for call, -1 for put
+     * @return σ√T (normalized implied volatility)
+     * @throws BelowIntrinsicException if price is below intrinsic value
+     * @throws AboveMaximumException if price exceeds maximum possible value
+     */
+    public static double normalisedImpliedVolatilityFromLogPrice(double lnBeta, double x, int q) {
+        return throwIfSignal(normalisedImpliedVolatilityFromLogPriceOrSignal(lnBeta, x, q));
+    }
+
+    /**
+     * Compute normalized implied volatility from the logarithm of the normalized price
+     * without throwing.
+     *
+     * In-the-money prices are at least their intrinsic value, which is not small, and
+     * are solved through
+     * {@link #normalisedImpliedVolatilityFromATransformedRationalGuessOrSignal(double, double, int)}.
+     *
+     * @param lnBeta ln β with β = price / √(F·K)
+     * @param x log-moneyness ln(F/K)
+     * @param q +1 for call, -1 for put
+     * @return σ√T (normalized implied volatility), or
+     *         {@link Constants#VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_BELOW_INTRINSIC} /
+     *         {@link Constants#VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_ABOVE_MAXIMUM}
+     */
+    public static double normalisedImpliedVolatilityFromLogPriceOrSignal(double lnBeta, double x, int q) {
+        if (q * x > 0) {
+            return normalisedImpliedVolatilityFromATransformedRationalGuessOrSignal(Math.exp(lnBeta), x, q);
+        }
+        return uncheckedNormalisedImpliedVolatilityFromLogPriceWithLimitedIterations(
+                lnBeta, x, q, IMPLIED_VOLATILITY_MAXIMUM_ITERATIONS);
+    }
+
     /**
      * Compute Black implied volatility from option price.
      *
@@ -653,16 +1455,36 @@ public class LetsBeRational {
      */
     public static double impliedVolatilityFromATransformedRationalGuess(
             double price, double F, double K, double T, int q) {
+        return throwIfSignal(impliedVolatilityFromATransformedRationalGuessOrSignal(price, F, K, T, q));
+    }
+
+    /**
+     * Compute Black implied volatility from option price without throwing.
+     *
+     * Invalid prices are reported through the signal values of {@link Constants}
+     * instead of exceptions, so that bad quotes in a chain cost no more than good ones.
+     *
+     * @param price option price
+     * @param F forward price
+     * @param K strike price
+     * @param T time to expiration
+     * @param q +1 for call, -1 for put
+     * @return implied volatility σ, or
+     *         {@link Constants#VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_BELOW_INTRINSIC} /
+     *         {@link Constants#VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_ABOVE_MAXIMUM}
+     */
+    public static double impliedVolatilityFromATransformedRationalGuessOrSignal(
+            double price, double F, double K, double T, int q) {
 
         double intrinsic = Math.abs(Math.max(q < 0 ? K - F : F - K, 0.0));
 
         if (price < intrinsic) {
-            throw new BelowIntrinsicException();
+            return VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_BELOW_INTRINSIC;
         }
 
         double maxPrice = q < 0 ? K : F;
         if (price >= maxPrice) {
-            throw new AboveMaximumException();
+            return VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_ABOVE_MAXIMUM;
         }
 
         double x = Math.log(F / K);
@@ -673,8 +1495,301 @@ public class LetsBeRational {
             q = -q;
         }
 
+        double s = uncheckedNormalisedImpliedVolatilityFromATransformedRationalGuessWithLimitedIterations(
+                price / (Math.sqrt(F) * Math.sqrt(K)), x, q, IMPLIED_VOLATILITY_MAXIMUM_ITERATIONS);
+        return isSignal(s) ? s : s / Math.sqrt(T);
+    }
+
+    /**
+     * Compute normalized implied volatility at a chosen precision tier.
+     *
+     * @param beta normalized price β = price / √(F·K)
+     * @param x log-moneyness ln(F/K)
+     * @param q +1 for call, -1 for put
+     * @param precision number of iterations after the initial guess
+     * @return σ√T (normalized implied volatility)
+     * @throws BelowIntrinsicException if price is below intrinsic value
+     * @throws AboveMaximumException if price exceeds maximum possible value
+     */
+    public static double normalisedImpliedVolatilityFromATransformedRationalGuess(
+            double beta, double x, int q, Precision precision) {
+        return throwIfSignal(normalisedImpliedVolatilityFromATransformedRationalGuessOrSignal(beta, x, q, precision));
+    }
+
+    /**
+     * Compute normalized implied volatility at a chosen precision tier without throwing.
+     *
+     * @param beta normalized price β = price / √(F·K)
+     * @param x log-moneyness ln(F/K)
+     * @param q +1 for call, -1 for put
+     * @param precision number of iterations after the initial guess
+     * @return σ√T (normalized implied volatility), or
+     *         {@link Constants#VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_BELOW_INTRINSIC} /
+     *         {@link Constants#VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_ABOVE_MAXIMUM}
+     */
+    public static double normalisedImpliedVolatilityFromATransformedRationalGuessOrSignal(
+            double beta, double x, int q, Precision precision) {
+
+        // Map in-the-money to out-of-the-money
+        if (q * x > 0) {
+            beta -= normalisedIntrinsic(x, q);
+            q = -q;
+        }
+
+        if (beta < 0) {
+            return VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_BELOW_INTRINSIC;
+        }
+
         return uncheckedNormalisedImpliedVolatilityFromATransformedRationalGuessWithLimitedIterations(
-                price / (Math.sqrt(F) * Math.sqrt(K)), x, q, IMPLIED_VOLATILITY_MAXIMUM_ITERATIONS) / Math.sqrt(T);
+                beta, x, q, precision.iterations());
+    }
+
+    /**
+     * Compute Black implied volatility at a chosen precision tier.
+     *
+     * @param price option price
+     * @param F forward price
+     * @param K strike price
+     * @param T time to expiration
+     * @param q +1 for call, -1 for put
+     * @param precision number of iterations after the initial guess
+     * @return implied volatility σ
+     * @throws BelowIntrinsicException if price is below intrinsic value
+     * @throws AboveMaximumException if price exceeds maximum possible value
+     */
+    public static double impliedVolatilityFromATransformedRationalGuess(
+            double price, double F, double K, double T, int q, Precision precision) {
+        return throwIfSignal(impliedVolatilityFromATransformedRationalGuessOrSignal(price, F, K, T, q, precision));
+    }
+
+    /**
+     * Compute Black implied volatility at a chosen precision tier without throwing.
+     *
+     * @param price option price
+     * @param F forward price
+     * @param K strike price
+     * @param T time to expiration
+     * @param q +1 for call, -1 for put
+     * @param precision number of iterations after the initial guess
+     * @return implied volatility σ, or
+     *         {@link Constants#VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_BELOW_INTRINSIC} /
+     *         {@link Constants#VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_ABOVE_MAXIMUM}
+     */
+    public static double impliedVolatilityFromATransformedRationalGuessOrSignal(
+            double price, double F, double K, double T, int q, Precision precision) {
+
+        double intrinsic = Math.abs(Math.max(q < 0 ? K - F : F - K, 0.0));
+
+        if (price < intrinsic) {
+            return VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_BELOW_INTRINSIC;
+        }
+
+        double maxPrice = q < 0 ? K : F;
+        if (price >= maxPrice) {
+            return VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_ABOVE_MAXIMUM;
+        }
+
+        double x = Math.log(F / K);
+
+        // Map in-the-money to out-of-the-money
+        if (q * x > 0) {
+            price = Math.abs(Math.max(price - intrinsic, 0.0));
+            q = -q;
+        }
+
+        double s = uncheckedNormalisedImpliedVolatilityFromATransformedRationalGuessWithLimitedIterations(
+                price / (Math.sqrt(F) * Math.sqrt(K)), x, q, precision.iterations());
+        return isSignal(s) ? s : s / Math.sqrt(T);
+    }
+
+    /**
+     * Compute normalized implied volatility at a precomputed log-moneyness.
+     *
+     * @param beta normalized price β = price / √(F·K)
+     * @param context precomputed state for x = ln(F/K)
+     * @param q +1 for call, -1 for put
+     * @return σ√T (normalized implied volatility)
+     * @throws BelowIntrinsicException if price is below intrinsic value
+     * @throws AboveMaximumException if price exceeds maximum possible value
+     */
+    public static double normalisedImpliedVolatilityFromATransformedRationalGuess(
+            double beta, MoneynessContext context, int q) {
+        return throwIfSignal(normalisedImpliedVolatilityFromATransformedRationalGuessOrSignal(beta, context, q));
+    }
+
+    /**
+     * Compute normalized implied volatility at a precomputed log-moneyness without throwing.
+     *
+     * @param beta normalized price β = price / √(F·K)
+     * @param context precomputed state for x = ln(F/K)
+     * @param q +1 for call, -1 for put
+     * @return σ√T (normalized implied volatility), or
+     *         {@link Constants#VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_BELOW_INTRINSIC} /
+     *         {@link Constants#VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_ABOVE_MAXIMUM}
+     */
+    public static double normalisedImpliedVolatilityFromATransformedRationalGuessOrSignal(
+            double beta, MoneynessContext context, int q) {
+
+        // Map in-the-money to out-of-the-money
+        if (q * context.x > 0) {
+            beta -= context.intrinsic;
+            q = -q;
+        }
+
+        if (beta < 0) {
+            return VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_BELOW_INTRINSIC;
+        }
+
+        return uncheckedNormalisedImpliedVolatilityFromATransformedRationalGuessWithLimitedIterations(
+                beta, context, q, IMPLIED_VOLATILITY_MAXIMUM_ITERATIONS);
+    }
+
+    /**
+     * Compute Black implied volatility at a precomputed forward and strike.
+     *
+     * @param price option price
+     * @param context precomputed state built with {@link MoneynessContext#of(double, double)}
+     * @param T time to expiration
+     * @param q +1 for call, -1 for put
+     * @return implied volatility σ
+     * @throws BelowIntrinsicException if price is below intrinsic value
+     * @throws AboveMaximumException if price exceeds maximum possible value
+     * @throws IllegalStateException if the context was built from a log-moneyness only
+     */
+    public static double impliedVolatilityFromATransformedRationalGuess(
+            double price, MoneynessContext context, double T, int q) {
+        return throwIfSignal(impliedVolatilityFromATransformedRationalGuessOrSignal(price, context, T, q));
+    }
+
+    /**
+     * Compute Black implied volatility at a precomputed forward and strike without throwing.
+     *
+     * @param price option price
+     * @param context precomputed state built with {@link MoneynessContext#of(double, double)}
+     * @param T time to expiration
+     * @param q +1 for call, -1 for put
+     * @return implied volatility σ, or
+     *         {@link Constants#VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_BELOW_INTRINSIC} /
+     *         {@link Constants#VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_ABOVE_MAXIMUM}
+     * @throws IllegalStateException if the context was built from a log-moneyness only
+     */
+    public static double impliedVolatilityFromATransformedRationalGuessOrSignal(
+            double price, MoneynessContext context, double T, int q) {
+        if (!context.hasForwardAndStrike()) {
+            throw new IllegalStateException("Context was built without forward and strike");
+        }
+
+        double F = context.F;
+        double K = context.K;
+        double intrinsic = Math.abs(Math.max(q < 0 ? K - F : F - K, 0.0));
+
+        if (price < intrinsic) {
+            return VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_BELOW_INTRINSIC;
+        }
+
+        double maxPrice = q < 0 ? K : F;
+        if (price >= maxPrice) {
+            return VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_ABOVE_MAXIMUM;
+        }
+
+        // Map in-the-money to out-of-the-money
+        if (q * context.x > 0) {
+            price = Math.abs(Math.max(price - intrinsic, 0.0));
+            q = -q;
+        }
+
+        double s = uncheckedNormalisedImpliedVolatilityFromATransformedRationalGuessWithLimitedIterations(
+                price / context.sqrtFK, context, q, IMPLIED_VOLATILITY_MAXIMUM_ITERATIONS);
+        return isSignal(s) ? s : s / Math.sqrt(T);
+    }
+
+    /**
+     * Compute Black implied volatility starting from the previous solution.
+     *
+     * For streaming quotes, where the implied volatility of consecutive ticks differs
+     * by a few basis points, the previous σ replaces the four-branch rational guess.
+     * Falls back to {@link #impliedVolatilityFromATransformedRationalGuess} when the
+     * price has moved too far or {@code previousSigma} is not positive.
+     *
+     * @param price option price
+     * @param F forward price
+     * @param K strike price
+     * @param T time to expiration
+     * @param q +1 for call, -1 for put
+     * @param previousSigma implied volatility of the previous tick
+     * @return implied volatility σ
+     * @throws BelowIntrinsicException if price is below intrinsic value
+     * @throws AboveMaximumException if price exceeds maximum possible value
+     */
+    public static double impliedVolatilityFromPreviousSolution(
+            double price, double F, double K, double T, int q, double previousSigma) {
+        return throwIfSignal(impliedVolatilityFromPreviousSolutionOrSignal(price, F, K, T, q, previousSigma));
+    }
+
+    /**
+     * Compute Black implied volatility starting from the previous solution without throwing.
+     *
+     * @param price option price
+     * @param F forward price
+     * @param K strike price
+     * @param T time to expiration
+     * @param q +1 for call, -1 for put
+     * @param previousSigma implied volatility of the previous tick
+     * @return implied volatility σ, or
+     *         {@link Constants#VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_BELOW_INTRINSIC} /
+     *         {@link Constants#VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_ABOVE_MAXIMUM}
+     */
+    public static double impliedVolatilityFromPreviousSolutionOrSignal(
+            double price, double F, double K, double T, int q, double previousSigma) {
+
+        double intrinsic = Math.abs(Math.max(q < 0 ? K - F : F - K, 0.0));
+
+        if (price < intrinsic) {
+            return VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_BELOW_INTRINSIC;
+        }
+
+        double maxPrice = q < 0 ? K : F;
+        if (price >= maxPrice) {
+            return VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_ABOVE_MAXIMUM;
+        }
+
+        double x = Math.log(F / K);
+
+        // Map in-the-money to out-of-the-money
+        if (q * x > 0) {
+            price = Math.abs(Math.max(price - intrinsic, 0.0));
+            q = -q;
+        }
+
+        double sqrtT = Math.sqrt(T);
+        double s = uncheckedNormalisedImpliedVolatilityFromPreviousSolutionWithLimitedIterations(
+                price / (Math.sqrt(F) * Math.sqrt(K)), x, q, previousSigma * sqrtT,
+                IMPLIED_VOLATILITY_MAXIMUM_ITERATIONS);
+        return isSignal(s) ? s : s / sqrtT;
+    }
+
+    /**
+     * Check whether a volatility is one of the signal values for invalid prices.
+     *
+     * @param volatility result of an {@code ...OrSignal} method
+     * @return true if the price was below intrinsic or above maximum
+     */
+    public static boolean isSignal(double volatility) {
+        return volatility == VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_BELOW_INTRINSIC ||
+               volatility == VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_ABOVE_MAXIMUM;
+    }
+
+    /**
+     * Convert a signal value into the corresponding exception.
+     */
+    private static double throwIfSignal(double volatility) {
+        if (volatility == VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_BELOW_INTRINSIC) {
+            throw new BelowIntrinsicException();
+        }
+        if (volatility == VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_ABOVE_MAXIMUM) {
+            throw new AboveMaximumException();
+        }
+        return volatility;
     }
 
     // Prevent instantiation
@@ -0,0 +1,209 @@
+package com.berational;
+
+import static com.berational.Constants.*;
+
+/**
+ * Batch entry points for Let's Be Rational over columnar option data.
+ *
+ * Solves many options per call from parallel {@code double[]} columns of
+ * price, forward, strike and expiry plus an {@code int[]} column of call/put
+ * flags. Every option goes through the same Householder(3) core as
+ * {@link LetsBeRational#impliedVolatilityFromATransformedRationalGuess}, so the
+ * results are bit-identical to the scalar loop.
+ *
+ * Two flavours are provided:
+ * - Without a status column: throws on the first invalid price, like the scalar API
+ * - With a status column: never throws; invalid prices get the signal values of
+ *   {@link Constants} in the output and a non-zero status code
+ *
+ * When the {@code jdk.incubator.vector} module is resolved at runtime
+ * (e.g. {@code --add-modules jdk.incubator.vector}), the column validation and the
+ * price/time normalisation run on Vector API lanes. Otherwise a scalar loop is used.
+ */
+public final class LetsBeRationalBatch {
+
+    /** Status code: implied volatility solved. */
+    public static final byte STATUS_OK = 0;
+    /** Status code: price below intrinsic value. */
+    public static final byte STATUS_BELOW_INTRINSIC = 1;
+    /** Status code: price at or above maximum possible value. */
+    public static final byte STATUS_ABOVE_MAXIMUM = 2;
+
+    /** True when the Vector API kernel can be used. */
+    static final boolean VECTOR_API_AVAILABLE =
+            ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    /**
+     * Compute Black implied volatilities for a batch of options.
+     *
+     * @param price option prices
+     * @param F forward prices
+     * @param K strike prices
+     * @param T times to expiration
+     * @param q +1 for call, -1 for put
+     * @param out implied volatilities σ (output)
+     * @throws BelowIntrinsicException if any price is below intrinsic value
+     * @throws AboveMaximumException if any price exceeds maximum possible value
+     */
+    public static void impliedVolatilities(double[] price, double[] F, double[] K, double[] T,
+                                           int[] q, double[] out) {
+        impliedVolatilities(price, F, K, T, q, out, 0, price.length);
+    }
+
+    /**
+     * Compute Black implied volatilities for the options in {@code [from, to)}.
+     *
+     * @param price option prices
+     * @param F forward prices
+     * @param K strike prices
+     * @param T times to expiration
+     * @param q +1 for call, -1 for put
+     * @param out implied volatilities σ (output)
+     * @param from first index (inclusive)
+     * @param to last index (exclusive)
+     * @throws BelowIntrinsicException if any price is below intrinsic value
+     * @throws AboveMaximumException if any price exceeds maximum possible value
+     */
+    public static void impliedVolatilities(double[] price, double[] F, double[] K, double[] T,
+                                           int[] q, double[] out, int from, int to) {
+        checkColumns(price, F, K, T, q, out, from, to);
+        BatchSolveEvent event = BatchSolveEvent.start("LetsBeRationalBatch", to - from);
+        try {
+            solve(price, F, K, T, q, out, null, from, to);
+        } catch (BelowIntrinsicException | AboveMaximumException e) {
+            event.failed(e);
+            throw e;
+        } finally {
+            event.finish(null, from, to);
+        }
+    }
+
+    /**
+     * Compute Black implied volatilities for a batch of options without throwing.
+     *
+     * @param price option prices
+     * @param F forward prices
+     * @param K strike prices
+     * @param T times to expiration
+     * @param q +1 for call, -1 for put
+     * @param out implied volatilities σ, or a signal value for invalid prices (output)
+     * @param status {@link #STATUS_OK}, {@link #STATUS_BELOW_INTRINSIC} or
+     *               {@link #STATUS_ABOVE_MAXIMUM} per option (output)
+     */
+    public static void impliedVolatilities(double[] price, double[] F, double[] K, double[] T,
+                                           int[] q, double[] out, byte[] status) {
+        impliedVolatilities(price, F, K, T, q, out, status, 0, price.length);
+    }
+
+    /**
+     * Compute Black implied volatilities for the options in {@code [from, to)} without throwing.
+     *
+     * @param price option prices
+     * @param F forward prices
+     * @param K strike prices
+     * @param T times to expiration
+     * @param q +1 for call, -1 for put
+     * @param out implied volatilities σ, or a signal value for invalid prices (output)
+     * @param status {@link #STATUS_OK}, {@link #STATUS_BELOW_INTRINSIC} or
+     *               {@link #STATUS_ABOVE_MAXIMUM} per option (output)
+     * @param from first index (inclusive)
+     * @param to last index (exclusive)
+     */
+    public static void impliedVolatilities(double[] price, double[] F, double[] K, double[] T,
+                                           int[] q, double[] out, byte[] status, int from, int to) {
+        checkColumns(price, F, K, T, q, out, from, to);
+        if (status.length != price.length) {
+            throw new IllegalArgumentException("All columns must have the same length");
+        }
+        BatchSolveEvent event = BatchSolveEvent.start("LetsBeRationalBatch", to - from);
+        solve(price, F, K, T, q, out, status, from, to);
+        event.finish(status, from, to);
+    }
+
+    /**
+     * Map a volatility returned by an {@code ...OrSignal} method to its status code.
+     *
+     * @param volatility implied volatility or signal value
+     * @return status code
+     */
+    public static byte statusOf(double volatility) {
+        if (volatility == VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_BELOW_INTRINSIC) {
+            return STATUS_BELOW_INTRINSIC;
+        }
+        if (volatility == VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_ABOVE_MAXIMUM) {
+            return STATUS_ABOVE_MAXIMUM;
+        }
+        return STATUS_OK;
+    }
+
+    /**
+     * Dispatch to the Vector API kernel or the scalar loop.
+     *
+     * A null status column selects the throwing flavour.
+     */
+    static void solve(double[] price, double[] F, double[] K, double[] T,
+                      int[] q, double[] out, byte[] status, int from, int to) {
+        if (VECTOR_API_AVAILABLE) {
+            VectorBatchKernel.impliedVolatilities(price, F, K, T, q, out, status, from, to);
+        } else {
+            scalarImpliedVolatilities(price, F, K, T, q, out, status, from, to);
+        }
+    }
+
+    /**
+     * Scalar fallback: one option at a time through the Householder(3) core.
+     *
+     * A null status column selects the throwing flavour.
+     */
+    static void scalarImpliedVolatilities(double[] price, double[] F, double[] K, double[] T,
+                                          int[] q, double[] out, byte[] status, int from, int to) {
+        if (status == null) {
+            for (int i = from; i < to; i++) {
+                out[i] = LetsBeRational.impliedVolatilityFromATransformedRationalGuess(
+                        price[i], F[i], K[i], T[i], q[i]);
+            }
+        } else {
+            for (int i = from; i < to; i++) {
+                double sigma = LetsBeRational.impliedVolatilityFromATransformedRationalGuessOrSignal(
+                        price[i], F[i], K[i], T[i], q[i]);
+                out[i] = sigma;
+                status[i] = statusOf(sigma);
+            }
+        }
+    }
+
+    /**
+     * Solve a single option whose normalisation factor √F·√K has already been computed.
+     *
+     * Mirrors {@link LetsBeRational#impliedVolatilityFromATransformedRationalGuessOrSignal}
+     * after the range checks, returning σ√T or the above-maximum signal.
+     */
+    static double normalisedImpliedVolatility(double price, double F, double K, int q, double sqrtFK) {
+        double x = Math.log(F / K);
+
+        // Map in-the-money to out-of-the-money
+        if (q * x > 0) {
+            price = Math.abs(Math.max(price - Math.abs(Math.max(q < 0 ? K - F : F - K, 0.0)), 0.0));
+            q = -q;
+        }
+
+        return LetsBeRational.uncheckedNormalisedImpliedVolatilityFromATransformedRationalGuessWithLimitedIterations(
+                price / sqrtFK, x, q, IMPLIED_VOLATILITY_MAXIMUM_ITERATIONS);
+    }
+
+    static void checkColumns(double[] price, double[] F, double[] K, double[] T,
+                             int[] q, double[] out, int from, int to) {
+        int n = price.length;
+        if (F.length != n || K.length != n || T.length != n || q.length != n || out.length != n) {
+            throw new IllegalArgumentException("All columns must have the same length");
+        }
+        if (from < 0 || from > to || to > n) {
+            throw new IndexOutOfBoundsException("Range [" + from + ", " + to + ") out of bounds for length " + n);
+        }
+    }
+
+    // Prevent instantiation
+    private LetsBeRationalBatch() {
+        throw new AssertionError("LetsBeRationalBatch class should not be instantiated");
+    }
+}
@@ -0,0 +1,137 @@
+package com.berational;
+
+import static com.berational.Constants.*;
+import static com.berational.RationalCubic.*;
+
+/**
+ * Precomputed inflection-point state for one log-moneyness.
+ *
+ * Everything the four-branch initial guess needs apart from the price itself
+ * depends only on x = ln(F/K):
+ * - Inflection point sC = √(2|x|) with its price bC and vega vC
+ * - Bracket points sL, sH with their prices and vegas
+ * - f_lower_map and f_upper_map values at the brackets
+ * - Rational cubic control parameters of all four branches
+ *
+ * When strikes and forwards change rarely compared with option prices, build one
+ * context per (F, K) and pass it to the {@link LetsBeRational} overloads that take a
+ * context. A repeat solve then goes straight to the rational interpolation and the
+ * Householder(3) iterations, with results bit-identical to the plain entry points.
+ *
+ * Instances are immutable and may be shared between threads.
+ */
+public final class MoneynessContext {
+
+    // Inputs
+    final double x;
+    final double F;
+    final double K;
+    final double sqrtFK;
+
+    // Normalized intrinsic value subtracted for in-the-money options
+    final double intrinsic;
+
+    // Log-moneyness of the equivalent out-of-the-money call (x ≤ 0)
+    final double xOtm;
+    final double bMax;
+
+    // Inflection point
+    final double sC;
+    final double bC;
+    final double vC;
+
+    // Lower half: branches 1 and 2
+    final double sL;
+    final double bL;
+    final double vL;
+    final double fLowerMapL;
+    final double dFLowerMapLdBeta;
+    final double rLL;
+    final double rLM;
+
+    // Upper half: branches 3 and 4
+    final double sH;
+    final double bH;
+    final double vH;
+    final double rHM;
+    final double fUpperMapH;
+    final double dFUpperMapHdBeta;
+    final double rHH;
+    final boolean interpolateUpper;
+
+    private MoneynessContext(double x, double F, double K, double sqrtFK) {
+        this.x = x;
+        this.F = F;
+        this.K = K;
+        this.sqrtFK = sqrtFK;
+        this.intrinsic = LetsBeRational.normalisedIntrinsic(x, x > 0 ? 1 : -1);
+
+        double xm = -Math.abs(x);
+        xOtm = xm;
+        bMax = Math.exp(0.5 * xm);
+
+        sC = Math.sqrt(Math.abs(2.0 * xm));
+        bC = LetsBeRational.normalisedBlackCall(xm, sC);
+        vC = LetsBeRational.normalisedVega(xm, sC);
+
+        sL = sC - bC / vC;
+        bL = LetsBeRational.normalisedBlackCall(xm, sL);
+        vL = LetsBeRational.normalisedVega(xm, sL);
+        double PhiL = LetsBeRational.fLowerMapCdf(xm, sL);
+        fLowerMapL = LetsBeRational.fLowerMap(xm, sL, PhiL);
+        dFLowerMapLdBeta = LetsBeRational.dFLowerMapdBeta(xm, sL, PhiL);
+        rLL = convexRationalCubicControlParameterToFitSecondDerivativeAtRightSide(
+                0.0, bL, 0.0, fLowerMapL, 1.0, dFLowerMapLdBeta,
+                LetsBeRational.d2FLowerMapdBeta2(xm, sL, PhiL), true);
+        rLM = convexRationalCubicControlParameterToFitSecondDerivativeAtRightSide(
+                bL, bC, sL, sC, 1.0 / vL, 1.0 / vC, 0.0, false);
+
+        sH = vC > DBL_MIN ? sC + (bMax - bC) / vC : sC;
+        bH = LetsBeRational.normalisedBlackCall(xm, sH);
+        vH = LetsBeRational.normalisedVega(xm, sH);
+        rHM = convexRationalCubicControlParameterToFitSecondDerivativeAtLeftSide(
+                bC, bH, sC, sH, 1.0 / vC, 1.0 / vH, 0.0, false);
+        fUpperMapH = LetsBeRational.fUpperMap(sH);
+        dFUpperMapHdBeta = LetsBeRational.dFUpperMapdBeta(xm, sH);
+        double d2FUpperMapHdBeta2 = LetsBeRational.d2FUpperMapdBeta2(xm, sH);
+        interpolateUpper = LetsBeRational.fitsUpperBranchSecondDerivative(d2FUpperMapHdBeta2);
+        rHH = interpolateUpper
+                ? LetsBeRational.upperBranchControlParameter(bMax, bH, fUpperMapH, dFUpperMapHdBeta, d2FUpperMapHdBeta2)
+                : 0.0;
+    }
+
+    /**
+     * Context for a forward and strike, usable with both the price and normalized entry points.
+     *
+     * @param F forward price
+     * @param K strike price
+     * @return moneyness context for x = ln(F/K)
+     */
+    public static MoneynessContext of(double F, double K) {
+        return new MoneynessContext(Math.log(F / K), F, K, Math.sqrt(F) * Math.sqrt(K));
+    }
+
+    /**
+     * Context for a log-moneyness, usable with the normalized entry points only.
+     *
+     * @param x log-moneyness ln(F/K)
+     * @return moneyness context for x
+     */
+    public static MoneynessContext ofLogMoneyness(double x) {
+        return new MoneynessContext(x, Double.NaN, Double.NaN, Double.NaN);
+    }
+
+    /**
+     * @return log-moneyness ln(F/K)
+     */
+    public double logMoneyness() {
+        return x;
+    }
+
+    /**
+     * @return true if the context was built from a forward and strike
+     */
+    public boolean hasForwardAndStrike() {
+        return !Double.isNaN(sqrtFK);
+    }
+}
@@ -7,7 +7,7 @@ import static com.berational.Constants.*;
  *
  * Provides:
  * - PDF: probability density function
- * - CDF: cumulative distribution function
+ * - CDF: cumulative distribution function, and its logarithm
  * - Inverse CDF: quantile function (normal deviate)
  */
 public class NormalDistribution {
@@ -18,64 +18,17 @@ public class NormalDistribution {
 
     // ALGORITHM AS241 APPL. STATIST. (1988) VOL. 37, NO. 3
     // Coefficients for inverse normal CDF
-    private static final double SPLIT1 = 0.425;
-    private static final double SPLIT2 = 5.0;
-    private static final double CONST1 = 0.180625;
-    private static final double CONST2 = 1.6;
-
-    // Coefficients for P close to 0.5
-    private static final double A0 = 3.3871328727963666080E0;
-    private static final double A1 = 1.3314166789178437745E+2;
-    private static final double A2 = 1.9715909503065514427E+3;
-    private static final double A3 = 1.3731693765509461125E+4;
-    private static final double A4 = 4.5921953931549871457E+4;
-    private static final double A5 = 6.7265770927008700853E+4;
-    private static final double A6 = 3.3430575583588128105E+4;
-    private static final double A7 = 2.5090809287301226727E+3;
-
-    private static final double B1 = 4.2313330701600911252E+1;
-    private static final double B2 = 6.8718700749205790830E+2;
-    private static final double B3 = 5.3941960214247511077E+3;
-    private static final double B4 = 2.1213794301586595867E+4;
-    private static final double B5 = 3.9307895800092710610E+4;
-    private static final double B6 = 2.8729085735721942674E+4;
-    private static final double B7 = 5.2264952788528545610E+3;
-
-    // Coefficients for P not close to 0, 0.5 or 1
-    private static final double C0 = 1.42343711074968357734E0;
-    private static final double C1 = 4.63033784615654529590E0;
-    private static final double C2 = 5.76949722146069140550E0;
-    private static final double C3 = 3.64784832476320460504E0;
-    private static final double C4 = 1.27045825245236838258E0;
-    private static final double C5 = 2.41780725177450611770E-1;
-    private static final double C6 = 2.27238449892691845833E-2;
-    private static final double C7 = 7.74545014278341407640E-4;
-
-    private static final double D1 = 2.05319162663775882187E0;
-    private static final double D2 = 1.67638483018380384940E0;
-    private static final double D3 = 6.89767334985100004550E-1;
-    private static final double D4 = 1.48103976427480074590E-1;
-    private static final double D5 = 1.51986665636164571966E-2;
-    private static final double D6 = 5.47593808499534494600E-4;
-    private static final double D7 = 1.05075007164441684324E-9;
-
-    // Coefficients for P very close to 0 or 1
-    private static final double E0 = 6.65790464350110377720E0;
-    private static final double E1 = 5.46378491116411436990E0;
-    private static final double E2 = 1.78482653991729133580E0;
-    private static final double E3 = 2.96560571828504891230E-1;
-    private static final double E4 = 2.65321895265761230930E-2;
-    private static final double E5 = 1.24266094738807843860E-3;
-    private static final double E6 = 2.71155556874348757815E-5;
-    private static final double E7 = 2.01033439929228813265E-7;
-
-    private static final double F1 = 5.99832206555887937690E-1;
-    private static final double F2 = 1.36929880922735805310E-1;
-    private static final double F3 = 1.48753612908506148525E-2;
-    private static final double F4 = 7.86869131145613259100E-4;
-    private static final double F5 = 1.84631831751005468180E-5;
-    private static final double F6 = 1.42151175831644588870E-7;
-    private static final double F7 = 2.04426310338993978564E-15;
+    static final double SPLIT1 = 0.425;
+    static final double SPLIT2 = 5.0;
+    static final double CONST1 = 0.180625;
+    static final double CONST2 = 1.6;
+
+    // Below this ln u, u = exp(ln u) is no longer a normal double
+    private static final double LOG_DBL_MIN = Math.log(DBL_MIN);
+    private static final int INVERSE_LOG_CDF_MAXIMUM_ITERATIONS = 8;
+
+    // Rational coefficients for AS241 and its PPND7 variant are generated from
+    // src/main/codegen/polynomials.spec into Polynomials
 
     /**
      * Standard normal probability density function.
@@ -123,6 +76,53 @@ public class NormalDistribution {
         return 0.5 * CodyErf.erfc(-z * ONE_OVER_SQRT_TWO);
     }
 
+    /**
+     * Logarithm of the standard normal cumulative distribution function.
+     *
+     * For z < 0, Φ(z) = ½·erfcx(-z/√2)·exp(-z²/2), so
+     * ln Φ(z) = ln(½·erfcx(-z/√2)) - z²/2 stays finite where {@link #cdf} underflows.
+     * For z ≥ 0, ln Φ(z) = ln(1 - Φ(-z)) is taken with {@code Math.log1p}.
+     *
+     * @param z the argument
+     * @return ln Φ(z)
+     */
+    public static double logCdf(double z) {
+        if (z < 0) {
+            return Math.log(0.5 * CodyErf.erfcx(-z * ONE_OVER_SQRT_TWO)) - 0.5 * z * z;
+        }
+        return Math.log1p(-cdf(-z));
+    }
+
+    /**
+     * Inverse of {@link #logCdf}: z such that ln Φ(z) = ln u.
+     *
+     * Down to ln u = ln(DBL_MIN) this is {@link #inverseCdf} of exp(ln u). Further out,
+     * Newton's method on ln Φ, whose slope φ/Φ = 1/(√(π/2)·erfcx(-z/√2)) does not
+     * underflow, starts from z = -√(-2 ln u). That start lies left of the root and
+     * ln Φ is concave, so the iterates increase monotonically to the root.
+     *
+     * @param lnU logarithm of a probability, ln u ≤ 0
+     * @return z such that Φ(z) = u
+     */
+    public static double inverseLogCdf(double lnU) {
+        if (lnU >= LOG_DBL_MIN) {
+            return inverseCdf(Math.exp(lnU));
+        }
+        if (lnU == Double.NEGATIVE_INFINITY) {
+            return lnU;
+        }
+
+        double z = -Math.sqrt(-2.0 * lnU);
+        for (int i = 0; i < INVERSE_LOG_CDF_MAXIMUM_ITERATIONS; i++) {
+            double dz = (lnU - logCdf(z)) * SQRT_PI_OVER_TWO * CodyErf.erfcx(-z * ONE_OVER_SQRT_TWO);
+            z += dz;
+            if (!(Math.abs(dz) > DBL_EPSILON * -z)) {
+                break;
+            }
+        }
+        return z;
+    }
+
     /**
      * Inverse of cumulative distribution function (quantile function).
      *
@@ -145,29 +145,139 @@ public class NormalDistribution {
 
         // Central region: |u - 0.5| <= 0.425
         if (Math.abs(q) <= SPLIT1) {
-            double r = CONST1 - q * q;
-            return q * (((((((A7 * r + A6) * r + A5) * r + A4) * r + A3) * r + A2) * r + A1) * r + A0) /
-                       (((((((B7 * r + B6) * r + B5) * r + B4) * r + B3) * r + B2) * r + B1) * r + 1.0);
+            return centralInverseCdf(q);
         }
 
         // Tail regions
-        double r = (q < 0.0) ? u : 1.0 - u;
-        r = Math.sqrt(-Math.log(r));
+        double ret = tailInverseCdf((q < 0.0) ? u : 1.0 - u);
+        return (q < 0.0) ? -ret : ret;
+    }
+
+    /**
+     * Inverse CDF of every element: {@code out[i] = inverseCdf(u[i])}.
+     *
+     * With the Vector API present, the AS241 rational polynomials run on lanes; the
+     * tail's √(-ln p) stays scalar. Results are bit-identical to {@link #inverseCdf(double)}.
+     *
+     * @param u probabilities in [0, 1]
+     * @param out normal deviates (output; may be {@code u})
+     */
+    public static void inverseCdf(double[] u, double[] out) {
+        if (out.length != u.length) {
+            throw new IllegalArgumentException("All columns must have the same length");
+        }
+        if (LetsBeRationalBatch.VECTOR_API_AVAILABLE) {
+            VectorNormalKernel.inverseCdf(u, out, false);
+        } else {
+            for (int i = 0; i < u.length; i++) {
+                out[i] = inverseCdf(u[i]);
+            }
+        }
+    }
 
+    /**
+     * Lower-precision inverse CDF for simulation use.
+     *
+     * ALGORITHM AS241 PPND7, the single-precision companion of {@link #inverseCdf(double)}:
+     * the same regions with degree 3 and 2 polynomials. Accurate to about 1 part in 10^7.
+     *
+     * @param u probability in [0, 1]
+     * @return z such that Φ(z) ≈ u
+     */
+    public static double fastInverseCdf(double u) {
+        if (u <= 0.0) {
+            return Math.log(u);  // Returns -Infinity for u=0
+        }
+        if (u >= 1.0) {
+            return Math.log(1.0 - u);  // Returns -Infinity for u=1
+        }
+
+        double q = u - 0.5;
+
+        // Central region: |u - 0.5| <= 0.425
+        if (Math.abs(q) <= SPLIT1) {
+            double r = CONST1 - q * q;
+            return q * Polynomials.ppnd7CentralNumerator(r) / Polynomials.ppnd7CentralDenominator(r);
+        }
+
+        // Tail regions
+        double r = Math.sqrt(-Math.log((q < 0.0) ? u : 1.0 - u));
         double ret;
         if (r < SPLIT2) {
             r -= CONST2;
-            ret = (((((((C7 * r + C6) * r + C5) * r + C4) * r + C3) * r + C2) * r + C1) * r + C0) /
-                  (((((((D7 * r + D6) * r + D5) * r + D4) * r + D3) * r + D2) * r + D1) * r + 1.0);
+            ret = Polynomials.ppnd7NearTailNumerator(r) / Polynomials.ppnd7NearTailDenominator(r);
         } else {
             r -= SPLIT2;
-            ret = (((((((E7 * r + E6) * r + E5) * r + E4) * r + E3) * r + E2) * r + E1) * r + E0) /
-                  (((((((F7 * r + F6) * r + F5) * r + F4) * r + F3) * r + F2) * r + F1) * r + 1.0);
+            ret = Polynomials.ppnd7FarTailNumerator(r) / Polynomials.ppnd7FarTailDenominator(r);
         }
-
         return (q < 0.0) ? -ret : ret;
     }
 
+    /**
+     * {@link #fastInverseCdf(double)} of every element, on Vector API lanes when available.
+     *
+     * @param u probabilities in [0, 1]
+     * @param out normal deviates (output; may be {@code u})
+     */
+    public static void fastInverseCdf(double[] u, double[] out) {
+        if (out.length != u.length) {
+            throw new IllegalArgumentException("All columns must have the same length");
+        }
+        if (LetsBeRationalBatch.VECTOR_API_AVAILABLE) {
+            VectorNormalKernel.inverseCdf(u, out, true);
+        } else {
+            for (int i = 0; i < u.length; i++) {
+                out[i] = fastInverseCdf(u[i]);
+            }
+        }
+    }
+
+    /**
+     * Deviate z with Φ(z) - Φ(-z) = p, i.e. Φ⁻¹((1 + p)/2).
+     *
+     * Avoids forming (1 + p)/2, which would lose the low bits of small p,
+     * and works from 1 - p (exact for p ≥ ½) in the tail.
+     *
+     * @param p central probability in [0, 1]
+     * @return z ≥ 0 such that 2Φ(z) - 1 = p
+     */
+    public static double inverseCentralCdf(double p) {
+        if (p <= 0.0) {
+            return 0.0;
+        }
+        if (p >= 1.0) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        double q = 0.5 * p;
+        if (q <= SPLIT1) {
+            return centralInverseCdf(q);
+        }
+        return tailInverseCdf(0.5 * (1.0 - p));
+    }
+
+    /**
+     * AS241 central region: Φ⁻¹(½ + q) for |q| ≤ 0.425.
+     */
+    private static double centralInverseCdf(double q) {
+        double r = CONST1 - q * q;
+        return q * Polynomials.as241CentralNumerator(r) / Polynomials.as241CentralDenominator(r);
+    }
+
+    /**
+     * AS241 tail regions: -Φ⁻¹(p) for a lower tail area p < 0.075.
+     */
+    private static double tailInverseCdf(double p) {
+        double r = Math.sqrt(-Math.log(p));
+
+        if (r < SPLIT2) {
+            r -= CONST2;
+            return Polynomials.as241NearTailNumerator(r) / Polynomials.as241NearTailDenominator(r);
+        }
+        r -= SPLIT2;
+        return Polynomials.as241FarTailNumerator(r) / Polynomials.as241FarTailDenominator(r);
+    }
+
     // Prevent instantiation
     private NormalDistribution() {
         throw new AssertionError("NormalDistribution class should not be instantiated");
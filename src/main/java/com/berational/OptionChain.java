@@ -0,0 +1,167 @@
+package com.berational;
+
+import static com.berational.Constants.*;
+
+/**
+ * Strikes of one expiry, solved together against a shared forward.
+ *
+ * A chain shares one forward F and one expiry T across all of its strikes, so the
+ * per-option {@code Math.log(F/K)}, {@code Math.sqrt(F)·Math.sqrt(K)} and
+ * {@code Math.sqrt(T)} of the scalar entry point split into:
+ * - Per strike, once at construction: ln K and √K
+ * - Per chain: √T
+ * - Per forward update: ln F and √F
+ *
+ * Log-moneyness is then ln F - ln K. This rounds differently from ln(F/K): x carries an
+ * absolute error of about ulp(ln F), which near the money, where |x| is tiny, is many ulps
+ * of x. Results therefore agree with
+ * {@link LetsBeRational#impliedVolatilityFromATransformedRationalGuess} to that error in x
+ * rather than bit for bit; at-the-money strikes still give x = 0 exactly.
+ *
+ * Solving writes into caller-provided arrays and does not allocate.
+ * Instances are immutable and may be shared between threads.
+ */
+public final class OptionChain {
+
+    private final double T;
+    private final double sqrtT;
+    private final double[] K;
+    private final double[] lnK;
+    private final double[] sqrtK;
+    private final int[] q;
+
+    /**
+     * Create a chain for one expiry.
+     *
+     * @param T time to expiration
+     * @param K strike prices (copied)
+     * @param q +1 for call, -1 for put, per strike (copied)
+     */
+    public OptionChain(double T, double[] K, int[] q) {
+        if (q.length != K.length) {
+            throw new IllegalArgumentException("All columns must have the same length");
+        }
+        this.T = T;
+        this.sqrtT = Math.sqrt(T);
+        this.K = K.clone();
+        this.q = q.clone();
+        this.lnK = new double[K.length];
+        this.sqrtK = new double[K.length];
+        for (int i = 0; i < K.length; i++) {
+            lnK[i] = Math.log(K[i]);
+            sqrtK[i] = Math.sqrt(K[i]);
+        }
+    }
+
+    /**
+     * @return number of options in the chain
+     */
+    public int size() {
+        return K.length;
+    }
+
+    /**
+     * @return time to expiration
+     */
+    public double expiry() {
+        return T;
+    }
+
+    /**
+     * Compute Black implied volatilities of the whole chain for a forward.
+     *
+     * @param F forward price
+     * @param price option prices, one per strike
+     * @param out implied volatilities σ (output)
+     * @throws BelowIntrinsicException if any price is below intrinsic value
+     * @throws AboveMaximumException if any price exceeds maximum possible value
+     */
+    public void impliedVolatilities(double F, double[] price, double[] out) {
+        checkColumns(price, out);
+        double lnF = Math.log(F);
+        double sqrtF = Math.sqrt(F);
+
+        BatchSolveEvent event = BatchSolveEvent.start("OptionChain", K.length);
+        try {
+            for (int i = 0; i < K.length; i++) {
+                double sigma = impliedVolatility(price[i], F, lnF, sqrtF, i);
+                if (sigma == VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_BELOW_INTRINSIC) {
+                    throw new BelowIntrinsicException();
+                }
+                if (sigma == VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_ABOVE_MAXIMUM) {
+                    throw new AboveMaximumException();
+                }
+                out[i] = sigma;
+            }
+        } catch (BelowIntrinsicException | AboveMaximumException e) {
+            event.failed(e);
+            throw e;
+        } finally {
+            event.finish(null, 0, K.length);
+        }
+    }
+
+    /**
+     * Compute Black implied volatilities of the whole chain for a forward without throwing.
+     *
+     * @param F forward price
+     * @param price option prices, one per strike
+     * @param out implied volatilities σ, or a signal value for invalid prices (output)
+     * @param status {@link LetsBeRationalBatch#STATUS_OK},
+     *               {@link LetsBeRationalBatch#STATUS_BELOW_INTRINSIC} or
+     *               {@link LetsBeRationalBatch#STATUS_ABOVE_MAXIMUM} per option (output)
+     */
+    public void impliedVolatilities(double F, double[] price, double[] out, byte[] status) {
+        checkColumns(price, out);
+        if (status.length != K.length) {
+            throw new IllegalArgumentException("All columns must have the same length");
+        }
+        double lnF = Math.log(F);
+        double sqrtF = Math.sqrt(F);
+
+        BatchSolveEvent event = BatchSolveEvent.start("OptionChain", K.length);
+        for (int i = 0; i < K.length; i++) {
+            double sigma = impliedVolatility(price[i], F, lnF, sqrtF, i);
+            out[i] = sigma;
+            status[i] = LetsBeRationalBatch.statusOf(sigma);
+        }
+        event.finish(status, 0, K.length);
+    }
+
+    /**
+     * Solve option i; mirrors
+     * {@link LetsBeRational#impliedVolatilityFromATransformedRationalGuessOrSignal}.
+     */
+    private double impliedVolatility(double price, double F, double lnF, double sqrtF, int i) {
+        double k = K[i];
+        int qi = q[i];
+        double intrinsic = Math.abs(Math.max(qi < 0 ? k - F : F - k, 0.0));
+
+        if (price < intrinsic) {
+            return VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_BELOW_INTRINSIC;
+        }
+
+        double maxPrice = qi < 0 ? k : F;
+        if (price >= maxPrice) {
+            return VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_ABOVE_MAXIMUM;
+        }
+
+        double x = lnF - lnK[i];
+
+        // Map in-the-money to out-of-the-money
+        if (qi * x > 0) {
+            price = Math.abs(Math.max(price - intrinsic, 0.0));
+            qi = -qi;
+        }
+
+        double s = LetsBeRational.uncheckedNormalisedImpliedVolatilityFromATransformedRationalGuessWithLimitedIterations(
+                price / (sqrtF * sqrtK[i]), x, qi, IMPLIED_VOLATILITY_MAXIMUM_ITERATIONS);
+        return LetsBeRational.isSignal(s) ? s : s / sqrtT;
+    }
+
+    private void checkColumns(double[] price, double[] out) {
+        if (price.length != K.length || out.length != K.length) {
+            throw new IllegalArgumentException("All columns must have the same length");
+        }
+    }
+}
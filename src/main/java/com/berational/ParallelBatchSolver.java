@@ -0,0 +1,152 @@
+package com.berational;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork/join driver for {@link LetsBeRationalBatch} over very large columnar inputs.
+ *
+ * The index range is split in halves until a piece is no longer than the chunk size,
+ * and each piece is solved by the sequential batch kernel on its sub-range. Every
+ * option is solved exactly as by the sequential path, so results are bit-identical
+ * regardless of parallelism.
+ *
+ * Split points are rounded to multiples of {@link #CACHE_LINE_DOUBLES}, so two tasks
+ * share at most the one cache line of the output column that straddles each boundary.
+ *
+ * Instances are immutable and may be shared between threads.
+ */
+public final class ParallelBatchSolver {
+
+    /** Doubles per 64-byte cache line. */
+    static final int CACHE_LINE_DOUBLES = 8;
+
+    /** Default options per leaf task: 4096 options span about 160 KB of input and output columns. */
+    public static final int DEFAULT_CHUNK_SIZE = 4096;
+
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+
+    /**
+     * Create a solver running on the common pool with the default chunk size.
+     */
+    public ParallelBatchSolver() {
+        this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Create a solver running on the given pool.
+     *
+     * @param pool fork/join pool to run on
+     * @param chunkSize maximum options per leaf task, rounded up to a whole number of cache lines
+     *                  and clamped below {@link Integer#MAX_VALUE}
+     */
+    public ParallelBatchSolver(ForkJoinPool pool, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.pool = pool;
+        this.chunkSize = roundUpToCacheLine(chunkSize);
+    }
+
+    /**
+     * Compute Black implied volatilities for a batch of options in parallel.
+     *
+     * @param price option prices
+     * @param F forward prices
+     * @param K strike prices
+     * @param T times to expiration
+     * @param q +1 for call, -1 for put
+     * @param out implied volatilities σ (output)
+     * @throws BelowIntrinsicException if any price is below intrinsic value
+     * @throws AboveMaximumException if any price exceeds maximum possible value
+     */
+    public void impliedVolatilities(double[] price, double[] F, double[] K, double[] T,
+                                    int[] q, double[] out) {
+        LetsBeRationalBatch.checkColumns(price, F, K, T, q, out, 0, price.length);
+        BatchSolveEvent event = BatchSolveEvent.start("ParallelBatchSolver", price.length);
+        try {
+            pool.invoke(new Chunk(price, F, K, T, q, out, null, 0, price.length, chunkSize));
+        } catch (BelowIntrinsicException | AboveMaximumException e) {
+            event.failed(e);
+            throw e;
+        } finally {
+            event.finish(null, 0, price.length);
+        }
+    }
+
+    /**
+     * Compute Black implied volatilities for a batch of options in parallel without throwing.
+     *
+     * @param price option prices
+     * @param F forward prices
+     * @param K strike prices
+     * @param T times to expiration
+     * @param q +1 for call, -1 for put
+     * @param out implied volatilities σ, or a signal value for invalid prices (output)
+     * @param status {@link LetsBeRationalBatch#STATUS_OK},
+     *               {@link LetsBeRationalBatch#STATUS_BELOW_INTRINSIC} or
+     *               {@link LetsBeRationalBatch#STATUS_ABOVE_MAXIMUM} per option (output)
+     */
+    public void impliedVolatilities(double[] price, double[] F, double[] K, double[] T,
+                                    int[] q, double[] out, byte[] status) {
+        LetsBeRationalBatch.checkColumns(price, F, K, T, q, out, 0, price.length);
+        if (status.length != price.length) {
+            throw new IllegalArgumentException("All columns must have the same length");
+        }
+        BatchSolveEvent event = BatchSolveEvent.start("ParallelBatchSolver", price.length);
+        pool.invoke(new Chunk(price, F, K, T, q, out, status, 0, price.length, chunkSize));
+        event.finish(status, 0, price.length);
+    }
+
+    /**
+     * Round a non-negative count up to a whole number of cache lines, clamped to the largest
+     * such count an int holds so that sizes near {@link Integer#MAX_VALUE} do not overflow.
+     */
+    static int roundUpToCacheLine(int n) {
+        long rounded = ((long) n + CACHE_LINE_DOUBLES - 1) / CACHE_LINE_DOUBLES * CACHE_LINE_DOUBLES;
+        return (int) Math.min(rounded, Integer.MAX_VALUE / CACHE_LINE_DOUBLES * CACHE_LINE_DOUBLES);
+    }
+
+    /**
+     * Splittable work unit over {@code [from, to)} of the columns.
+     */
+    private static final class Chunk extends RecursiveAction {
+
+        private final double[] price;
+        private final double[] F;
+        private final double[] K;
+        private final double[] T;
+        private final int[] q;
+        private final double[] out;
+        private final byte[] status;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        Chunk(double[] price, double[] F, double[] K, double[] T, int[] q,
+              double[] out, byte[] status, int from, int to, int chunkSize) {
+            this.price = price;
+            this.F = F;
+            this.K = K;
+            this.T = T;
+            this.q = q;
+            this.out = out;
+            this.status = status;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                LetsBeRationalBatch.solve(price, F, K, T, q, out, status, from, to);
+                return;
+            }
+            int middle = from + roundUpToCacheLine((to - from) / 2);
+            invokeAll(new Chunk(price, F, K, T, q, out, status, from, middle, chunkSize),
+                      new Chunk(price, F, K, T, q, out, status, middle, to, chunkSize));
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.berational;
+
+/**
+ * Precision tiers trading accuracy for throughput.
+ *
+ * Each tier fixes the number of Householder(3) iterations after the four-branch
+ * rational initial guess. Relative errors in σ below were measured against {@link #FULL}
+ * over 10^6 random options (T in [0.02, 2], σ in [0.05, 0.8], strikes within ±3
+ * standard deviations); see {@code PrecisionTierBenchmark} for the cost of each tier.
+ *
+ * At and near the money the closed-form inversion is exact in every tier.
+ */
+public enum Precision {
+
+    /** Rational initial guess only: mean error 2e-2, worst 9e-2. */
+    GUESS_ONLY(0),
+
+    /** One Householder(3) iteration: mean error 5e-8, worst 8e-7. */
+    ONE_ITERATION(1),
+
+    /** Two Householder(3) iterations: machine precision, the default. */
+    FULL(Constants.IMPLIED_VOLATILITY_MAXIMUM_ITERATIONS);
+
+    private final int iterations;
+
+    Precision(int iterations) {
+        this.iterations = iterations;
+    }
+
+    /**
+     * @return number of Householder(3) iterations after the initial guess
+     */
+    public int iterations() {
+        return iterations;
+    }
+}
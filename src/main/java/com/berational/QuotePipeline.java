@@ -0,0 +1,171 @@
+package com.berational;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Single-producer, single-consumer pipeline stage from option quotes to implied volatilities.
+ *
+ * Quotes are written into a preallocated ring of primitive columns (price, forward,
+ * strike, expiry, call/put flag and an opaque tag), so the ring slots are the input
+ * columns of {@link LetsBeRationalBatch}: the consumer solves each contiguous run of
+ * pending slots in place with the batch kernel, including its Vector API
+ * normalisation, and hands every result to a {@link Publisher} before releasing the
+ * slots to the producer.
+ *
+ * The producer and consumer positions are published with release stores and read with
+ * acquire loads, each on its own cache line, and each side caches the other's last seen
+ * position so that it touches the shared line only when the cached one runs out. Neither
+ * side locks, blocks or allocates: {@link #offer} returns false when the ring is full
+ * and {@link #poll} returns 0 when it is empty, leaving the spin, yield or park policy
+ * to the caller.
+ *
+ * Exactly one thread may call {@link #offer} and exactly one, possibly different,
+ * thread may call {@link #poll}.
+ */
+public final class QuotePipeline {
+
+    /**
+     * Receiver of solved quotes, called on the consumer thread in quote order.
+     */
+    @FunctionalInterface
+    public interface Publisher {
+
+        /**
+         * @param tag tag the quote was offered with
+         * @param volatility implied volatility σ, or a signal value of {@link Constants}
+         * @param status {@link LetsBeRationalBatch#STATUS_OK},
+         *               {@link LetsBeRationalBatch#STATUS_BELOW_INTRINSIC} or
+         *               {@link LetsBeRationalBatch#STATUS_ABOVE_MAXIMUM}
+         */
+        void publish(long tag, double volatility, byte status);
+    }
+
+    // Slots of the padded sequence array. Each side's position sits next to its copy of the
+    // other side's position, and the two pairs are more than a 64-byte cache line apart
+    // whatever the alignment of the array, so neither side's plain writes hit the other's line
+    private static final int PADDING = 16;
+    private static final int HEAD = PADDING;
+    private static final int CACHED_TAIL = PADDING + 1;
+    private static final int TAIL = 2 * PADDING;
+    private static final int CACHED_HEAD = 2 * PADDING + 1;
+
+    private final int mask;
+    private final int maximumBatch;
+    private final Publisher publisher;
+
+    private final double[] price;
+    private final double[] F;
+    private final double[] K;
+    private final double[] T;
+    private final int[] q;
+    private final long[] tag;
+    private final double[] out;
+    private final byte[] status;
+
+    // Quotes consumed (HEAD) and quotes offered (TAIL), ever, with the consumer-side copy
+    // of TAIL (CACHED_TAIL) and the producer-side copy of HEAD (CACHED_HEAD)
+    private final AtomicLongArray sequences = new AtomicLongArray(3 * PADDING);
+
+    /**
+     * Create a pipeline stage.
+     *
+     * @param capacity number of ring slots, a power of two
+     * @param maximumBatch most quotes solved per {@link #poll}, between 1 and capacity
+     * @param publisher receiver of the results
+     */
+    public QuotePipeline(int capacity, int maximumBatch, Publisher publisher) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a power of two");
+        }
+        if (maximumBatch <= 0 || maximumBatch > capacity) {
+            throw new IllegalArgumentException("Maximum batch must be between 1 and the capacity");
+        }
+        this.mask = capacity - 1;
+        this.maximumBatch = maximumBatch;
+        this.publisher = publisher;
+        price = new double[capacity];
+        F = new double[capacity];
+        K = new double[capacity];
+        T = new double[capacity];
+        q = new int[capacity];
+        tag = new long[capacity];
+        out = new double[capacity];
+        status = new byte[capacity];
+    }
+
+    /**
+     * Enqueue a quote; producer thread only.
+     *
+     * @param tag opaque value handed back with the result, e.g. a quote id or receive time
+     * @param price option price
+     * @param F forward price
+     * @param K strike price
+     * @param T time to expiration
+     * @param q +1 for call, -1 for put
+     * @return false, without enqueueing, if the ring is full
+     */
+    public boolean offer(long tag, double price, double F, double K, double T, int q) {
+        long tail = sequences.getPlain(TAIL);
+        if (tail - sequences.getPlain(CACHED_HEAD) > mask) {
+            long head = sequences.getAcquire(HEAD);
+            sequences.setPlain(CACHED_HEAD, head);
+            if (tail - head > mask) {
+                return false;
+            }
+        }
+        int i = (int) tail & mask;
+        this.price[i] = price;
+        this.F[i] = F;
+        this.K[i] = K;
+        this.T[i] = T;
+        this.q[i] = q;
+        this.tag[i] = tag;
+        sequences.setRelease(TAIL, tail + 1);
+        return true;
+    }
+
+    /**
+     * Solve and publish the oldest pending quotes; consumer thread only.
+     *
+     * At most the maximum batch is solved, and never past the end of the ring, so a run
+     * that wraps around is solved over two calls.
+     *
+     * @return number of quotes published, 0 if none were pending
+     */
+    public int poll() {
+        long head = sequences.getPlain(HEAD);
+        long tail = sequences.getPlain(CACHED_TAIL);
+        if (head == tail) {
+            tail = sequences.getAcquire(TAIL);
+            sequences.setPlain(CACHED_TAIL, tail);
+            if (head == tail) {
+                return 0;
+            }
+        }
+        int from = (int) head & mask;
+        int n = (int) Math.min(Math.min(tail - head, maximumBatch), mask + 1 - from);
+        int to = from + n;
+
+        LetsBeRationalBatch.solve(price, F, K, T, q, out, status, from, to);
+        for (int i = from; i < to; i++) {
+            publisher.publish(tag[i], out[i], status[i]);
+        }
+
+        sequences.setRelease(HEAD, head + n);
+        return n;
+    }
+
+    /**
+     * @return number of quotes offered and not yet published; exact only when both sides are idle
+     */
+    public int size() {
+        return (int) (sequences.getAcquire(TAIL) - sequences.getAcquire(HEAD));
+    }
+
+    /**
+     * @return number of ring slots
+     */
+    public int capacity() {
+        return mask + 1;
+    }
+}
@@ -0,0 +1,32 @@
+package com.berational;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one sampled implied volatility solve; see {@link SolverEvents}.
+ */
+@Name("com.berational.Solve")
+@Label("Implied Volatility Solve")
+@Category("Let's Be Rational")
+@Description("One sampled implied volatility solve")
+@StackTrace(false)
+final class SolveEvent extends jdk.jfr.Event {
+
+    /** Branch when the solve iterated from a previous solution instead of a guess. */
+    static final int PREVIOUS_SOLUTION = -1;
+
+    @Label("Branch")
+    @Description("Initial-guess branch, 0 at or near the money, 1 to 4, or -1 from a previous solution")
+    int branch = PREVIOUS_SOLUTION;
+
+    @Label("Iterations")
+    @Description("Householder(3) iterations")
+    int iterations;
+
+    /** System.nanoTime() at the start, for the in-process latency histogram. */
+    transient long startNanos;
+}
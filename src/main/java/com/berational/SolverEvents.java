@@ -0,0 +1,79 @@
+package com.berational;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Sampled per-solve JFR events and an in-process latency histogram.
+ *
+ * Start the JVM with {@code -Dcom.berational.jfr.sampleInterval=N} to time one solve in
+ * N, chosen at random on each thread, through the scalar, log-price, context and warm-start
+ * cores. Each sampled solve is recorded into {@link #sampledLatencies()} and, while a JFR
+ * recording is running, committed as a {@code com.berational.Solve} event carrying its
+ * initial-guess branch and Householder(3) iteration count.
+ *
+ * Batch solvers emit a {@code com.berational.BatchSolve} event per call while a recording
+ * is running; otherwise they share one inert event and allocate nothing.
+ *
+ * {@link #SAMPLE_INTERVAL} is fixed at class initialisation; at the default of 0 the JIT
+ * removes the sampling from every solve, as for {@link SolverStatistics}. The branch
+ * solver {@link BranchBucketedSolver} interleaves its solves and is not sampled.
+ */
+public final class SolverEvents {
+
+    /** One solve in this many is sampled, from {@code -Dcom.berational.jfr.sampleInterval}; 0 disables sampling. */
+    public static final int SAMPLE_INTERVAL = Integer.getInteger("com.berational.jfr.sampleInterval", 0);
+
+    /** Whether solves are sampled. */
+    static final boolean SAMPLING = SAMPLE_INTERVAL > 0;
+
+    private static final ThreadLocal<SolveEvent> PENDING = new ThreadLocal<>();
+    private static final LatencyHistogram SAMPLED_LATENCIES = new LatencyHistogram();
+
+    // Recording; callers check SAMPLING first
+
+    static void solveStarted() {
+        if (ThreadLocalRandom.current().nextInt(SAMPLE_INTERVAL) == 0) {
+            SolveEvent event = new SolveEvent();
+            event.begin();
+            event.startNanos = System.nanoTime();
+            PENDING.set(event);
+        }
+    }
+
+    static void solveFinished() {
+        SolveEvent event = PENDING.get();
+        if (event != null) {
+            PENDING.remove();
+            SAMPLED_LATENCIES.record(System.nanoTime() - event.startNanos);
+            event.commit();
+        }
+    }
+
+    static void branch(int branch) {
+        SolveEvent event = PENDING.get();
+        if (event != null) {
+            event.branch = branch;
+        }
+    }
+
+    static void iterations(int iterations) {
+        SolveEvent event = PENDING.get();
+        if (event != null) {
+            event.iterations += iterations;
+        }
+    }
+
+    /**
+     * Latencies of the sampled solves, whether or not JFR is recording.
+     *
+     * @return live histogram in nanoseconds; empty unless sampling is on
+     */
+    public static LatencyHistogram sampledLatencies() {
+        return SAMPLED_LATENCIES;
+    }
+
+    // Prevent instantiation
+    private SolverEvents() {
+        throw new AssertionError("SolverEvents class should not be instantiated");
+    }
+}
@@ -0,0 +1,273 @@
+package com.berational;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in counters of the paths taken by the solver.
+ *
+ * Start the JVM with {@code -Dcom.berational.statistics=true} to record:
+ * - Initial-guess branch per solve, with the closed-form at- and near-the-money path as branch 0
+ * - Black region per evaluation of {@link LetsBeRational#normalisedBlackCall}
+ * - Householder(3) iterations per objective, and the binary nesting (bisection) steps
+ *   and direction reversals among them
+ * - Quadratic fallbacks of the branch 1 and branch 4 rational cubic guesses
+ *
+ * {@link #ENABLED} is fixed at class initialisation, so when recording is off the JIT
+ * removes every call site. Counters are {@link LongAdder}s, striped across threads, so
+ * parallel solvers do not contend on one cache line.
+ *
+ * {@link #snapshot()} reads each counter separately: solves running concurrently may be
+ * counted in some totals and not yet in others.
+ */
+public final class SolverStatistics {
+
+    /** Whether counters are recorded, from {@code -Dcom.berational.statistics}. */
+    public static final boolean ENABLED = Boolean.getBoolean("com.berational.statistics");
+
+    /** Whether the branch and iteration hooks have a consumer, here or in {@link SolverEvents}. */
+    static final boolean HOOKS = ENABLED || SolverEvents.SAMPLING;
+
+    /** Branch index of the closed-form at- and near-the-money path; branches 1 to 4 use their number. */
+    public static final int AT_THE_MONEY = 0;
+    /** Number of branch indices. */
+    public static final int BRANCH_COUNT = 5;
+
+    /** Region index of the asymptotic expansion. */
+    public static final int REGION_I = 0;
+    /** Region index of the small-t expansion. */
+    public static final int REGION_II = 1;
+    /** Region index of the direct CDF evaluation. */
+    public static final int REGION_III = 2;
+    /** Region index of the erfcx evaluation. */
+    public static final int REGION_IV = 3;
+    /** Number of region indices. */
+    public static final int REGION_COUNT = 4;
+
+    /** Iteration counts at or above this share the last histogram bucket. */
+    public static final int MAXIMUM_RECORDED_ITERATIONS = 8;
+
+    private static final LongAdder[] BRANCHES = adders(BRANCH_COUNT);
+    private static final LongAdder[] REGIONS = adders(REGION_COUNT);
+    private static final LongAdder[] ITERATIONS = adders(MAXIMUM_RECORDED_ITERATIONS + 1);
+    private static final LongAdder BISECTIONS = new LongAdder();
+    private static final LongAdder DIRECTION_REVERSALS = new LongAdder();
+    private static final LongAdder LOWER_QUADRATIC_FALLBACKS = new LongAdder();
+    private static final LongAdder UPPER_QUADRATIC_FALLBACKS = new LongAdder();
+
+    private static LongAdder[] adders(int count) {
+        LongAdder[] adders = new LongAdder[count];
+        for (int i = 0; i < count; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+
+    // Recording; callers check ENABLED first, or HOOKS for branches and iterations
+
+    static void branch(int branch) {
+        if (ENABLED) {
+            BRANCHES[branch].increment();
+        }
+        if (SolverEvents.SAMPLING) {
+            SolverEvents.branch(branch);
+        }
+    }
+
+    static void region(int region) {
+        REGIONS[region].increment();
+    }
+
+    static void iterations(int iterations) {
+        if (ENABLED) {
+            ITERATIONS[Math.min(iterations, MAXIMUM_RECORDED_ITERATIONS)].increment();
+        }
+        if (SolverEvents.SAMPLING) {
+            SolverEvents.iterations(iterations);
+        }
+    }
+
+    static void bisection() {
+        BISECTIONS.increment();
+    }
+
+    static void directionReversal() {
+        DIRECTION_REVERSALS.increment();
+    }
+
+    static void lowerQuadraticFallback() {
+        LOWER_QUADRATIC_FALLBACKS.increment();
+    }
+
+    static void upperQuadraticFallback() {
+        UPPER_QUADRATIC_FALLBACKS.increment();
+    }
+
+    /**
+     * Read all counters.
+     *
+     * @return counts recorded since class initialisation or the last {@link #reset()}
+     */
+    public static Snapshot snapshot() {
+        return new Snapshot(sums(BRANCHES), sums(REGIONS), sums(ITERATIONS),
+                            BISECTIONS.sum(), DIRECTION_REVERSALS.sum(),
+                            LOWER_QUADRATIC_FALLBACKS.sum(), UPPER_QUADRATIC_FALLBACKS.sum());
+    }
+
+    /**
+     * Set all counters to zero. Increments racing with the reset may survive it.
+     */
+    public static void reset() {
+        for (LongAdder adder : BRANCHES) {
+            adder.reset();
+        }
+        for (LongAdder adder : REGIONS) {
+            adder.reset();
+        }
+        for (LongAdder adder : ITERATIONS) {
+            adder.reset();
+        }
+        BISECTIONS.reset();
+        DIRECTION_REVERSALS.reset();
+        LOWER_QUADRATIC_FALLBACKS.reset();
+        UPPER_QUADRATIC_FALLBACKS.reset();
+    }
+
+    private static long[] sums(LongAdder[] adders) {
+        long[] sums = new long[adders.length];
+        for (int i = 0; i < adders.length; i++) {
+            sums[i] = adders[i].sum();
+        }
+        return sums;
+    }
+
+    /**
+     * Counter values at one point in time. Instances are immutable.
+     */
+    public static final class Snapshot {
+
+        private final long[] branches;
+        private final long[] regions;
+        private final long[] iterations;
+        private final long bisections;
+        private final long directionReversals;
+        private final long lowerQuadraticFallbacks;
+        private final long upperQuadraticFallbacks;
+
+        private Snapshot(long[] branches, long[] regions, long[] iterations,
+                         long bisections, long directionReversals,
+                         long lowerQuadraticFallbacks, long upperQuadraticFallbacks) {
+            this.branches = branches;
+            this.regions = regions;
+            this.iterations = iterations;
+            this.bisections = bisections;
+            this.directionReversals = directionReversals;
+            this.lowerQuadraticFallbacks = lowerQuadraticFallbacks;
+            this.upperQuadraticFallbacks = upperQuadraticFallbacks;
+        }
+
+        /**
+         * @param branch {@link #AT_THE_MONEY} or 1 to 4
+         * @return solves that took the branch
+         */
+        public long branch(int branch) {
+            return branches[branch];
+        }
+
+        /**
+         * @return solves that reached branch selection, over all branches
+         */
+        public long solves() {
+            long solves = 0;
+            for (long count : branches) {
+                solves += count;
+            }
+            return solves;
+        }
+
+        /**
+         * @param region {@link #REGION_I} to {@link #REGION_IV}
+         * @return normalized Black call evaluations in the region
+         */
+        public long region(int region) {
+            return regions[region];
+        }
+
+        /**
+         * @param iterations 0 to {@link #MAXIMUM_RECORDED_ITERATIONS}, the last counting
+         *                   that many or more
+         * @return Householder(3) iterations that ran for the given number of steps
+         */
+        public long iterations(int iterations) {
+            return this.iterations[iterations];
+        }
+
+        /**
+         * @return binary nesting steps taken in place of a Householder(3) step
+         */
+        public long bisections() {
+            return bisections;
+        }
+
+        /**
+         * @return iteration steps that reversed the direction of the previous step
+         */
+        public long directionReversals() {
+            return directionReversals;
+        }
+
+        /**
+         * @return branch 1 guesses that fell back to quadratic interpolation
+         */
+        public long lowerQuadraticFallbacks() {
+            return lowerQuadraticFallbacks;
+        }
+
+        /**
+         * @return branch 4 guesses that fell back to quadratic interpolation
+         */
+        public long upperQuadraticFallbacks() {
+            return upperQuadraticFallbacks;
+        }
+
+        /**
+         * Counts recorded between an earlier snapshot and this one.
+         *
+         * @param earlier snapshot taken before this one
+         * @return this snapshot minus {@code earlier}, counter by counter
+         */
+        public Snapshot minus(Snapshot earlier) {
+            return new Snapshot(difference(branches, earlier.branches),
+                                difference(regions, earlier.regions),
+                                difference(iterations, earlier.iterations),
+                                bisections - earlier.bisections,
+                                directionReversals - earlier.directionReversals,
+                                lowerQuadraticFallbacks - earlier.lowerQuadraticFallbacks,
+                                upperQuadraticFallbacks - earlier.upperQuadraticFallbacks);
+        }
+
+        private static long[] difference(long[] a, long[] b) {
+            long[] d = new long[a.length];
+            for (int i = 0; i < a.length; i++) {
+                d[i] = a[i] - b[i];
+            }
+            return d;
+        }
+
+        @Override
+        public String toString() {
+            return "SolverStatistics.Snapshot[branches=" + Arrays.toString(branches) +
+                   ", regions=" + Arrays.toString(regions) +
+                   ", iterations=" + Arrays.toString(iterations) +
+                   ", bisections=" + bisections +
+                   ", directionReversals=" + directionReversals +
+                   ", lowerQuadraticFallbacks=" + lowerQuadraticFallbacks +
+                   ", upperQuadraticFallbacks=" + upperQuadraticFallbacks + "]";
+        }
+    }
+
+    // Prevent instantiation
+    private SolverStatistics() {
+        throw new AssertionError("SolverStatistics class should not be instantiated");
+    }
+}
@@ -0,0 +1,86 @@
+package com.berational;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API kernel behind {@link LetsBeRationalBatch}.
+ *
+ * Only loaded when {@link LetsBeRationalBatch#VECTOR_API_AVAILABLE} is true.
+ *
+ * The rational guess and the Householder(3) iterations pick their branch per option,
+ * so they stay scalar per lane. The lanes handle everything around them:
+ * - Range checks against intrinsic and maximum value
+ * - Normalisation factor √F·√K
+ * - Conversion of σ√T back to σ
+ *
+ * Square root, product and quotient are correctly rounded on lanes as in scalar code,
+ * so the results are bit-identical to the scalar path.
+ */
+final class VectorBatchKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Integer> INT_SPECIES =
+            IntVector.SPECIES_PREFERRED.withShape(VectorShape.forBitSize(SPECIES.vectorBitSize() / 2));
+    private static final int LANES = SPECIES.length();
+
+    /**
+     * Solve {@code [from, to)}; a null status column selects the throwing flavour.
+     */
+    static void impliedVolatilities(double[] price, double[] F, double[] K, double[] T,
+                                    int[] q, double[] out, byte[] status, int from, int to) {
+        int i = from;
+        int upperBound = from + SPECIES.loopBound(to - from);
+
+        for (; i < upperBound; i += LANES) {
+            DoubleVector f = DoubleVector.fromArray(SPECIES, F, i);
+            DoubleVector k = DoubleVector.fromArray(SPECIES, K, i);
+            DoubleVector p = DoubleVector.fromArray(SPECIES, price, i);
+            DoubleVector theta = (DoubleVector) IntVector.fromArray(INT_SPECIES, q, i)
+                    .convertShape(VectorOperators.I2D, SPECIES, 0);
+            VectorMask<Double> isPut = theta.compare(VectorOperators.LT, 0.0);
+
+            DoubleVector intrinsic = f.sub(k).blend(k.sub(f), isPut).max(0.0);
+            DoubleVector maxPrice = f.blend(k, isPut);
+            VectorMask<Double> outOfRange = p.compare(VectorOperators.LT, intrinsic)
+                    .or(p.compare(VectorOperators.GE, maxPrice));
+
+            if (outOfRange.anyTrue()) {
+                // Rare: let the scalar path throw or signal for the offending options
+                LetsBeRationalBatch.scalarImpliedVolatilities(price, F, K, T, q, out, status, i, i + LANES);
+                continue;
+            }
+
+            f.sqrt().mul(k.sqrt()).intoArray(out, i);
+            for (int j = i; j < i + LANES; j++) {
+                double s = LetsBeRationalBatch.normalisedImpliedVolatility(price[j], F[j], K[j], q[j], out[j]);
+                if (s == Constants.VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_ABOVE_MAXIMUM) {
+                    if (status == null) {
+                        throw new AboveMaximumException();
+                    }
+                    status[j] = LetsBeRationalBatch.STATUS_ABOVE_MAXIMUM;
+                } else if (status != null) {
+                    status[j] = LetsBeRationalBatch.STATUS_OK;
+                }
+                out[j] = s;
+            }
+
+            DoubleVector s = DoubleVector.fromArray(SPECIES, out, i);
+            s.div(DoubleVector.fromArray(SPECIES, T, i).sqrt())
+                    .blend(s, s.compare(VectorOperators.EQ, Constants.VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_ABOVE_MAXIMUM))
+                    .intoArray(out, i);
+        }
+
+        // Tail
+        LetsBeRationalBatch.scalarImpliedVolatilities(price, F, K, T, q, out, status, i, to);
+    }
+
+    // Prevent instantiation
+    private VectorBatchKernel() {
+        throw new AssertionError("VectorBatchKernel class should not be instantiated");
+    }
+}
@@ -0,0 +1,87 @@
+package com.berational;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import static com.berational.CodyErf.THRESHOLD;
+import static com.berational.CodyErf.XSMALL;
+
+/**
+ * Vector API kernel behind the array forms of {@link CodyErf}.
+ *
+ * Only loaded when {@link LetsBeRationalBatch#VECTOR_API_AVAILABLE} is true.
+ *
+ * Each block of lanes is split by region with masks, and only the rational
+ * polynomials of regions present in the block are evaluated, so sorted or clustered
+ * inputs pay for one polynomial per lane. The exponential scaling and reflection in
+ * {@link CodyErf#finish} stay scalar: lane-wise exp is not correctly rounded the way
+ * {@link Math#exp} is on every platform.
+ *
+ * Both evaluate the generated {@link Polynomials} tables in the same Horner order, so
+ * lanes are bit-identical to {@link CodyErf#rational}.
+ */
+final class VectorErfKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+
+    /**
+     * {@code out[i] = CodyErf.rational(x[i])} for every element.
+     */
+    static void rational(double[] x, double[] out) {
+        int i = 0;
+        int upperBound = SPECIES.loopBound(x.length);
+
+        for (; i < upperBound; i += LANES) {
+            DoubleVector v = DoubleVector.fromArray(SPECIES, x, i);
+            DoubleVector y = v.abs();
+            VectorMask<Double> region1 = y.compare(VectorOperators.LE, THRESHOLD);
+            VectorMask<Double> region2 = y.compare(VectorOperators.LE, 4.0).andNot(region1);
+            VectorMask<Double> region3 = region1.or(region2).not();
+            DoubleVector result = DoubleVector.zero(SPECIES);
+
+            if (region1.anyTrue()) {
+                result = result.blend(region1(v, y), region1);
+            }
+            if (region2.anyTrue()) {
+                result = result.blend(region2(y), region2);
+            }
+            if (region3.anyTrue()) {
+                result = result.blend(region3(y), region3);
+            }
+            result.intoArray(out, i);
+        }
+
+        // Tail
+        for (; i < x.length; i++) {
+            out[i] = CodyErf.rational(x[i]);
+        }
+    }
+
+    // x·N(x²)/D(x²)
+    private static DoubleVector region1(DoubleVector x, DoubleVector y) {
+        DoubleVector ysq = y.mul(y).blend(0.0, y.compare(VectorOperators.GT, XSMALL).not());
+        return x.mul(VectorPolynomials.horner(ysq, Polynomials.CODY_ERF_REGION1_NUMERATOR))
+                .div(VectorPolynomials.horner(ysq, Polynomials.CODY_ERF_REGION1_DENOMINATOR));
+    }
+
+    // N(|x|)/D(|x|)
+    private static DoubleVector region2(DoubleVector y) {
+        return VectorPolynomials.horner(y, Polynomials.CODY_ERF_REGION2_NUMERATOR)
+                .div(VectorPolynomials.horner(y, Polynomials.CODY_ERF_REGION2_DENOMINATOR));
+    }
+
+    // (1/x²)·N(1/x²)/D(1/x²)
+    private static DoubleVector region3(DoubleVector y) {
+        DoubleVector ysq = DoubleVector.broadcast(SPECIES, 1.0).div(y.mul(y));
+        return ysq.mul(VectorPolynomials.horner(ysq, Polynomials.CODY_ERF_REGION3_NUMERATOR))
+                .div(VectorPolynomials.horner(ysq, Polynomials.CODY_ERF_REGION3_DENOMINATOR));
+    }
+
+    // Prevent instantiation
+    private VectorErfKernel() {
+        throw new AssertionError("VectorErfKernel class should not be instantiated");
+    }
+}
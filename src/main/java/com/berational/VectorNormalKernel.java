@@ -0,0 +1,134 @@
+package com.berational;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import static com.berational.NormalDistribution.*;
+
+/**
+ * Vector API kernel behind the array forms of {@link NormalDistribution#inverseCdf}
+ * and {@link NormalDistribution#fastInverseCdf}.
+ *
+ * Only loaded when {@link LetsBeRationalBatch#VECTOR_API_AVAILABLE} is true.
+ *
+ * Each block is masked into the central region and the two tail regions of AS241,
+ * and only the rational polynomials of regions present in the block are evaluated.
+ * The tails' r = √(-ln p) is computed per lane with {@link Math#log}, since lane-wise
+ * LOG is not guaranteed to round the same way. Blocks holding 0, 1 or NaN go through
+ * the scalar method.
+ *
+ * Lanes evaluate the generated {@link Polynomials} tables in the Horner order of the
+ * scalar methods, so results are bit-identical to them.
+ */
+final class VectorNormalKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+
+    /**
+     * Inverse CDF of {@code u} into {@code out}, which may be {@code u}; {@code fast}
+     * selects the PPND7 coefficients.
+     */
+    static void inverseCdf(double[] u, double[] out, boolean fast) {
+        int i = 0;
+        int upperBound = SPECIES.loopBound(u.length);
+
+        for (; i < upperBound; i += LANES) {
+            DoubleVector v = DoubleVector.fromArray(SPECIES, u, i);
+            VectorMask<Double> inside = v.compare(VectorOperators.GT, 0.0)
+                    .and(v.compare(VectorOperators.LT, 1.0));
+
+            if (!inside.allTrue()) {
+                // Rare: boundaries and NaN
+                scalar(u, out, fast, i, i + LANES);
+                continue;
+            }
+
+            DoubleVector q = v.sub(0.5);
+            VectorMask<Double> central = q.abs().compare(VectorOperators.LE, SPLIT1);
+            DoubleVector result = DoubleVector.zero(SPECIES);
+
+            if (central.anyTrue()) {
+                result = result.blend(fast ? fastCentral(q) : central(q), central);
+            }
+
+            if (!central.allTrue()) {
+                // r = √(-ln p) of the tail lanes, staged in out
+                for (int j = 0; j < LANES; j++) {
+                    if (!central.laneIsSet(j)) {
+                        double p = u[i + j];
+                        out[i + j] = Math.sqrt(-Math.log(p < 0.5 ? p : 1.0 - p));
+                    }
+                }
+
+                VectorMask<Double> tail = central.not();
+                DoubleVector r = DoubleVector.fromArray(SPECIES, out, i);
+                VectorMask<Double> near = r.compare(VectorOperators.LT, SPLIT2).and(tail);
+                VectorMask<Double> far = tail.andNot(near);
+                DoubleVector ret = DoubleVector.zero(SPECIES);
+
+                if (near.anyTrue()) {
+                    DoubleVector t = r.sub(CONST2);
+                    ret = ret.blend(fast ? fastNearTail(t) : nearTail(t), near);
+                }
+                if (far.anyTrue()) {
+                    DoubleVector t = r.sub(SPLIT2);
+                    ret = ret.blend(fast ? fastFarTail(t) : farTail(t), far);
+                }
+
+                ret = ret.blend(ret.neg(), q.compare(VectorOperators.LT, 0.0));
+                result = result.blend(ret, tail);
+            }
+
+            result.intoArray(out, i);
+        }
+
+        // Tail
+        scalar(u, out, fast, i, u.length);
+    }
+
+    private static void scalar(double[] u, double[] out, boolean fast, int from, int to) {
+        for (int i = from; i < to; i++) {
+            out[i] = fast ? fastInverseCdf(u[i]) : NormalDistribution.inverseCdf(u[i]);
+        }
+    }
+
+    private static DoubleVector central(DoubleVector q) {
+        DoubleVector r = DoubleVector.broadcast(SPECIES, CONST1).sub(q.mul(q));
+        return q.mul(VectorPolynomials.horner(r, Polynomials.AS241_CENTRAL_NUMERATOR))
+                .div(VectorPolynomials.horner(r, Polynomials.AS241_CENTRAL_DENOMINATOR));
+    }
+
+    private static DoubleVector nearTail(DoubleVector r) {
+        return VectorPolynomials.horner(r, Polynomials.AS241_NEAR_TAIL_NUMERATOR)
+                .div(VectorPolynomials.horner(r, Polynomials.AS241_NEAR_TAIL_DENOMINATOR));
+    }
+
+    private static DoubleVector farTail(DoubleVector r) {
+        return VectorPolynomials.horner(r, Polynomials.AS241_FAR_TAIL_NUMERATOR)
+                .div(VectorPolynomials.horner(r, Polynomials.AS241_FAR_TAIL_DENOMINATOR));
+    }
+
+    private static DoubleVector fastCentral(DoubleVector q) {
+        DoubleVector r = DoubleVector.broadcast(SPECIES, CONST1).sub(q.mul(q));
+        return q.mul(VectorPolynomials.horner(r, Polynomials.PPND7_CENTRAL_NUMERATOR))
+                .div(VectorPolynomials.horner(r, Polynomials.PPND7_CENTRAL_DENOMINATOR));
+    }
+
+    private static DoubleVector fastNearTail(DoubleVector r) {
+        return VectorPolynomials.horner(r, Polynomials.PPND7_NEAR_TAIL_NUMERATOR)
+                .div(VectorPolynomials.horner(r, Polynomials.PPND7_NEAR_TAIL_DENOMINATOR));
+    }
+
+    private static DoubleVector fastFarTail(DoubleVector r) {
+        return VectorPolynomials.horner(r, Polynomials.PPND7_FAR_TAIL_NUMERATOR)
+                .div(VectorPolynomials.horner(r, Polynomials.PPND7_FAR_TAIL_DENOMINATOR));
+    }
+
+    // Prevent instantiation
+    private VectorNormalKernel() {
+        throw new AssertionError("VectorNormalKernel class should not be instantiated");
+    }
+}
@@ -0,0 +1,32 @@
+package com.berational;
+
+import jdk.incubator.vector.DoubleVector;
+
+/**
+ * Lane-wise evaluation of the generated {@link Polynomials} coefficient tables.
+ *
+ * Only loaded when {@link LetsBeRationalBatch#VECTOR_API_AVAILABLE} is true.
+ *
+ * Horner steps run in the order of the generated scalar evaluators,
+ * c₀ + x·(c₁ + x·(c₂ + ...)), without fused multiply-add, so every lane is
+ * bit-identical to the scalar method for the same table.
+ */
+final class VectorPolynomials {
+
+    /**
+     * Evaluate the polynomial with ascending coefficients {@code c} at every lane of {@code x}.
+     */
+    static DoubleVector horner(DoubleVector x, double[] c) {
+        int n = c.length - 1;
+        DoubleVector result = x.mul(c[n]);
+        for (int i = n - 1; i > 0; i--) {
+            result = result.add(c[i]).mul(x);
+        }
+        return result.add(c[0]);
+    }
+
+    // Prevent instantiation
+    private VectorPolynomials() {
+        throw new AssertionError("VectorPolynomials class should not be instantiated");
+    }
+}
@@ -0,0 +1,357 @@
+package com.berational.benchmark;
+
+import com.berational.BranchBucketedSolver;
+import com.berational.LetsBeRational;
+import com.berational.LetsBeRationalBatch;
+import com.berational.MoneynessContext;
+import com.berational.OptionChain;
+import com.berational.ParallelBatchSolver;
+import com.berational.Precision;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Allocation regression suite for every solve path.
+ *
+ * The fork runs with escape analysis off, so an object that a solve allocates and drops
+ * is counted even where C2 would scalar-replace it: the suite guards the code, not one
+ * compiler's ability to hide its allocations.
+ *
+ * Per-solve benchmarks run one entry point over 64K options that all take the same
+ * {@link SolvePath}: one of the four initial-guess branches, the at-the-money closed form,
+ * or the quadratic fallback of branch 1 or branch 4. An allocation on a rarely taken path
+ * is therefore not diluted by the others. The entry points are scalar, non-throwing, log
+ * price, precision tier, warm start, moneyness context, batch, option chain,
+ * branch-bucketed and parallel.
+ *
+ * Per-call benchmarks call each batch solver once on a batch of {@value #CALL_SIZE} options,
+ * one or more per path, so an object allocated once per call, such as a JFR event, costs
+ * whole bytes per operation. {@link ParallelBatchSolver} is checked per solve only: it
+ * allocates one fork/join task per chunk by design.
+ *
+ * Run {@link #main} to run the suite under JMH's GC profiler and exit with status 1
+ * if any benchmark allocates {@link #MAXIMUM_BYTES_PER_OPERATION} or more per operation:
+ *
+ * <pre>
+ * java -cp target/benchmarks.jar com.berational.benchmark.AllocationBenchmark
+ * </pre>
+ *
+ * The limit is below the 16 bytes of the smallest object, so any allocation per solve
+ * or per batch call fails the suite.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G", "-XX:-DoEscapeAnalysis"})
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 2, time = 1)
+public class AllocationBenchmark {
+
+    /** Largest allocation per operation, in bytes, that {@link #main} accepts. */
+    static final double MAXIMUM_BYTES_PER_OPERATION = 1.0;
+
+    private static final int SIZE = 65536;
+    static final int CALL_SIZE = 8;
+
+    /**
+     * Path through the solver that every option of a per-solve state takes.
+     *
+     * Public only because JMH instantiates {@code @Param} values from generated code.
+     */
+    public enum SolvePath {
+        BRANCH_1,
+        BRANCH_2,
+        BRANCH_3,
+        BRANCH_4,
+        AT_THE_MONEY,
+        LOWER_QUADRATIC_FALLBACK,
+        UPPER_QUADRATIC_FALLBACK
+    }
+
+    /**
+     * Options taking one solve path, all at F = 100 and T = 1 so that they also form one chain.
+     */
+    @State(Scope.Thread)
+    public static class PathOptions {
+
+        @Param({"BRANCH_1", "BRANCH_2", "BRANCH_3", "BRANCH_4", "AT_THE_MONEY",
+                "LOWER_QUADRATIC_FALLBACK", "UPPER_QUADRATIC_FALLBACK"})
+        SolvePath path;
+
+        final double[] price = new double[SIZE];
+        final double[] F = new double[SIZE];
+        final double[] K = new double[SIZE];
+        final double[] T = new double[SIZE];
+        final int[] q = new int[SIZE];
+        final double[] sigma = new double[SIZE];
+        final double[] beta = new double[SIZE];
+        final double[] lnBeta = new double[SIZE];
+        final double[] x = new double[SIZE];
+        final MoneynessContext[] contexts = new MoneynessContext[SIZE];
+        final double[] out = new double[SIZE];
+        final byte[] status = new byte[SIZE];
+        OptionChain chain;
+        BranchBucketedSolver bucketed;
+        ParallelBatchSolver parallel;
+
+        @Setup
+        public void setup() {
+            fill(path, price, K, q, sigma, 42L);
+            for (int i = 0; i < SIZE; i++) {
+                F[i] = 100.0;
+                T[i] = 1.0;
+                double sqrtFK = Math.sqrt(F[i]) * Math.sqrt(K[i]);
+                beta[i] = price[i] / sqrtFK;
+                x[i] = Math.log(F[i] / K[i]);
+                // ln β of the out-of-the-money call at the same |x|
+                lnBeta[i] = LetsBeRational.logNormalisedBlackCall(-Math.abs(x[i]), sigma[i]);
+                contexts[i] = MoneynessContext.of(F[i], K[i]);
+            }
+            chain = new OptionChain(1.0, K, q);
+            bucketed = new BranchBucketedSolver(SIZE);
+            parallel = new ParallelBatchSolver(ForkJoinPool.commonPool(), ParallelBatchSolver.DEFAULT_CHUNK_SIZE);
+        }
+    }
+
+    /**
+     * A small batch with options from every solve path.
+     */
+    @State(Scope.Thread)
+    public static class CallOptions {
+
+        final double[] price = new double[CALL_SIZE];
+        final double[] F = new double[CALL_SIZE];
+        final double[] K = new double[CALL_SIZE];
+        final double[] T = new double[CALL_SIZE];
+        final int[] q = new int[CALL_SIZE];
+        final double[] out = new double[CALL_SIZE];
+        final byte[] status = new byte[CALL_SIZE];
+        OptionChain chain;
+        BranchBucketedSolver bucketed;
+
+        @Setup
+        public void setup() {
+            SolvePath[] paths = SolvePath.values();
+            double[] onePrice = new double[1];
+            double[] oneK = new double[1];
+            int[] oneQ = new int[1];
+            double[] oneSigma = new double[1];
+            for (int i = 0; i < CALL_SIZE; i++) {
+                fill(paths[i % paths.length], onePrice, oneK, oneQ, oneSigma, 42L + i);
+                price[i] = onePrice[0];
+                F[i] = 100.0;
+                K[i] = oneK[0];
+                T[i] = 1.0;
+                q[i] = oneQ[0];
+            }
+            chain = new OptionChain(1.0, K, q);
+            bucketed = new BranchBucketedSolver(CALL_SIZE);
+        }
+    }
+
+    /**
+     * Fill the columns with options at F = 100 and T = 1, so σ = σ√T, that take one path.
+     */
+    static void fill(SolvePath path, double[] price, double[] K, int[] q, double[] sigma, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int n = 0;
+        if (path == SolvePath.LOWER_QUADRATIC_FALLBACK || path == SolvePath.UPPER_QUADRATIC_FALLBACK) {
+            // Deep out-of-the-money calls, far below the tested range of listed options. For
+            // the lower fallback, ln(F/K) must round so that the rational cubic of branch 1 is
+            // not positive: the strikes F·e^k below were found with SolverStatistics
+            int[] lowerExponents = {502, 503, 507, 508, 512, 514, 515, 521, 529, 537, 539, 542, 545, 548};
+            for (; n < price.length; n++) {
+                q[n] = 1;
+                if (path == SolvePath.LOWER_QUADRATIC_FALLBACK) {
+                    K[n] = 100.0 * Math.exp(lowerExponents[random.nextInt(lowerExponents.length)]);
+                    double x = Math.log(100.0 / K[n]);
+                    price[n] = Math.sqrt(100.0) * Math.sqrt(K[n]) * Math.exp(0.5 * x - random.nextDouble(40.0, 80.0));
+                } else {
+                    // Within e^-28 to e^-2.5 of the maximum price F
+                    K[n] = 100.0 * Math.exp(random.nextDouble(500.0, 650.0));
+                    price[n] = 100.0 * (1.0 - Math.exp(-random.nextDouble(2.5, 28.0)));
+                }
+                sigma[n] = LetsBeRational.impliedVolatilityFromATransformedRationalGuessOrSignal(
+                    price[n], 100.0, K[n], 1.0, q[n]);
+            }
+            return;
+        }
+
+        for (long batch = 0; n < price.length; batch++) {
+            SyntheticOptions options = new SyntheticOptions(4096, seed + batch, MarketRegime.PRODUCTION);
+            for (int i = 0; i < 4096 && n < price.length; i++) {
+                double s = options.sigma[i] * Math.sqrt(options.T[i]);
+                double strike = path == SolvePath.AT_THE_MONEY ? 100.0 : options.K[i];
+                double x = -Math.abs(Math.log(100.0 / strike));
+                int branch = SyntheticOptions.branch(LetsBeRational.normalisedBlackCall(x, s), x);
+                if (branch == path.ordinal() + 1 || (branch == 0 && path == SolvePath.AT_THE_MONEY)) {
+                    K[n] = strike;
+                    q[n] = options.q[i];
+                    sigma[n] = s;
+                    price[n] = SyntheticOptions.blackPrice(100.0, strike, 1.0, s, q[n]);
+                    n++;
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] scalar(PathOptions o) {
+        for (int i = 0; i < SIZE; i++) {
+            o.out[i] = LetsBeRational.impliedVolatilityFromATransformedRationalGuess(
+                o.price[i], o.F[i], o.K[i], o.T[i], o.q[i]);
+        }
+        return o.out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] scalarOrSignal(PathOptions o) {
+        for (int i = 0; i < SIZE; i++) {
+            o.out[i] = LetsBeRational.impliedVolatilityFromATransformedRationalGuessOrSignal(
+                o.price[i], o.F[i], o.K[i], o.T[i], o.q[i]);
+        }
+        return o.out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] logPrice(PathOptions o) {
+        for (int i = 0; i < SIZE; i++) {
+            o.out[i] = LetsBeRational.normalisedImpliedVolatilityFromLogPriceOrSignal(
+                o.lnBeta[i], -Math.abs(o.x[i]), 1);
+        }
+        return o.out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] oneIteration(PathOptions o) {
+        for (int i = 0; i < SIZE; i++) {
+            o.out[i] = LetsBeRational.normalisedImpliedVolatilityFromATransformedRationalGuessOrSignal(
+                o.beta[i], o.x[i], o.q[i], Precision.ONE_ITERATION);
+        }
+        return o.out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] warmStart(PathOptions o) {
+        for (int i = 0; i < SIZE; i++) {
+            o.out[i] = LetsBeRational.impliedVolatilityFromPreviousSolutionOrSignal(
+                o.price[i], o.F[i], o.K[i], o.T[i], o.q[i], 1.01 * o.sigma[i]);
+        }
+        return o.out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] context(PathOptions o) {
+        for (int i = 0; i < SIZE; i++) {
+            o.out[i] = LetsBeRational.impliedVolatilityFromATransformedRationalGuessOrSignal(
+                o.price[i], o.contexts[i], o.T[i], o.q[i]);
+        }
+        return o.out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] batch(PathOptions o) {
+        LetsBeRationalBatch.impliedVolatilities(o.price, o.F, o.K, o.T, o.q, o.out);
+        return o.out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] batchWithStatus(PathOptions o) {
+        LetsBeRationalBatch.impliedVolatilities(o.price, o.F, o.K, o.T, o.q, o.out, o.status);
+        return o.out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] optionChain(PathOptions o) {
+        o.chain.impliedVolatilities(100.0, o.price, o.out, o.status);
+        return o.out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] branchBucketed(PathOptions o) {
+        o.bucketed.impliedVolatilities(o.price, o.F, o.K, o.T, o.q, o.out);
+        return o.out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] parallel(PathOptions o) {
+        o.parallel.impliedVolatilities(o.price, o.F, o.K, o.T, o.q, o.out, o.status);
+        return o.out;
+    }
+
+    @Benchmark
+    public double[] batchCall(CallOptions o) {
+        LetsBeRationalBatch.impliedVolatilities(o.price, o.F, o.K, o.T, o.q, o.out);
+        return o.out;
+    }
+
+    @Benchmark
+    public double[] batchWithStatusCall(CallOptions o) {
+        LetsBeRationalBatch.impliedVolatilities(o.price, o.F, o.K, o.T, o.q, o.out, o.status);
+        return o.out;
+    }
+
+    @Benchmark
+    public double[] optionChainCall(CallOptions o) {
+        o.chain.impliedVolatilities(100.0, o.price, o.out, o.status);
+        return o.out;
+    }
+
+    @Benchmark
+    public double[] branchBucketedCall(CallOptions o) {
+        o.bucketed.impliedVolatilities(o.price, o.F, o.K, o.T, o.q, o.out);
+        return o.out;
+    }
+
+    /**
+     * Run the suite under the GC profiler and fail if any benchmark allocates per operation.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(AllocationBenchmark.class.getName() + "\\.")
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        List<String> failures = new ArrayList<>();
+        for (RunResult run : new Runner(options).run()) {
+            Result<?> bytes = run.getSecondaryResults().get("gc.alloc.rate.norm");
+            String benchmark = run.getParams().getBenchmark();
+            String path = run.getParams().getParam("path");
+            String name = path == null ? benchmark : benchmark + " [" + path + "]";
+            if (bytes == null) {
+                failures.add(name + ": no allocation measurement");
+            } else if (!(bytes.getScore() < MAXIMUM_BYTES_PER_OPERATION)) {
+                failures.add(String.format("%s: %.3f B/op", name, bytes.getScore()));
+            }
+        }
+
+        if (!failures.isEmpty()) {
+            System.err.println("Solve paths allocate:");
+            failures.forEach(failure -> System.err.println("  " + failure));
+            System.exit(1);
+        }
+        System.out.printf("%nNo solve path allocates %.0f B/op or more%n", MAXIMUM_BYTES_PER_OPERATION);
+    }
+}
@@ -0,0 +1,82 @@
+package com.berational.benchmark;
+
+import com.berational.LetsBeRational;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmark of ATM-heavy chains.
+ *
+ * A share of the options is struck exactly at the forward and solved by the
+ * closed-form at-the-money path. The same chain with those strikes moved one part
+ * in 10^12 away from the forward takes the first-order near-the-money inversion, and
+ * moved one part in 10^6 it goes through the full guess and iterations, isolating the
+ * cost the fast path removes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AtTheMoneyBenchmark {
+
+    private static final int SIZE = 16384;
+
+    /** Share of options struck at the money. */
+    @Param({"0.0", "0.5", "0.9"})
+    double atmShare;
+
+    private SyntheticOptions exact;
+    private SyntheticOptions near;
+    private SyntheticOptions off;
+    private double[] out;
+
+    @Setup
+    public void setup() {
+        exact = new SyntheticOptions(SIZE, 42L);
+        near = new SyntheticOptions(SIZE, 42L);
+        off = new SyntheticOptions(SIZE, 42L);
+        out = new double[SIZE];
+
+        SplittableRandom random = new SplittableRandom(7L);
+        for (int i = 0; i < SIZE; i++) {
+            if (random.nextDouble() < atmShare) {
+                exact.K[i] = exact.F[i];
+                exact.price[i] = SyntheticOptions.blackPrice(exact.F[i], exact.K[i], exact.T[i], exact.sigma[i], exact.q[i]);
+                near.K[i] = near.F[i] * (1.0 + 1e-12);
+                near.price[i] = SyntheticOptions.blackPrice(near.F[i], near.K[i], near.T[i], near.sigma[i], near.q[i]);
+                off.K[i] = off.F[i] * (1.0 + 1e-6);
+                off.price[i] = SyntheticOptions.blackPrice(off.F[i], off.K[i], off.T[i], off.sigma[i], off.q[i]);
+            }
+        }
+    }
+
+    private double[] solve(SyntheticOptions options) {
+        for (int i = 0; i < SIZE; i++) {
+            out[i] = LetsBeRational.impliedVolatilityFromATransformedRationalGuess(
+                options.price[i], options.F[i], options.K[i], options.T[i], options.q[i]);
+        }
+        return out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] exactlyAtTheMoney() {
+        return solve(exact);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] nearTheMoney() {
+        return solve(near);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] offTheMoney() {
+        return solve(off);
+    }
+}
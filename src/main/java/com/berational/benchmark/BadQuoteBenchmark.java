@@ -0,0 +1,84 @@
+package com.berational.benchmark;
+
+import com.berational.AboveMaximumException;
+import com.berational.BelowIntrinsicException;
+import com.berational.LetsBeRational;
+import com.berational.LetsBeRationalBatch;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmark of chains containing stale or crossed quotes.
+ *
+ * A share of the quotes is moved below intrinsic value or above the maximum value,
+ * then the chain is solved with the throwing API (catching per option), the
+ * signal-value API, and the batch API with a status column.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G", "--add-modules", "jdk.incubator.vector"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BadQuoteBenchmark {
+
+    private static final int SIZE = 65536;
+
+    /** Share of bad quotes in the chain. */
+    @Param({"0.0", "0.02", "0.05"})
+    double badQuoteRatio;
+
+    private SyntheticOptions options;
+    private double[] out;
+    private byte[] status;
+
+    @Setup
+    public void setup() {
+        options = new SyntheticOptions(SIZE, 42L);
+        out = new double[SIZE];
+        status = new byte[SIZE];
+
+        SplittableRandom random = new SplittableRandom(7L);
+        for (int i = 0; i < SIZE; i++) {
+            if (random.nextDouble() < badQuoteRatio) {
+                double intrinsic = Math.max(options.q[i] * (options.F[i] - options.K[i]), 0.0);
+                double maximum = options.q[i] < 0 ? options.K[i] : options.F[i];
+                options.price[i] = random.nextBoolean() ? 0.5 * intrinsic - 0.01 : 1.01 * maximum;
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] throwing() {
+        for (int i = 0; i < SIZE; i++) {
+            try {
+                out[i] = LetsBeRational.impliedVolatilityFromATransformedRationalGuess(
+                    options.price[i], options.F[i], options.K[i], options.T[i], options.q[i]);
+            } catch (BelowIntrinsicException | AboveMaximumException e) {
+                out[i] = Double.NaN;
+            }
+        }
+        return out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] signalling() {
+        for (int i = 0; i < SIZE; i++) {
+            out[i] = LetsBeRational.impliedVolatilityFromATransformedRationalGuessOrSignal(
+                options.price[i], options.F[i], options.K[i], options.T[i], options.q[i]);
+        }
+        return out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public byte[] batchWithStatus() {
+        LetsBeRationalBatch.impliedVolatilities(
+            options.price, options.F, options.K, options.T, options.q, out, status);
+        return status;
+    }
+}
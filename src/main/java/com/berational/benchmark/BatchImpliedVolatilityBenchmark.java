@@ -0,0 +1,51 @@
+package com.berational.benchmark;
+
+import com.berational.LetsBeRational;
+import com.berational.LetsBeRationalBatch;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmark of the batch implied volatility entry point against the scalar loop.
+ *
+ * Reports options per second on a seeded random chain. The forked JVM resolves
+ * {@code jdk.incubator.vector}, so the batch call runs the Vector API kernel.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G", "--add-modules", "jdk.incubator.vector"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BatchImpliedVolatilityBenchmark {
+
+    private static final int SIZE = 65536;
+
+    private SyntheticOptions options;
+    private double[] out;
+
+    @Setup
+    public void setup() {
+        options = new SyntheticOptions(SIZE, 42L);
+        out = new double[SIZE];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] scalarLoop() {
+        for (int i = 0; i < SIZE; i++) {
+            out[i] = LetsBeRational.impliedVolatilityFromATransformedRationalGuess(
+                options.price[i], options.F[i], options.K[i], options.T[i], options.q[i]);
+        }
+        return out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] batch() {
+        LetsBeRationalBatch.impliedVolatilities(
+            options.price, options.F, options.K, options.T, options.q, out);
+        return out;
+    }
+}
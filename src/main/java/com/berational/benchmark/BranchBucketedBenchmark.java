@@ -0,0 +1,50 @@
+package com.berational.benchmark;
+
+import com.berational.BranchBucketedSolver;
+import com.berational.LetsBeRationalBatch;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmark of the branch-bucketed batch solver against the in-order batch loop.
+ *
+ * The chain mixes calls and puts with strikes out to ±6 standard deviations, so
+ * consecutive options land on different initial-guess branches and objective functions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class BranchBucketedBenchmark {
+
+    private static final int SIZE = 65536;
+
+    private SyntheticOptions options;
+    private BranchBucketedSolver solver;
+    private double[] out;
+
+    @Setup
+    public void setup() {
+        options = new SyntheticOptions(SIZE, 42L, 6.0);
+        solver = new BranchBucketedSolver(SIZE);
+        out = new double[SIZE];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] inOrder() {
+        LetsBeRationalBatch.impliedVolatilities(
+            options.price, options.F, options.K, options.T, options.q, out);
+        return out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] bucketed() {
+        solver.impliedVolatilities(options.price, options.F, options.K, options.T, options.q, out);
+        return out;
+    }
+}
@@ -0,0 +1,55 @@
+package com.berational.benchmark;
+
+import com.berational.LetsBeRational;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmark of first-call latency in a fresh JVM.
+ *
+ * Each measurement is a single shot in its own fork with no warmup, so it includes
+ * class loading, static initialisation and interpreted execution. The class benchmarks
+ * initialise one class each, together with whatever it initialises in turn;
+ * {@code Constants} computes its derived limits and thresholds, {@code NormalDistribution}
+ * its logarithmic thresholds and the generated {@code Polynomials} its coefficient tables.
+ * {@code CodyErf} holds only compile-time constants, so its benchmark times bare class
+ * loading. The solver benchmark times the first implied volatility, which pays for all
+ * of them. JMH reports percentiles over the forks.
+ *
+ * This class must not refer to the library outside its benchmark methods, or the
+ * initialisation would move into JMH's setup and out of the measurement.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 20, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class ColdStartBenchmark {
+
+    @Benchmark
+    public Class<?> initialiseConstants() throws ClassNotFoundException {
+        return Class.forName("com.berational.Constants");
+    }
+
+    @Benchmark
+    public Class<?> initialiseCodyErf() throws ClassNotFoundException {
+        return Class.forName("com.berational.CodyErf");
+    }
+
+    @Benchmark
+    public Class<?> initialisePolynomials() throws ClassNotFoundException {
+        return Class.forName("com.berational.Polynomials");
+    }
+
+    @Benchmark
+    public Class<?> initialiseNormalDistribution() throws ClassNotFoundException {
+        return Class.forName("com.berational.NormalDistribution");
+    }
+
+    @Benchmark
+    public double firstImpliedVolatility() {
+        return LetsBeRational.impliedVolatilityFromATransformedRationalGuess(4.0, 100.0, 105.0, 0.5, 1);
+    }
+}
@@ -0,0 +1,157 @@
+package com.berational.benchmark;
+
+import com.berational.ConflatingQuoteQueue;
+import com.berational.LatencyHistogram;
+import com.berational.LetsBeRationalBatch;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmark of a solver worker under bursty quote load, with and without conflation.
+ *
+ * The simulated feed delivers a burst of quotes every millisecond, concentrated on a few
+ * hot instruments: 500 per burst is within what one thread can solve, 4000 is well
+ * beyond it. Each invocation is one step of the worker: take the quotes that are due by
+ * now and solve a batch.
+ * - Without conflation, quotes are solved in arrival order, at most 256 per step, so the
+ *   backlog grows for as long as the bursts last
+ * - With conflation, all due quotes go into a {@link ConflatingQuoteQueue} and only the
+ *   newest quote per instrument is solved
+ *
+ * The {@code received} counter reports quotes delivered by the feed per second in both
+ * arms, whether or not the worker has taken them yet; {@code solves} reports quotes solved
+ * per second. Teardown prints the staleness of the published volatilities, the time from a
+ * quote's due time to its result, over the last measurement iteration.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ConflationBenchmark {
+
+    private static final int INSTRUMENTS = 512;
+    private static final int FEED_SIZE = 65536;
+    private static final int BATCH = 256;
+    private static final long PERIOD_NANOS = 1_000_000L;
+
+    @Param({"false", "true"})
+    boolean conflate;
+
+    /** Quotes per burst, one burst per millisecond. */
+    @Param({"500", "4000"})
+    int burst;
+
+    private SyntheticOptions instruments;
+    // Feed: instrument and price of each quote
+    private final int[] feedInstrument = new int[FEED_SIZE];
+    private final double[] feedPrice = new double[FEED_SIZE];
+
+    private ConflatingQuoteQueue queue;
+    private ConflatingQuoteQueue.Publisher publisher;
+    private final LatencyHistogram staleness = new LatencyHistogram();
+
+    // Batch columns of the worker without conflation
+    private final double[] price = new double[BATCH];
+    private final double[] F = new double[BATCH];
+    private final double[] K = new double[BATCH];
+    private final double[] T = new double[BATCH];
+    private final int[] q = new int[BATCH];
+    private final double[] out = new double[BATCH];
+    private final byte[] status = new byte[BATCH];
+
+    private long start;
+    // Quotes delivered by the feed and quotes taken from it, since the iteration started
+    private long delivered;
+    private long consumed;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long received;
+        public long solves;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            received = 0;
+            solves = 0;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        instruments = new SyntheticOptions(INSTRUMENTS, 42L);
+        SplittableRandom random = new SplittableRandom(7L);
+        for (int i = 0; i < FEED_SIZE; i++) {
+            // Quadratic skew: the first tenth of the instruments draws about a third of the quotes
+            double u = random.nextDouble();
+            int instrument = (int) (INSTRUMENTS * u * u);
+            double sigma = instruments.sigma[instrument] * (1.0 + 0.01 * (random.nextDouble() - 0.5));
+            feedInstrument[i] = instrument;
+            feedPrice[i] = SyntheticOptions.blackPrice(instruments.F[instrument], instruments.K[instrument],
+                                                       instruments.T[instrument], sigma, instruments.q[instrument]);
+        }
+        queue = new ConflatingQuoteQueue(INSTRUMENTS);
+        publisher = (instrument, tag, volatility, status) -> staleness.record(System.nanoTime() - tag);
+    }
+
+    @Setup(Level.Iteration)
+    public void startFeed() {
+        staleness.reset();
+        start = System.nanoTime();
+        delivered = 0;
+        consumed = 0;
+    }
+
+    @TearDown
+    public void printStaleness() {
+        System.out.printf("%nconflate %b, burst %d: staleness p50 %d us, p99 %d us, p99.9 %d us%n",
+                          conflate, burst, staleness.valueAtPercentile(50.0) / 1000,
+                          staleness.valueAtPercentile(99.0) / 1000, staleness.valueAtPercentile(99.9) / 1000);
+    }
+
+    /**
+     * Due time of the j-th quote of the iteration.
+     */
+    private long due(long j) {
+        return start + j / burst * PERIOD_NANOS;
+    }
+
+    @Benchmark
+    public void worker(Counters counters) {
+        long arrived = ((System.nanoTime() - start) / PERIOD_NANOS + 1) * burst;
+        counters.received += arrived - delivered;
+        delivered = arrived;
+        if (conflate) {
+            for (long j = consumed; j < arrived; j++) {
+                int f = (int) j & (FEED_SIZE - 1);
+                int i = feedInstrument[f];
+                queue.put(i, due(j), feedPrice[f], instruments.F[i], instruments.K[i], instruments.T[i],
+                          instruments.q[i]);
+            }
+            consumed = arrived;
+            counters.solves += queue.solve(publisher);
+        } else {
+            int n = (int) Math.min(arrived - consumed, BATCH);
+            for (int k = 0; k < n; k++) {
+                int f = (int) (consumed + k) & (FEED_SIZE - 1);
+                int i = feedInstrument[f];
+                price[k] = feedPrice[f];
+                F[k] = instruments.F[i];
+                K[k] = instruments.K[i];
+                T[k] = instruments.T[i];
+                q[k] = instruments.q[i];
+            }
+            LetsBeRationalBatch.impliedVolatilities(price, F, K, T, q, out, status, 0, n);
+            long now = System.nanoTime();
+            for (int k = 0; k < n; k++) {
+                staleness.record(now - due(consumed + k));
+            }
+            counters.solves += n;
+            consumed += n;
+        }
+    }
+}
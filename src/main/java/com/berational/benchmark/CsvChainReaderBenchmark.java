@@ -0,0 +1,132 @@
+package com.berational.benchmark;
+
+import com.berational.CsvChainReader;
+import com.berational.LetsBeRationalBatch;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmark of CSV ingestion on a file of about 1 GB.
+ *
+ * Setup writes 17M seeded options as CSV. Each invocation reads the whole file into
+ * 4096-row column chunks:
+ * - bufferedReader: {@link BufferedReader#readLine}, {@link String#split} and
+ *   {@link Double#parseDouble} per field
+ * - streamingReader: {@link CsvChainReader}, parsing in place from its read buffer
+ * - streamingReaderAndSolve: as streamingReader, solving the batch after every chunk
+ *
+ * Times are per option. The file stays in the page cache between invocations, so disk
+ * reads are not measured.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class CsvChainReaderBenchmark {
+
+    private static final int ROWS = 17_000_000;
+    private static final int CHUNK = 4096;
+
+    private Path directory;
+    private Path csv;
+
+    private final double[] price = new double[CHUNK];
+    private final double[] F = new double[CHUNK];
+    private final double[] K = new double[CHUNK];
+    private final double[] T = new double[CHUNK];
+    private final int[] q = new int[CHUNK];
+    private final double[] out = new double[CHUNK];
+    private final byte[] status = new byte[CHUNK];
+
+    @Setup
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("csv-chain");
+        csv = directory.resolve("chain.csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(csv, StandardCharsets.US_ASCII)) {
+            writer.write("F,K,T,price,q\n");
+            for (int from = 0; from < ROWS; from += 65536) {
+                int n = Math.min(65536, ROWS - from);
+                SyntheticOptions options = new SyntheticOptions(n, 42L + from, MarketRegime.PRODUCTION);
+                for (int i = 0; i < n; i++) {
+                    writer.write(options.F[i] + "," + options.K[i] + "," + options.T[i] + "," +
+                                 options.price[i] + "," + options.q[i] + "\n");
+                }
+            }
+        }
+        System.out.printf("%nCSV %d MB, %d rows%n", Files.size(csv) >> 20, ROWS);
+    }
+
+    @TearDown
+    public void deleteFiles() throws IOException {
+        Files.deleteIfExists(csv);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public double bufferedReader() throws IOException {
+        double sum = 0.0;
+        try (BufferedReader reader = Files.newBufferedReader(csv, StandardCharsets.US_ASCII)) {
+            reader.readLine();
+            String line;
+            int n = 0;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split(",");
+                F[n] = Double.parseDouble(fields[0]);
+                K[n] = Double.parseDouble(fields[1]);
+                T[n] = Double.parseDouble(fields[2]);
+                price[n] = Double.parseDouble(fields[3]);
+                q[n] = Integer.parseInt(fields[4]);
+                if (++n == CHUNK) {
+                    sum += checksum(price, n);
+                    n = 0;
+                }
+            }
+            sum += checksum(price, n);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public double streamingReader() throws IOException {
+        double sum = 0.0;
+        try (CsvChainReader reader = new CsvChainReader(csv, CHUNK)) {
+            for (int n; (n = reader.next()) > 0; ) {
+                sum += checksum(reader.price(), n);
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public double streamingReaderAndSolve() throws IOException {
+        double sum = 0.0;
+        try (CsvChainReader reader = new CsvChainReader(csv, CHUNK)) {
+            for (int n; (n = reader.next()) > 0; ) {
+                LetsBeRationalBatch.impliedVolatilities(reader.price(), reader.forward(), reader.strike(),
+                                                        reader.expiry(), reader.optionType(), out, status, 0, n);
+                sum += checksum(out, n);
+            }
+        }
+        return sum;
+    }
+
+    private static double checksum(double[] column, int n) {
+        double sum = 0.0;
+        for (int i = 0; i < n; i++) {
+            sum += column[i];
+        }
+        return sum;
+    }
+}
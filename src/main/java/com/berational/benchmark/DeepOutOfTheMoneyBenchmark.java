@@ -0,0 +1,84 @@
+package com.berational.benchmark;
+
+import com.berational.LetsBeRational;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmark of deep out-of-the-money normalized calls.
+ *
+ * Options are drawn at a fixed h = x/s, so ln β ≈ -h²/2 and every solve takes
+ * branch 1 with its lower objective. The solver benchmarks compare the normalized
+ * price entry point with the ln β entry point, which iterates on the given logarithm;
+ * the kernel benchmarks compare ln b taken from the linear price with
+ * {@link LetsBeRational#logNormalisedBlackCall}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DeepOutOfTheMoneyBenchmark {
+
+    private static final int SIZE = 16384;
+
+    /** h = x/s of every option; ln β is about -h²/2. */
+    @Param({"-6.0", "-12.0", "-30.0"})
+    double h;
+
+    private final double[] x = new double[SIZE];
+    private final double[] s = new double[SIZE];
+    private final double[] beta = new double[SIZE];
+    private final double[] lnBeta = new double[SIZE];
+    private final double[] out = new double[SIZE];
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42L);
+        for (int i = 0; i < SIZE; i++) {
+            s[i] = random.nextDouble(0.05, 1.0);
+            x[i] = h * s[i];
+            beta[i] = LetsBeRational.normalisedBlackCall(x[i], s[i]);
+            lnBeta[i] = LetsBeRational.logNormalisedBlackCall(x[i], s[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] fromPrice() {
+        for (int i = 0; i < SIZE; i++) {
+            out[i] = LetsBeRational.normalisedImpliedVolatilityFromATransformedRationalGuess(beta[i], x[i], 1);
+        }
+        return out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] fromLogPrice() {
+        for (int i = 0; i < SIZE; i++) {
+            out[i] = LetsBeRational.normalisedImpliedVolatilityFromLogPrice(lnBeta[i], x[i], 1);
+        }
+        return out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] logOfBlackCall() {
+        for (int i = 0; i < SIZE; i++) {
+            out[i] = Math.log(LetsBeRational.normalisedBlackCall(x[i], s[i]));
+        }
+        return out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] logBlackCall() {
+        for (int i = 0; i < SIZE; i++) {
+            out[i] = LetsBeRational.logNormalisedBlackCall(x[i], s[i]);
+        }
+        return out;
+    }
+}
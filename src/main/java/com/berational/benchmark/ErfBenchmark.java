@@ -4,44 +4,169 @@ import com.berational.CodyErf;
 import org.apache.commons.math3.special.Erf;
 import org.openjdk.jmh.annotations.*;
 
+import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
 /**
  * Benchmark comparing Cody's erf implementation with Apache Commons Math.
+ *
+ * Scalar benchmarks time one call at fixed x. Array benchmarks run over uniform random
+ * arguments in [-6, 6], which mixes all three Cody regions in every vector block: the
+ * array form against a scalar Cody loop and an Apache Commons Math loop. Each invocation
+ * passes over the array until it has evaluated {@value #ELEMENTS} arguments, so times are
+ * per call at every array size and compare directly with the scalar benchmarks.
  */
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
 @Warmup(iterations = 1, time = 1, timeUnit = TimeUnit.SECONDS)
 @Measurement(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
 @Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
-@State(Scope.Benchmark)
 public class ErfBenchmark {
 
-    @Param({"0.1", "0.5", "1.0", "2.0", "3.0", "5.0"})
-    private double x;
+    /** Arguments evaluated per array benchmark invocation, a multiple of every array size. */
+    static final int ELEMENTS = 1 << 20;
+
+    @State(Scope.Benchmark)
+    public static class Scalar {
+        @Param({"0.1", "0.5", "1.0", "2.0", "3.0", "5.0"})
+        double x;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Arrays {
+        @Param({"1024", "65536", "1048576"})
+        int size;
+
+        double[] x;
+        double[] out;
+        int passes;
+
+        @Setup
+        public void setup() {
+            Random random = new Random(42);
+            x = new double[size];
+            out = new double[size];
+            passes = ELEMENTS / size;
+            for (int i = 0; i < size; i++) {
+                x[i] = (random.nextDouble() - 0.5) * 12.0;
+            }
+        }
+    }
+
+    @Benchmark
+    public double codyErf(Scalar state) {
+        return CodyErf.erf(state.x);
+    }
+
+    @Benchmark
+    public double apacheErf(Scalar state) {
+        return Erf.erf(state.x);
+    }
+
+    @Benchmark
+    public double codyErfc(Scalar state) {
+        return CodyErf.erfc(state.x);
+    }
+
+    @Benchmark
+    public double apacheErfc(Scalar state) {
+        return Erf.erfc(state.x);
+    }
+
+    @Benchmark
+    public double codyErfcx(Scalar state) {
+        return CodyErf.erfcx(state.x);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public double[] codyErfArray(Arrays state) {
+        for (int p = 0; p < state.passes; p++) {
+            CodyErf.erf(state.x, state.out);
+        }
+        return state.out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public double[] codyErfLoop(Arrays state) {
+        double[] x = state.x;
+        double[] out = state.out;
+        for (int p = 0; p < state.passes; p++) {
+            for (int i = 0; i < x.length; i++) {
+                out[i] = CodyErf.erf(x[i]);
+            }
+        }
+        return out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ELEMENTS)
+    public double[] apacheErfLoop(Arrays state) {
+        double[] x = state.x;
+        double[] out = state.out;
+        for (int p = 0; p < state.passes; p++) {
+            for (int i = 0; i < x.length; i++) {
+                out[i] = Erf.erf(x[i]);
+            }
+        }
+        return out;
+    }
 
     @Benchmark
-    public double codyErf() {
-        return CodyErf.erf(x);
+    @OperationsPerInvocation(ELEMENTS)
+    public double[] codyErfcArray(Arrays state) {
+        for (int p = 0; p < state.passes; p++) {
+            CodyErf.erfc(state.x, state.out);
+        }
+        return state.out;
     }
 
     @Benchmark
-    public double apacheErf() {
-        return Erf.erf(x);
+    @OperationsPerInvocation(ELEMENTS)
+    public double[] codyErfcLoop(Arrays state) {
+        double[] x = state.x;
+        double[] out = state.out;
+        for (int p = 0; p < state.passes; p++) {
+            for (int i = 0; i < x.length; i++) {
+                out[i] = CodyErf.erfc(x[i]);
+            }
+        }
+        return out;
     }
 
     @Benchmark
-    public double codyErfc() {
-        return CodyErf.erfc(x);
+    @OperationsPerInvocation(ELEMENTS)
+    public double[] apacheErfcLoop(Arrays state) {
+        double[] x = state.x;
+        double[] out = state.out;
+        for (int p = 0; p < state.passes; p++) {
+            for (int i = 0; i < x.length; i++) {
+                out[i] = Erf.erfc(x[i]);
+            }
+        }
+        return out;
     }
 
     @Benchmark
-    public double apacheErfc() {
-        return Erf.erfc(x);
+    @OperationsPerInvocation(ELEMENTS)
+    public double[] codyErfcxArray(Arrays state) {
+        for (int p = 0; p < state.passes; p++) {
+            CodyErf.erfcx(state.x, state.out);
+        }
+        return state.out;
     }
 
     @Benchmark
-    public double codyErfcx() {
-        return CodyErf.erfcx(x);
+    @OperationsPerInvocation(ELEMENTS)
+    public double[] codyErfcxLoop(Arrays state) {
+        double[] x = state.x;
+        double[] out = state.out;
+        for (int p = 0; p < state.passes; p++) {
+            for (int i = 0; i < x.length; i++) {
+                out[i] = CodyErf.erfcx(x[i]);
+            }
+        }
+        return out;
     }
 }
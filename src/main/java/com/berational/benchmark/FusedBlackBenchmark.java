@@ -0,0 +1,109 @@
+package com.berational.benchmark;
+
+import com.berational.Constants;
+import com.berational.LetsBeRational;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of price and vega evaluated separately versus through the shared exponential factor.
+ *
+ * One state per region of the normalized Black call:
+ * Region I: asymptotic expansion (large negative h, small t)
+ * Region II: small t expansion
+ * Region III: normal CDF (large t)
+ * Region IV: erfcx formulation
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 1, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 2, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@State(Scope.Benchmark)
+public class FusedBlackBenchmark {
+
+    // Region I: Asymptotic expansion
+    @State(Scope.Benchmark)
+    public static class Region1State {
+        double x = -5.0;
+        @Param({"0.1", "0.2", "0.3"})
+        double s;
+    }
+
+    // Region II: Small t expansion
+    @State(Scope.Benchmark)
+    public static class Region2State {
+        double x = -0.1;
+        @Param({"0.05", "0.1", "0.2"})
+        double s;
+    }
+
+    // Region III: Normal CDF
+    @State(Scope.Benchmark)
+    public static class Region3State {
+        double x = -0.5;
+        @Param({"3.0", "4.0", "5.0"})
+        double s;
+    }
+
+    // Region IV: erfcx
+    @State(Scope.Benchmark)
+    public static class Region4State {
+        double x = -0.5;
+        @Param({"0.6", "0.8", "1.2"})
+        double s;
+    }
+
+    private static void separate(double x, double s, Blackhole bh) {
+        bh.consume(LetsBeRational.normalisedBlackCall(x, s));
+        bh.consume(LetsBeRational.normalisedVega(x, s));
+    }
+
+    private static void fused(double x, double s, Blackhole bh) {
+        double e = LetsBeRational.normalisedBlackExponentialFactor(x, s);
+        bh.consume(LetsBeRational.normalisedBlackCall(x, s, e));
+        bh.consume(Constants.ONE_OVER_SQRT_TWO_PI * e);
+    }
+
+    @Benchmark
+    public void separateRegion1(Region1State state, Blackhole bh) {
+        separate(state.x, state.s, bh);
+    }
+
+    @Benchmark
+    public void fusedRegion1(Region1State state, Blackhole bh) {
+        fused(state.x, state.s, bh);
+    }
+
+    @Benchmark
+    public void separateRegion2(Region2State state, Blackhole bh) {
+        separate(state.x, state.s, bh);
+    }
+
+    @Benchmark
+    public void fusedRegion2(Region2State state, Blackhole bh) {
+        fused(state.x, state.s, bh);
+    }
+
+    @Benchmark
+    public void separateRegion3(Region3State state, Blackhole bh) {
+        separate(state.x, state.s, bh);
+    }
+
+    @Benchmark
+    public void fusedRegion3(Region3State state, Blackhole bh) {
+        fused(state.x, state.s, bh);
+    }
+
+    @Benchmark
+    public void separateRegion4(Region4State state, Blackhole bh) {
+        separate(state.x, state.s, bh);
+    }
+
+    @Benchmark
+    public void fusedRegion4(Region4State state, Blackhole bh) {
+        fused(state.x, state.s, bh);
+    }
+}
@@ -0,0 +1,85 @@
+package com.berational.benchmark;
+
+import com.berational.BlackGreeks;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmark of analytic Greeks against bump-and-reprice.
+ *
+ * Bump-and-reprice uses central differences: delta and gamma from F ± dF, vega and
+ * volga from σ ± dσ, vanna from the four cross bumps, nine prices per option.
+ * The analytic engine returns the same six values from one shared evaluation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class GreeksBenchmark {
+
+    private static final int SIZE = 4096;
+    private static final double RELATIVE_SPOT_BUMP = 1e-4;
+    private static final double VOLATILITY_BUMP = 1e-4;
+
+    private SyntheticOptions options;
+    private double[] price;
+    private double[] delta;
+    private double[] gamma;
+    private double[] vega;
+    private double[] vanna;
+    private double[] volga;
+
+    @Setup
+    public void setup() {
+        options = new SyntheticOptions(SIZE, 42L);
+        price = new double[SIZE];
+        delta = new double[SIZE];
+        gamma = new double[SIZE];
+        vega = new double[SIZE];
+        vanna = new double[SIZE];
+        volga = new double[SIZE];
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] analytic() {
+        BlackGreeks.greeks(options.F, options.K, options.T, options.sigma, options.q,
+                           price, delta, gamma, vega, vanna, volga);
+        return volga;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] bumpAndReprice() {
+        for (int i = 0; i < SIZE; i++) {
+            double F = options.F[i];
+            double K = options.K[i];
+            double T = options.T[i];
+            double sigma = options.sigma[i];
+            int q = options.q[i];
+            double dF = RELATIVE_SPOT_BUMP * F;
+            double dSigma = VOLATILITY_BUMP;
+
+            double v = SyntheticOptions.blackPrice(F, K, T, sigma, q);
+            double vUp = SyntheticOptions.blackPrice(F + dF, K, T, sigma, q);
+            double vDown = SyntheticOptions.blackPrice(F - dF, K, T, sigma, q);
+            double vVolUp = SyntheticOptions.blackPrice(F, K, T, sigma + dSigma, q);
+            double vVolDown = SyntheticOptions.blackPrice(F, K, T, sigma - dSigma, q);
+            double vUpUp = SyntheticOptions.blackPrice(F + dF, K, T, sigma + dSigma, q);
+            double vUpDown = SyntheticOptions.blackPrice(F + dF, K, T, sigma - dSigma, q);
+            double vDownUp = SyntheticOptions.blackPrice(F - dF, K, T, sigma + dSigma, q);
+            double vDownDown = SyntheticOptions.blackPrice(F - dF, K, T, sigma - dSigma, q);
+
+            price[i] = v;
+            delta[i] = (vUp - vDown) / (2.0 * dF);
+            gamma[i] = (vUp - 2.0 * v + vDown) / (dF * dF);
+            vega[i] = (vVolUp - vVolDown) / (2.0 * dSigma);
+            vanna[i] = (vUpUp - vUpDown - vDownUp + vDownDown) / (4.0 * dF * dSigma);
+            volga[i] = (vVolUp - 2.0 * v + vVolDown) / (dSigma * dSigma);
+        }
+        return volga;
+    }
+}
@@ -0,0 +1,84 @@
+package com.berational.benchmark;
+
+import com.berational.NormalDistribution;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmark of the inverse normal CDF over arrays of uniforms, as used to turn
+ * quasi-random numbers into Gaussians.
+ *
+ * AS241 is timed as a scalar loop and through the array form, which gives the same
+ * results bit for bit. The PPND7 fast variant is timed the same way; at the end of each
+ * trial its worst relative error against AS241 is printed next to the cost.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class InverseCdfBenchmark {
+
+    private static final int SIZE = 65536;
+
+    private double[] u;
+    private double[] out;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        u = new double[SIZE];
+        out = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            // Open interval (0, 1): about 15% of draws land in the AS241 tails
+            u[i] = (i + random.nextDouble()) / SIZE;
+        }
+    }
+
+    @TearDown
+    public void reportAccuracy() {
+        double worst = 0.0;
+        for (int i = 0; i < SIZE; i++) {
+            double exact = NormalDistribution.inverseCdf(u[i]);
+            if (exact != 0.0) {
+                worst = Math.max(worst, Math.abs(NormalDistribution.fastInverseCdf(u[i]) - exact) / Math.abs(exact));
+            }
+        }
+        System.out.printf("%nfastInverseCdf: worst relative error %.2e against AS241%n", worst);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] as241Loop() {
+        for (int i = 0; i < SIZE; i++) {
+            out[i] = NormalDistribution.inverseCdf(u[i]);
+        }
+        return out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] as241Array() {
+        NormalDistribution.inverseCdf(u, out);
+        return out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] fastLoop() {
+        for (int i = 0; i < SIZE; i++) {
+            out[i] = NormalDistribution.fastInverseCdf(u[i]);
+        }
+        return out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] fastArray() {
+        NormalDistribution.fastInverseCdf(u, out);
+        return out;
+    }
+}
@@ -0,0 +1,147 @@
+package com.berational.benchmark;
+
+import com.berational.ColumnarChainFile;
+import com.berational.LetsBeRationalBatch;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmark of file-to-volatility throughput on 10M options.
+ *
+ * Setup writes the same seeded options as CSV and as a {@link ColumnarChainFile}. Each
+ * invocation turns one file into implied volatilities:
+ * - csvFile: read the CSV line by line, parse into arrays and solve the batch
+ * - mappedFile: open the mapped file, solve into its output columns and close it
+ * - heapArrays: solve the batch from arrays already in memory, the bound for both
+ *
+ * Times are per option. The files stay in the page cache between invocations, so disk
+ * reads are not measured.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-Xms3G", "-Xmx3G"})
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class MappedChainFileBenchmark {
+
+    private static final int ROWS = 10_000_000;
+    private static final int CHUNK = 65536;
+
+    private Path directory;
+    private Path csv;
+    private Path mapped;
+
+    private double[] price;
+    private double[] F;
+    private double[] K;
+    private double[] T;
+    private int[] q;
+    private double[] out;
+    private byte[] status;
+
+    @Setup
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("mapped-chain");
+        csv = directory.resolve("chain.csv");
+        mapped = directory.resolve("chain.lbr");
+        price = new double[ROWS];
+        F = new double[ROWS];
+        K = new double[ROWS];
+        T = new double[ROWS];
+        q = new int[ROWS];
+        out = new double[ROWS];
+        status = new byte[ROWS];
+
+        try (BufferedWriter writer = Files.newBufferedWriter(csv, StandardCharsets.US_ASCII);
+             ColumnarChainFile file = ColumnarChainFile.create(mapped, ROWS)) {
+            writer.write("F,K,T,price,q\n");
+            DoubleBuffer fileF = file.forward();
+            DoubleBuffer fileK = file.strike();
+            DoubleBuffer fileT = file.expiry();
+            DoubleBuffer filePrice = file.price();
+            IntBuffer fileQ = file.optionType();
+            for (int from = 0; from < ROWS; from += CHUNK) {
+                int n = Math.min(CHUNK, ROWS - from);
+                SyntheticOptions options = new SyntheticOptions(n, 42L + from, MarketRegime.PRODUCTION);
+                for (int i = 0; i < n; i++) {
+                    int row = from + i;
+                    F[row] = options.F[i];
+                    K[row] = options.K[i];
+                    T[row] = options.T[i];
+                    price[row] = options.price[i];
+                    q[row] = options.q[i];
+                    fileF.put(row, F[row]);
+                    fileK.put(row, K[row]);
+                    fileT.put(row, T[row]);
+                    filePrice.put(row, price[row]);
+                    fileQ.put(row, q[row]);
+                    writer.write(F[row] + "," + K[row] + "," + T[row] + "," + price[row] + "," + q[row] + "\n");
+                }
+            }
+            file.force();
+        }
+        System.out.printf("%nCSV %d MB, mapped file %d MB%n",
+                          Files.size(csv) >> 20, Files.size(mapped) >> 20);
+    }
+
+    @TearDown
+    public void deleteFiles() throws IOException {
+        Files.deleteIfExists(csv);
+        Files.deleteIfExists(mapped);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public double[] csvFile() throws IOException {
+        double[] csvPrice = new double[ROWS];
+        double[] csvF = new double[ROWS];
+        double[] csvK = new double[ROWS];
+        double[] csvT = new double[ROWS];
+        int[] csvQ = new int[ROWS];
+        double[] csvOut = new double[ROWS];
+        byte[] csvStatus = new byte[ROWS];
+        try (BufferedReader reader = Files.newBufferedReader(csv, StandardCharsets.US_ASCII)) {
+            reader.readLine();
+            String line;
+            int row = 0;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split(",");
+                csvF[row] = Double.parseDouble(fields[0]);
+                csvK[row] = Double.parseDouble(fields[1]);
+                csvT[row] = Double.parseDouble(fields[2]);
+                csvPrice[row] = Double.parseDouble(fields[3]);
+                csvQ[row] = Integer.parseInt(fields[4]);
+                row++;
+            }
+        }
+        LetsBeRationalBatch.impliedVolatilities(csvPrice, csvF, csvK, csvT, csvQ, csvOut, csvStatus);
+        return csvOut;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public double mappedFile() throws IOException {
+        try (ColumnarChainFile file = ColumnarChainFile.open(mapped)) {
+            file.solve();
+            return file.volatility().get(ROWS - 1);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public double[] heapArrays() {
+        LetsBeRationalBatch.impliedVolatilities(price, F, K, T, q, out, status);
+        return out;
+    }
+}
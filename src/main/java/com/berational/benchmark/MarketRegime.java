@@ -0,0 +1,84 @@
+package com.berational.benchmark;
+
+import java.util.SplittableRandom;
+
+/**
+ * Seeded distributions of expiry, volatility and standardised moneyness.
+ *
+ * Each regime leans on different initial-guess branches and Black regions:
+ * - LISTED: listed equity options within ±3 standard deviations, branches 1 to 3
+ *   and Regions II and IV
+ * - SHORT_DATED: expiries of a few days, so σ√T is small and only Region II is met
+ * - LONG_DATED: expiries of years at high volatility, branches 2 to 4 and Regions III
+ *   and IV
+ * - WINGS: out-of-the-money strikes 4 to 12 standard deviations away, branch 1 and
+ *   Region I; in the money their time value would be lost to rounding
+ * - PRODUCTION: the four above interleaved at random in a 60/15/10/15 mix
+ *
+ * Public only because JMH instantiates {@code @Param} values from generated code.
+ */
+public enum MarketRegime {
+
+    LISTED(0.02, 2.0, 0.05, 0.8, 0.0, 3.0),
+    SHORT_DATED(1.0 / 365.0, 0.05, 0.05, 0.6, 0.0, 4.0),
+    LONG_DATED(2.0, 30.0, 0.3, 1.5, 0.0, 2.0),
+    WINGS(0.02, 2.0, 0.05, 0.8, 4.0, 12.0),
+    PRODUCTION(0.0, 0.0, 0.0, 0.0, 0.0, 0.0);
+
+    private final double minT;
+    private final double maxT;
+    private final double minSigma;
+    private final double maxSigma;
+    private final double minDeviations;
+    private final double maxDeviations;
+
+    MarketRegime(double minT, double maxT, double minSigma, double maxSigma,
+                 double minDeviations, double maxDeviations) {
+        this.minT = minT;
+        this.maxT = maxT;
+        this.minSigma = minSigma;
+        this.maxSigma = maxSigma;
+        this.minDeviations = minDeviations;
+        this.maxDeviations = maxDeviations;
+    }
+
+    /**
+     * The regime to draw the next option from.
+     */
+    MarketRegime pick(SplittableRandom random) {
+        if (this != PRODUCTION) {
+            return this;
+        }
+        double u = random.nextDouble();
+        return u < 0.60 ? LISTED : u < 0.75 ? SHORT_DATED : u < 0.85 ? LONG_DATED : WINGS;
+    }
+
+    /**
+     * Draw an expiry, log-uniform so that short expiries are as common as long ones.
+     */
+    double expiry(SplittableRandom random) {
+        return minT * Math.exp(Math.log(maxT / minT) * random.nextDouble());
+    }
+
+    double volatility(SplittableRandom random) {
+        return minSigma + (maxSigma - minSigma) * random.nextDouble();
+    }
+
+    /**
+     * Draw a signed number of standard deviations between the forward and the strike.
+     */
+    double deviations(SplittableRandom random) {
+        double d = minDeviations + (maxDeviations - minDeviations) * random.nextDouble();
+        return random.nextBoolean() ? d : -d;
+    }
+
+    /**
+     * Draw +1 for a call or -1 for a put at log-moneyness x.
+     */
+    int optionType(SplittableRandom random, double x) {
+        if (this == WINGS) {
+            return x > 0 ? -1 : 1;
+        }
+        return random.nextBoolean() ? 1 : -1;
+    }
+}
@@ -0,0 +1,75 @@
+package com.berational.benchmark;
+
+import com.berational.LetsBeRational;
+import com.berational.MoneynessContext;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmark of repeated price ticks on a fixed option chain.
+ *
+ * Strikes and forward stay constant while prices move, as within a trading session.
+ * Compares solving from (F, K) on every tick with solving through a
+ * {@link MoneynessContext} built once per strike.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MoneynessContextBenchmark {
+
+    private static final int STRIKES = 256;
+    private static final int TICKS = 64;
+
+    private SyntheticOptions options;
+    private MoneynessContext[] contexts;
+    // Tick-by-tick prices, TICKS per strike
+    private double[] tickPrice;
+    private double[] out;
+
+    @Setup
+    public void setup() {
+        options = new SyntheticOptions(STRIKES, 42L);
+        contexts = new MoneynessContext[STRIKES];
+        tickPrice = new double[STRIKES * TICKS];
+        out = new double[STRIKES];
+
+        SplittableRandom random = new SplittableRandom(7L);
+        for (int i = 0; i < STRIKES; i++) {
+            contexts[i] = MoneynessContext.of(options.F[i], options.K[i]);
+            for (int t = 0; t < TICKS; t++) {
+                double sigma = options.sigma[i] * (1.0 + 0.02 * (2.0 * random.nextDouble() - 1.0));
+                tickPrice[t * STRIKES + i] = SyntheticOptions.blackPrice(
+                    options.F[i], options.K[i], options.T[i], sigma, options.q[i]);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STRIKES * TICKS)
+    public double[] fromForwardAndStrike() {
+        for (int t = 0; t < TICKS; t++) {
+            for (int i = 0; i < STRIKES; i++) {
+                out[i] = LetsBeRational.impliedVolatilityFromATransformedRationalGuess(
+                    tickPrice[t * STRIKES + i], options.F[i], options.K[i], options.T[i], options.q[i]);
+            }
+        }
+        return out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STRIKES * TICKS)
+    public double[] fromContext() {
+        for (int t = 0; t < TICKS; t++) {
+            for (int i = 0; i < STRIKES; i++) {
+                out[i] = LetsBeRational.impliedVolatilityFromATransformedRationalGuess(
+                    tickPrice[t * STRIKES + i], contexts[i], options.T[i], options.q[i]);
+            }
+        }
+        return out;
+    }
+}
@@ -0,0 +1,63 @@
+package com.berational.benchmark;
+
+import com.berational.LetsBeRational;
+import com.berational.OptionChain;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmark of one expiry's chain re-solved for a new forward.
+ *
+ * Compares the scalar entry point per strike, which recomputes ln(F/K), √F·√K and √T
+ * for every option, with {@link OptionChain}, which caches ln K and √K per strike and
+ * evaluates ln F and √F once per forward.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class OptionChainBenchmark {
+
+    private static final int STRIKES = 512;
+    private static final double F = 100.0;
+    private static final double T = 0.5;
+
+    private double[] K;
+    private int[] q;
+    private double[] price;
+    private double[] out;
+    private OptionChain chain;
+
+    @Setup
+    public void setup() {
+        K = new double[STRIKES];
+        q = new int[STRIKES];
+        price = new double[STRIKES];
+        out = new double[STRIKES];
+        for (int i = 0; i < STRIKES; i++) {
+            K[i] = 50.0 + 100.0 * i / STRIKES;
+            q[i] = K[i] < F ? -1 : 1;
+            price[i] = SyntheticOptions.blackPrice(F, K[i], T, 0.25, q[i]);
+        }
+        chain = new OptionChain(T, K, q);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STRIKES)
+    public double[] perOption() {
+        for (int i = 0; i < STRIKES; i++) {
+            out[i] = LetsBeRational.impliedVolatilityFromATransformedRationalGuess(price[i], F, K[i], T, q[i]);
+        }
+        return out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STRIKES)
+    public double[] chain() {
+        chain.impliedVolatilities(F, price, out);
+        return out;
+    }
+}
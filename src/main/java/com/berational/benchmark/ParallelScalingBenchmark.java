@@ -0,0 +1,89 @@
+package com.berational.benchmark;
+
+import com.berational.LetsBeRationalBatch;
+import com.berational.ParallelBatchSolver;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmark of parallel scaling over a large option universe.
+ *
+ * - forkJoin: {@link ParallelBatchSolver} swept over pool parallelism and chunk size;
+ *   small chunks expose task overhead and false sharing at chunk boundaries
+ * - threadStripes: JMH threads each solving a contiguous stripe of one shared output
+ *   column with the sequential batch kernel; sweep with {@code -t 1,2,4,...}.
+ *   Reported throughput is per thread
+ *
+ * Throughput is in options per second; divide by the single-thread result for the speedup
+ * (multiply threadStripes by the thread count first).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms4G", "-Xmx4G", "--add-modules", "jdk.incubator.vector"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ParallelScalingBenchmark {
+
+    private static final int SIZE = 1 << 20;
+
+    @State(Scope.Benchmark)
+    public static class Universe {
+        SyntheticOptions options;
+        double[] out;
+
+        @Setup
+        public void setup() {
+            options = new SyntheticOptions(SIZE, 42L);
+            out = new double[SIZE];
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Pool {
+        @Param({"1", "2", "4", "8", "16"})
+        int parallelism;
+
+        @Param({"64", "4096"})
+        int chunkSize;
+
+        ForkJoinPool pool;
+        ParallelBatchSolver solver;
+
+        @Setup
+        public void setup() {
+            pool = new ForkJoinPool(parallelism);
+            solver = new ParallelBatchSolver(pool, chunkSize);
+        }
+
+        @TearDown
+        public void tearDown() {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] forkJoin(Universe universe, Pool pool) {
+        SyntheticOptions o = universe.options;
+        pool.solver.impliedVolatilities(o.price, o.F, o.K, o.T, o.q, universe.out);
+        return universe.out;
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    @OperationsPerInvocation(SIZE)
+    public double[] threadStripes(Universe universe, ThreadParams threads) {
+        SyntheticOptions o = universe.options;
+        int stripe = SIZE / threads.getThreadCount();
+        int from = threads.getThreadIndex() * stripe;
+        int to = threads.getThreadIndex() == threads.getThreadCount() - 1 ? SIZE : from + stripe;
+        // Each thread solves its stripe once per thread, so every invocation is about SIZE options
+        for (int pass = 0; pass < threads.getThreadCount(); pass++) {
+            LetsBeRationalBatch.impliedVolatilities(o.price, o.F, o.K, o.T, o.q, universe.out, from, to);
+        }
+        return universe.out;
+    }
+}
@@ -0,0 +1,60 @@
+package com.berational.benchmark;
+
+import com.berational.LetsBeRational;
+import com.berational.Precision;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmark of the precision tiers.
+ *
+ * Reports ns/op per tier and, at the end of each trial, the mean and worst
+ * relative error in σ against the generating volatility, so that accuracy can be
+ * charted against cost.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PrecisionTierBenchmark {
+
+    private static final int SIZE = 65536;
+
+    @Param({"GUESS_ONLY", "ONE_ITERATION", "FULL"})
+    Precision precision;
+
+    private SyntheticOptions options;
+    private double[] out;
+
+    @Setup
+    public void setup() {
+        options = new SyntheticOptions(SIZE, 42L);
+        out = new double[SIZE];
+    }
+
+    @TearDown
+    public void reportAccuracy() {
+        solve();
+        double worst = 0.0;
+        double sum = 0.0;
+        for (int i = 0; i < SIZE; i++) {
+            double error = Math.abs(out[i] - options.sigma[i]) / options.sigma[i];
+            worst = Math.max(worst, error);
+            sum += error;
+        }
+        System.out.printf("%n%s: mean relative error %.2e, worst %.2e%n", precision, sum / SIZE, worst);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] solve() {
+        for (int i = 0; i < SIZE; i++) {
+            out[i] = LetsBeRational.impliedVolatilityFromATransformedRationalGuess(
+                options.price[i], options.F[i], options.K[i], options.T[i], options.q[i], precision);
+        }
+        return out;
+    }
+}
@@ -0,0 +1,117 @@
+package com.berational.benchmark;
+
+import com.berational.LatencyHistogram;
+import com.berational.QuotePipeline;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmark of a {@link QuotePipeline} fed by a synthetic quote stream.
+ *
+ * One thread offers quotes drawn from the {@link MarketRegime#PRODUCTION} mix and
+ * another polls, so the two run concurrently and the benchmark needs two free cores.
+ * The {@code quotes} counter reports solved quotes per second; {@code rejected} counts
+ * offers refused by a full ring.
+ *
+ * At a rate of 0 the feed offers as fast as the ring accepts, measuring throughput.
+ * At a positive rate each quote is due at a fixed interval and is tagged with its due
+ * time rather than the time it was offered, so latency includes any backlog the
+ * producer is catching up on. Teardown prints the percentiles of due-to-publish latency
+ * over the last measurement iteration.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class QuotePipelineBenchmark {
+
+    private static final int FEED_SIZE = 65536;
+
+    @State(Scope.Group)
+    public static class Stage {
+
+        /** Quotes per second offered by the feed; 0 for as fast as possible. */
+        @Param({"0", "2000000"})
+        long rate;
+
+        @Param({"4096"})
+        int capacity;
+
+        @Param({"16", "256"})
+        int maximumBatch;
+
+        SyntheticOptions feed;
+        QuotePipeline pipeline;
+        final LatencyHistogram latencies = new LatencyHistogram();
+        long intervalNanos;
+        long due;
+        int next;
+
+        @Setup
+        public void setup() {
+            feed = new SyntheticOptions(FEED_SIZE, 42L, MarketRegime.PRODUCTION);
+            pipeline = new QuotePipeline(capacity, maximumBatch,
+                    (tag, volatility, status) -> latencies.record(System.nanoTime() - tag));
+            intervalNanos = rate > 0 ? 1_000_000_000L / rate : 0;
+        }
+
+        @Setup(Level.Iteration)
+        public void startIteration() {
+            latencies.reset();
+            due = System.nanoTime();
+        }
+
+        @TearDown
+        public void printLatencies() {
+            System.out.printf("%nrate %d, batch %d: latency p50 %d ns, p99 %d ns, p99.9 %d ns, p99.99 %d ns%n",
+                              rate, maximumBatch, latencies.valueAtPercentile(50.0),
+                              latencies.valueAtPercentile(99.0), latencies.valueAtPercentile(99.9),
+                              latencies.valueAtPercentile(99.99));
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long quotes;
+        public long rejected;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            quotes = 0;
+            rejected = 0;
+        }
+    }
+
+    @Benchmark
+    @Group("pipeline")
+    @GroupThreads(1)
+    public void produce(Stage stage, Counters counters) {
+        long tag;
+        if (stage.intervalNanos > 0) {
+            if (System.nanoTime() < stage.due) {
+                return;
+            }
+            tag = stage.due;
+        } else {
+            tag = System.nanoTime();
+        }
+        int i = stage.next;
+        SyntheticOptions feed = stage.feed;
+        if (stage.pipeline.offer(tag, feed.price[i], feed.F[i], feed.K[i], feed.T[i], feed.q[i])) {
+            stage.next = (i + 1) & (FEED_SIZE - 1);
+            stage.due += stage.intervalNanos;
+        } else {
+            counters.rejected++;
+        }
+    }
+
+    @Benchmark
+    @Group("pipeline")
+    @GroupThreads(1)
+    public void consume(Stage stage, Counters counters) {
+        counters.quotes += stage.pipeline.poll();
+    }
+}
@@ -0,0 +1,107 @@
+package com.berational.benchmark;
+
+import com.berational.LetsBeRational;
+import com.berational.LetsBeRationalBatch;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.berational.Constants.*;
+
+/**
+ * JMH Benchmark of implied volatility over seeded random option arrays.
+ *
+ * Unlike the single-option states of {@link ImpliedVolatilityBenchmark}, every
+ * invocation solves 64K options drawn from a {@link MarketRegime}, so neither the
+ * JIT nor the branch predictor sees a repeating input. The regimes between them
+ * reach all four initial-guess branches and all four Black regions; setup prints
+ * how the drawn options split across both, with the Black region taken at the
+ * solution σ√T of the out-of-the-money call each option maps to.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RandomisedImpliedVolatilityBenchmark {
+
+    private static final int SIZE = 65536;
+
+    @Param({"LISTED", "SHORT_DATED", "LONG_DATED", "WINGS", "PRODUCTION"})
+    MarketRegime regime;
+
+    private SyntheticOptions options;
+    private double[] out;
+    private byte[] status;
+
+    @Setup
+    public void setup() {
+        options = new SyntheticOptions(SIZE, 42L, regime);
+        out = new double[SIZE];
+        status = new byte[SIZE];
+        printCoverage();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] scalarLoop() {
+        for (int i = 0; i < SIZE; i++) {
+            out[i] = LetsBeRational.impliedVolatilityFromATransformedRationalGuessOrSignal(
+                options.price[i], options.F[i], options.K[i], options.T[i], options.q[i]);
+        }
+        return out;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public double[] batch() {
+        LetsBeRationalBatch.impliedVolatilities(
+            options.price, options.F, options.K, options.T, options.q, out, status);
+        return out;
+    }
+
+    /**
+     * Print the share of options per initial-guess branch and per Black region.
+     */
+    private void printCoverage() {
+        int[] branches = new int[5];
+        int[] regions = new int[4];
+        for (int i = 0; i < SIZE; i++) {
+            double x = Math.log(options.F[i] / options.K[i]);
+            double s = options.sigma[i] * Math.sqrt(options.T[i]);
+            double beta = options.price[i] / (Math.sqrt(options.F[i]) * Math.sqrt(options.K[i]));
+            if (options.q[i] * x > 0) {
+                beta -= Math.exp(0.5 * Math.abs(x)) - Math.exp(-0.5 * Math.abs(x));
+            }
+            double ax = -Math.abs(x);
+            branches[SyntheticOptions.branch(beta, ax)]++;
+            regions[region(ax, s)]++;
+        }
+        System.out.printf("%n%s: branches at the money/1/2/3/4 %s, Black regions I/II/III/IV %s%n",
+                          regime, shares(branches), shares(regions));
+    }
+
+    /**
+     * Black region (0 to 3 for I to IV) of an out-of-the-money call.
+     */
+    private static int region(double x, double s) {
+        if (x < s * ASYMPTOTIC_EXPANSION_ACCURACY_THRESHOLD &&
+            0.5 * s * s + x < s * (SMALL_T_EXPANSION_OF_NORMALIZED_BLACK_THRESHOLD +
+                                   ASYMPTOTIC_EXPANSION_ACCURACY_THRESHOLD)) {
+            return 0;
+        }
+        if (0.5 * s < SMALL_T_EXPANSION_OF_NORMALIZED_BLACK_THRESHOLD) {
+            return 1;
+        }
+        return x + 0.5 * s * s > s * 0.85 ? 2 : 3;
+    }
+
+    private String shares(int[] counts) {
+        StringBuilder text = new StringBuilder();
+        for (int count : counts) {
+            text.append(text.length() == 0 ? "" : "/").append(Math.round(100.0 * count / SIZE)).append('%');
+        }
+        return text.toString();
+    }
+}
@@ -1,16 +1,29 @@
 package com.berational.benchmark;
 
 import com.berational.CodyErf;
+import com.berational.LetsBeRational;
+import com.berational.TableErfcx;
 import org.apache.commons.math3.special.Erf;
 import org.openjdk.jmh.annotations.*;
 
 import java.util.concurrent.TimeUnit;
 
+import static com.berational.Constants.*;
+
 /**
  * Benchmark testing performance across different regions of Cody's algorithm.
  * Region 1: |x| <= 0.46875
  * Region 2: 0.46875 < |x| <= 4.0
  * Region 3: |x| > 4.0
+ *
+ * The erfcx benchmarks compare Cody's and the table-driven implementation on the
+ * arguments that Regions II and IV of the normalised Black call pass to erfcx when
+ * pricing {@link SyntheticOptions}.
+ *
+ * The Black benchmarks time the normalised call in Regions I and II, whose expansions are
+ * generated at build time from {@code src/main/codegen/polynomials.spec}; rebuild with
+ * {@code -Dpolynomials.scheme=estrin} or a lower {@code -Dpolynomials.asymptoticOrder} to
+ * compare variants.
  */
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
@@ -70,4 +83,87 @@ public class RegionBenchmark {
     public double apacheRegion3(Region3State state) {
         return Erf.erf(state.x);
     }
+
+    // erfcx arguments of the Black function, in the order a batch of solves meets them
+    @State(Scope.Benchmark)
+    public static class BlackErfcxState {
+        static final int SIZE = 65536;
+
+        final double[] x = new double[SIZE];
+
+        @Setup
+        public void setup() {
+            SyntheticOptions options = new SyntheticOptions(SIZE, 42L);
+            int n = 0;
+            for (int i = 0; n < SIZE; i = (i + 1) % SIZE) {
+                double ax = -Math.abs(Math.log(options.F[i] / options.K[i]));
+                double s = options.sigma[i] * Math.sqrt(options.T[i]);
+                double h = ax / s;
+                double t = 0.5 * s;
+
+                if (ax < s * ASYMPTOTIC_EXPANSION_ACCURACY_THRESHOLD &&
+                    0.5 * s * s + ax < s * (SMALL_T_EXPANSION_OF_NORMALIZED_BLACK_THRESHOLD +
+                                            ASYMPTOTIC_EXPANSION_ACCURACY_THRESHOLD)) {
+                    continue;  // Region I
+                }
+                if (t < SMALL_T_EXPANSION_OF_NORMALIZED_BLACK_THRESHOLD) {
+                    x[n++] = -ONE_OVER_SQRT_TWO * h;  // Region II
+                } else if (ax + 0.5 * s * s <= s * 0.85) {
+                    // Region IV
+                    x[n++] = -ONE_OVER_SQRT_TWO * (h + t);
+                    if (n < SIZE) {
+                        x[n++] = -ONE_OVER_SQRT_TWO * (h - t);
+                    }
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BlackErfcxState.SIZE)
+    public double codyErfcxBlack(BlackErfcxState state) {
+        double sum = 0.0;
+        for (double x : state.x) {
+            sum += CodyErf.erfcx(x);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BlackErfcxState.SIZE)
+    public double tableErfcxBlack(BlackErfcxState state) {
+        double sum = 0.0;
+        for (double x : state.x) {
+            sum += TableErfcx.erfcx(x);
+        }
+        return sum;
+    }
+
+    // Black Region I: asymptotic expansion for large negative h and small t
+    @State(Scope.Benchmark)
+    public static class BlackRegion1State {
+        double x = -5.0;
+
+        @Param({"0.1", "0.2", "0.3"})
+        double s;
+    }
+
+    // Black Region II: small-t expansion
+    @State(Scope.Benchmark)
+    public static class BlackRegion2State {
+        double x = -0.1;
+
+        @Param({"0.05", "0.1", "0.2"})
+        double s;
+    }
+
+    @Benchmark
+    public double blackRegion1(BlackRegion1State state) {
+        return LetsBeRational.normalisedBlackCall(state.x, state.s);
+    }
+
+    @Benchmark
+    public double blackRegion2(BlackRegion2State state) {
+        return LetsBeRational.normalisedBlackCall(state.x, state.s);
+    }
 }
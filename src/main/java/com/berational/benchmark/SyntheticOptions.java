@@ -0,0 +1,108 @@
+package com.berational.benchmark;
+
+import com.berational.LetsBeRational;
+
+import java.util.SplittableRandom;
+
+import static com.berational.Constants.DBL_MIN;
+import static com.berational.Constants.NEAR_THE_MONEY_MAXIMUM_RELATIVE_LOG_MONEYNESS;
+
+/**
+ * Seeded random option chains for the batch benchmarks.
+ *
+ * Options are priced with the normalised Black call so that every quote is
+ * solvable, with log-moneyness, expiry and volatility drawn from ranges
+ * typical of listed equity options.
+ */
+final class SyntheticOptions {
+
+    final double[] price;
+    final double[] F;
+    final double[] K;
+    final double[] T;
+    final int[] q;
+    final double[] sigma;
+
+    SyntheticOptions(int size, long seed) {
+        this(size, seed, 3.0);
+    }
+
+    /**
+     * @param size number of options
+     * @param seed random seed
+     * @param width strikes are drawn within ±width standard deviations of the forward
+     */
+    SyntheticOptions(int size, long seed, double width) {
+        price = new double[size];
+        F = new double[size];
+        K = new double[size];
+        T = new double[size];
+        q = new int[size];
+        sigma = new double[size];
+
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < size; i++) {
+            F[i] = 100.0;
+            T[i] = 0.02 + 1.98 * random.nextDouble();
+            sigma[i] = 0.05 + 0.75 * random.nextDouble();
+            double x = width * sigma[i] * Math.sqrt(T[i]) * (2.0 * random.nextDouble() - 1.0);
+            K[i] = F[i] * Math.exp(-x);
+            q[i] = random.nextBoolean() ? 1 : -1;
+            price[i] = blackPrice(F[i], K[i], T[i], sigma[i], q[i]);
+        }
+    }
+
+    /**
+     * @param size number of options
+     * @param seed random seed
+     * @param regime distribution of expiry, volatility and moneyness
+     */
+    SyntheticOptions(int size, long seed, MarketRegime regime) {
+        price = new double[size];
+        F = new double[size];
+        K = new double[size];
+        T = new double[size];
+        q = new int[size];
+        sigma = new double[size];
+
+        SplittableRandom random = new SplittableRandom(seed);
+        for (int i = 0; i < size; i++) {
+            MarketRegime r = regime.pick(random);
+            F[i] = 100.0;
+            T[i] = r.expiry(random);
+            sigma[i] = r.volatility(random);
+            double x = r.deviations(random) * sigma[i] * Math.sqrt(T[i]);
+            K[i] = F[i] * Math.exp(-x);
+            q[i] = r.optionType(random, x);
+            price[i] = blackPrice(F[i], K[i], T[i], sigma[i], q[i]);
+        }
+    }
+
+    /**
+     * Initial-guess branch of an out-of-the-money call, or 0 at or near the money.
+     */
+    static int branch(double beta, double x) {
+        if (-x <= NEAR_THE_MONEY_MAXIMUM_RELATIVE_LOG_MONEYNESS * beta && beta - 0.5 * x < 1.0) {
+            return 0;
+        }
+        double sC = Math.sqrt(Math.abs(2.0 * x));
+        double bC = LetsBeRational.normalisedBlackCall(x, sC);
+        double vC = LetsBeRational.normalisedVega(x, sC);
+        if (beta < bC) {
+            double sL = sC - bC / vC;
+            return beta < LetsBeRational.normalisedBlackCall(x, sL) ? 1 : 2;
+        }
+        double bMax = Math.exp(0.5 * x);
+        double sH = vC > DBL_MIN ? sC + (bMax - bC) / vC : sC;
+        return beta <= LetsBeRational.normalisedBlackCall(x, sH) ? 3 : 4;
+    }
+
+    /**
+     * Black price from the normalised call, using put-call symmetry for puts.
+     */
+    static double blackPrice(double F, double K, double T, double sigma, int q) {
+        double x = Math.log(F / K);
+        double s = sigma * Math.sqrt(T);
+        return Math.sqrt(F) * Math.sqrt(K) * LetsBeRational.normalisedBlackCall(q < 0 ? -x : x, s);
+    }
+}
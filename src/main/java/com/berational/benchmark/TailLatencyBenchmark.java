@@ -0,0 +1,91 @@
+package com.berational.benchmark;
+
+import com.berational.CodyErf;
+import com.berational.LetsBeRational;
+import com.berational.NormalDistribution;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmark of per-call latency percentiles for the solver and special functions.
+ *
+ * The other benchmarks report a mean over many calls, which hides the rare slow call
+ * from a deoptimisation, a rarely taken branch or a safepoint. Here every invocation
+ * is one call, timed individually by {@link Mode#SampleTime}, so the report carries
+ * p50, p99, p99.9 and p99.99. Arguments cycle through 64K seeded random draws so that
+ * consecutive calls take different paths; each sample includes the cost of reading the
+ * clock, about 20 ns.
+ *
+ * First-call latency, before any warmup, is measured by {@link ColdStartBenchmark}.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TailLatencyBenchmark {
+
+    private static final int SIZE = 65536;
+
+    @Param({"LISTED", "PRODUCTION"})
+    MarketRegime regime;
+
+    private SyntheticOptions options;
+    private final double[] x = new double[SIZE];
+    private final double[] s = new double[SIZE];
+    private final double[] z = new double[SIZE];
+    private final double[] u = new double[SIZE];
+    private int next;
+
+    @Setup
+    public void setup() {
+        options = new SyntheticOptions(SIZE, 42L, regime);
+        SplittableRandom random = new SplittableRandom(42L);
+        for (int i = 0; i < SIZE; i++) {
+            x[i] = -Math.abs(Math.log(options.F[i] / options.K[i]));
+            s[i] = options.sigma[i] * Math.sqrt(options.T[i]);
+            z[i] = random.nextDouble(-10.0, 10.0);
+            u[i] = random.nextDouble();
+        }
+    }
+
+    /**
+     * Index of the next draw, wrapping around the arrays.
+     */
+    private int next() {
+        int i = next;
+        next = (i + 1) & (SIZE - 1);
+        return i;
+    }
+
+    @Benchmark
+    public double impliedVolatility() {
+        int i = next();
+        return LetsBeRational.impliedVolatilityFromATransformedRationalGuess(
+            options.price[i], options.F[i], options.K[i], options.T[i], options.q[i]);
+    }
+
+    @Benchmark
+    public double normalisedBlackCall() {
+        int i = next();
+        return LetsBeRational.normalisedBlackCall(x[i], s[i]);
+    }
+
+    @Benchmark
+    public double erfc() {
+        return CodyErf.erfc(z[next()]);
+    }
+
+    @Benchmark
+    public double normCdf() {
+        return NormalDistribution.cdf(z[next()]);
+    }
+
+    @Benchmark
+    public double inverseCdf() {
+        return NormalDistribution.inverseCdf(u[next()]);
+    }
+}
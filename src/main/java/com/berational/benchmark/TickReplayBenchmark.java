@@ -0,0 +1,117 @@
+package com.berational.benchmark;
+
+import com.berational.LetsBeRational;
+import com.berational.SolverStatistics;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH Benchmark replaying a stream of ticks on a fixed option chain.
+ *
+ * Each strike's volatility follows a random walk with the given step in basis points,
+ * and each tick is re-solved either from scratch or warm-started from the previous
+ * tick's solution.
+ *
+ * With {@code -jvmArgsAppend -Dcom.berational.statistics=true}, teardown also prints the
+ * Householder(3) iterations and bisection steps per solve of each arm over the trial,
+ * from {@link SolverStatistics}. Recording slows every solve, so take the timings from
+ * a run without it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgs = {"-Xms2G", "-Xmx2G"})
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TickReplayBenchmark {
+
+    private static final int STRIKES = 256;
+    private static final int TICKS = 64;
+
+    /** Standard deviation of the per-tick volatility move in basis points. */
+    @Param({"1", "10", "100"})
+    double stepBasisPoints;
+
+    private SyntheticOptions options;
+    // Tick-by-tick prices, STRIKES per tick
+    private double[] tickPrice;
+    private double[] sigma;
+
+    // Solver counters at the start of the trial, and solves since
+    private SolverStatistics.Snapshot statistics;
+    private long solves;
+
+    @Setup
+    public void setup() {
+        options = new SyntheticOptions(STRIKES, 42L);
+        tickPrice = new double[STRIKES * TICKS];
+        sigma = new double[STRIKES];
+
+        SplittableRandom random = new SplittableRandom(7L);
+        for (int i = 0; i < STRIKES; i++) {
+            double vol = options.sigma[i];
+            for (int t = 0; t < TICKS; t++) {
+                // Floored at half the initial volatility, where deep in-the-money prices keep their time value
+                vol = Math.max(0.5 * options.sigma[i], vol + 1e-4 * stepBasisPoints * gaussian(random));
+                tickPrice[t * STRIKES + i] = SyntheticOptions.blackPrice(
+                    options.F[i], options.K[i], options.T[i], vol, options.q[i]);
+            }
+        }
+        statistics = SolverStatistics.snapshot();
+    }
+
+    @TearDown
+    public void printIterations(BenchmarkParams params) {
+        if (!SolverStatistics.ENABLED) {
+            return;
+        }
+        SolverStatistics.Snapshot trial = SolverStatistics.snapshot().minus(statistics);
+        long iterations = 0;
+        for (int n = 1; n <= SolverStatistics.MAXIMUM_RECORDED_ITERATIONS; n++) {
+            iterations += n * trial.iterations(n);
+        }
+        String benchmark = params.getBenchmark();
+        System.out.printf("%n%s, step %s bp: %.3f Householder(3) iterations and %.4f bisections per solve%n",
+                          benchmark.substring(benchmark.lastIndexOf('.') + 1), stepBasisPoints,
+                          (double) iterations / solves, (double) trial.bisections() / solves);
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        // Box-Muller
+        return Math.sqrt(-2.0 * Math.log(1.0 - random.nextDouble())) * Math.cos(2.0 * Math.PI * random.nextDouble());
+    }
+
+    @Setup(Level.Invocation)
+    public void resetPreviousSolutions() {
+        System.arraycopy(options.sigma, 0, sigma, 0, STRIKES);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STRIKES * TICKS)
+    public double[] fullGuess() {
+        for (int t = 0; t < TICKS; t++) {
+            for (int i = 0; i < STRIKES; i++) {
+                sigma[i] = LetsBeRational.impliedVolatilityFromATransformedRationalGuess(
+                    tickPrice[t * STRIKES + i], options.F[i], options.K[i], options.T[i], options.q[i]);
+            }
+        }
+        solves += STRIKES * TICKS;
+        return sigma;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(STRIKES * TICKS)
+    public double[] warmStart() {
+        for (int t = 0; t < TICKS; t++) {
+            for (int i = 0; i < STRIKES; i++) {
+                sigma[i] = LetsBeRational.impliedVolatilityFromPreviousSolution(
+                    tickPrice[t * STRIKES + i], options.F[i], options.K[i], options.T[i], options.q[i], sigma[i]);
+            }
+        }
+        solves += STRIKES * TICKS;
+        return sigma;
+    }
+}
@@ -0,0 +1,106 @@
+package com.berational;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the analytic Black Greeks.
+ */
+class BlackGreeksTest {
+
+    private static final double[][] OPTIONS = {
+        // F, K, T, sigma
+        {100.0, 100.0, 1.0, 0.25},
+        {100.0, 80.0, 0.5, 0.3},
+        {100.0, 130.0, 2.0, 0.2},
+        {50.0, 55.0, 0.1, 0.6},
+    };
+
+    private static double price(double F, double K, double T, double sigma, int q) {
+        double x = Math.log(F / K);
+        return Math.sqrt(F * K) * LetsBeRational.normalisedBlackCall(q < 0 ? -x : x, sigma * Math.sqrt(T));
+    }
+
+    @Test
+    void testAgainstFiniteDifferences() {
+        for (double[] o : OPTIONS) {
+            for (int q : new int[] {1, -1}) {
+                double F = o[0], K = o[1], T = o[2], sigma = o[3];
+                double[] g = BlackGreeks.greeks(F, K, T, sigma, q);
+                double dF = 1e-3 * F;
+                double dSigma = 1e-4;
+
+                assertEquals(price(F, K, T, sigma, q), g[BlackGreeks.PRICE], 1e-12 * F);
+                assertEquals((price(F + dF, K, T, sigma, q) - price(F - dF, K, T, sigma, q)) / (2 * dF),
+                             g[BlackGreeks.DELTA], 1e-5);
+                assertEquals((price(F + dF, K, T, sigma, q) - 2 * price(F, K, T, sigma, q) +
+                              price(F - dF, K, T, sigma, q)) / (dF * dF),
+                             g[BlackGreeks.GAMMA], 1e-5);
+                assertEquals((price(F, K, T, sigma + dSigma, q) - price(F, K, T, sigma - dSigma, q)) / (2 * dSigma),
+                             g[BlackGreeks.VEGA], 1e-6 * F);
+                assertEquals((price(F + dF, K, T, sigma + dSigma, q) - price(F + dF, K, T, sigma - dSigma, q) -
+                              price(F - dF, K, T, sigma + dSigma, q) + price(F - dF, K, T, sigma - dSigma, q)) /
+                             (4 * dF * dSigma),
+                             g[BlackGreeks.VANNA], 1e-4);
+                assertEquals((price(F, K, T, sigma + dSigma, q) - 2 * price(F, K, T, sigma, q) +
+                              price(F, K, T, sigma - dSigma, q)) / (dSigma * dSigma),
+                             g[BlackGreeks.VOLGA], 1e-3 * F);
+            }
+        }
+    }
+
+    @Test
+    void testPutCallRelations() {
+        for (double[] o : OPTIONS) {
+            double[] call = BlackGreeks.greeks(o[0], o[1], o[2], o[3], 1);
+            double[] put = BlackGreeks.greeks(o[0], o[1], o[2], o[3], -1);
+
+            assertEquals(1.0, call[BlackGreeks.DELTA] - put[BlackGreeks.DELTA], 1e-15);
+            assertEquals(o[0] - o[1], call[BlackGreeks.PRICE] - put[BlackGreeks.PRICE], 1e-12 * o[0]);
+            for (int k = BlackGreeks.GAMMA; k < BlackGreeks.COUNT; k++) {
+                assertEquals(call[k], put[k]);
+            }
+        }
+    }
+
+    @Test
+    void testZeroVolatility() {
+        double[] call = BlackGreeks.greeks(110.0, 100.0, 1.0, 0.0, 1);
+        double[] put = BlackGreeks.greeks(110.0, 100.0, 1.0, 0.0, -1);
+
+        assertEquals(10.0, call[BlackGreeks.PRICE], 1e-12);
+        assertEquals(1.0, call[BlackGreeks.DELTA]);
+        assertEquals(0.0, put[BlackGreeks.PRICE]);
+        assertEquals(0.0, put[BlackGreeks.DELTA]);
+        assertEquals(0.0, call[BlackGreeks.VEGA]);
+    }
+
+    @Test
+    void testBatchMatchesScalar() {
+        int n = 257;
+        Random random = new Random(5);
+        double[] F = new double[n], K = new double[n], T = new double[n], sigma = new double[n];
+        int[] q = new int[n];
+        for (int i = 0; i < n; i++) {
+            F[i] = 100.0;
+            K[i] = 100.0 * Math.exp(0.3 * random.nextGaussian());
+            T[i] = 0.05 + 2.0 * random.nextDouble();
+            sigma[i] = 0.05 + 0.8 * random.nextDouble();
+            q[i] = random.nextBoolean() ? 1 : -1;
+        }
+
+        double[][] columns = new double[BlackGreeks.COUNT][n];
+        BlackGreeks.greeks(F, K, T, sigma, q, columns[0], columns[1], columns[2],
+                           columns[3], columns[4], columns[5]);
+
+        for (int i = 0; i < n; i++) {
+            double[] expected = BlackGreeks.greeks(F[i], K[i], T[i], sigma[i], q[i]);
+            for (int k = 0; k < BlackGreeks.COUNT; k++) {
+                assertEquals(expected[k], columns[k][i]);
+            }
+        }
+    }
+}
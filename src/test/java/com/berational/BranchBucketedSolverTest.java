@@ -0,0 +1,87 @@
+package com.berational;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the branch-bucketed batch solver.
+ */
+class BranchBucketedSolverTest {
+
+    private static final int SIZE = 4000;
+
+    @Test
+    void testNormalisedMatchesScalarAcrossAllBranches() {
+        Random random = new Random(11);
+        double[] beta = new double[SIZE];
+        double[] x = new double[SIZE];
+        int[] q = new int[SIZE];
+
+        for (int i = 0; i < SIZE; i++) {
+            do {
+                // Log-moneyness and σ√T over several decades to reach all four branches
+                x[i] = (random.nextBoolean() ? 1 : -1) * Math.pow(10, -3 + 4 * random.nextDouble());
+                double s = Math.pow(10, -2 + 3 * random.nextDouble());
+                q[i] = random.nextBoolean() ? 1 : -1;
+                beta[i] = LetsBeRational.normalisedBlackCall(q[i] < 0 ? -x[i] : x[i], s);
+            } while (beta[i] < LetsBeRational.normalisedIntrinsic(x[i], q[i]));
+        }
+
+        double[] out = new double[SIZE];
+        new BranchBucketedSolver(16).normalisedImpliedVolatilities(beta, x, q, out);
+
+        for (int i = 0; i < SIZE; i++) {
+            double expected = LetsBeRational.normalisedImpliedVolatilityFromATransformedRationalGuess(
+                    beta[i], x[i], q[i]);
+            assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(out[i]),
+                    "Bucketed result differs from scalar at index " + i);
+        }
+    }
+
+    @Test
+    void testPricesMatchScalarAndWorkspaceIsReused() {
+        Random random = new Random(3);
+        double[] price = new double[SIZE];
+        double[] F = new double[SIZE];
+        double[] K = new double[SIZE];
+        double[] T = new double[SIZE];
+        int[] q = new int[SIZE];
+
+        for (int i = 0; i < SIZE; i++) {
+            do {
+                F[i] = 100.0;
+                K[i] = 100.0 * Math.exp(0.3 * random.nextGaussian());
+                T[i] = 0.1 + 2.0 * random.nextDouble();
+                q[i] = random.nextBoolean() ? 1 : -1;
+                double x = Math.log(F[i] / K[i]);
+                double s = (0.1 + 0.6 * random.nextDouble()) * Math.sqrt(T[i]);
+                price[i] = Math.sqrt(F[i] * K[i]) * LetsBeRational.normalisedBlackCall(q[i] < 0 ? -x : x, s);
+            } while (price[i] < Math.max(q[i] * (F[i] - K[i]), 0.0));
+        }
+
+        BranchBucketedSolver solver = new BranchBucketedSolver(SIZE);
+        double[] out = new double[SIZE];
+        for (int repeat = 0; repeat < 2; repeat++) {
+            solver.impliedVolatilities(price, F, K, T, q, out);
+            for (int i = 0; i < SIZE; i++) {
+                double expected = LetsBeRational.impliedVolatilityFromATransformedRationalGuess(
+                        price[i], F[i], K[i], T[i], q[i]);
+                assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(out[i]),
+                        "Bucketed result differs from scalar at index " + i);
+            }
+        }
+    }
+
+    @Test
+    void testAboveMaximumIsReported() {
+        double[] beta = {0.1, 1.5};
+        double[] x = {0.0, 0.0};
+        int[] q = {1, 1};
+
+        assertThrows(AboveMaximumException.class, () ->
+                new BranchBucketedSolver(2).normalisedImpliedVolatilities(beta, x, q, new double[2]));
+    }
+}
@@ -5,6 +5,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -146,4 +148,40 @@ class CodyErfTest {
                 String.format("High precision erf(%.1f) failed", x));
         }
     }
+
+    @Test
+    void testArrayFormsMatchScalar() {
+        // Mixed regions in every block, edge values and an odd-length tail
+        double[] special = {
+            0.0, -0.0, 1e-300, -1e-17, 0.46875, -0.46875, 4.0, -4.0, 26.543, -26.543,
+            -26.7, 6.71e7, 1e8, -1e8, 2.53e307, Double.MAX_VALUE, Double.POSITIVE_INFINITY,
+            Double.NEGATIVE_INFINITY, Double.NaN
+        };
+        Random random = new Random(42);
+        double[] x = new double[1003];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = i < special.length ? special[i] : (random.nextDouble() - 0.5) * 12.0;
+        }
+        double[] out = new double[x.length];
+
+        CodyErf.erf(x, out);
+        for (int i = 0; i < x.length; i++) {
+            assertEquals(CodyErf.erf(x[i]), out[i], 0.0, "erf at x=" + x[i]);
+        }
+        CodyErf.erfc(x, out);
+        for (int i = 0; i < x.length; i++) {
+            assertEquals(CodyErf.erfc(x[i]), out[i], 0.0, "erfc at x=" + x[i]);
+        }
+        CodyErf.erfcx(x, out);
+        for (int i = 0; i < x.length; i++) {
+            assertEquals(CodyErf.erfcx(x[i]), out[i], 0.0, "erfcx at x=" + x[i]);
+        }
+    }
+
+    @Test
+    void testArrayFormsRejectMismatchedColumns() {
+        double[] x = new double[4];
+        assertThrows(IllegalArgumentException.class, () -> CodyErf.erf(x, new double[3]));
+        assertThrows(IllegalArgumentException.class, () -> CodyErf.erfc(x, x));
+    }
 }
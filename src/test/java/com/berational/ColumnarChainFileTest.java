@@ -0,0 +1,138 @@
+package com.berational;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the memory-mapped columnar option file.
+ */
+class ColumnarChainFileTest {
+
+    private static final int SIZE = 5003;  // More than one solve chunk
+
+    @TempDir
+    Path directory;
+
+    private final double[] price;
+    private final double[] F;
+    private final double[] K;
+    private final double[] T;
+    private final int[] q;
+
+    ColumnarChainFileTest() {
+        RandomOptions options = new RandomOptions(SIZE, 31);
+        price = options.price;
+        F = options.F;
+        K = options.K;
+        T = options.T;
+        q = options.q;
+        // Below intrinsic value
+        price[3] = 0.0;
+        K[3] = 0.5 * F[3];
+        q[3] = 1;
+    }
+
+    @Test
+    void testConvertCsvAndSolve() throws IOException {
+        Path csv = directory.resolve("chain.csv");
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(csv))) {
+            // Columns out of order, with one to skip
+            writer.println("q,symbol,price,T,K,F");
+            for (int i = 0; i < SIZE; i++) {
+                writer.println(q[i] + ",X," + price[i] + "," + T[i] + "," + K[i] + "," + F[i]);
+                if (i == 10) {
+                    writer.println();
+                }
+            }
+        }
+        Path path = directory.resolve("chain.lbr");
+        assertEquals(SIZE, ColumnarChainFile.convertCsv(csv, path));
+        assertEquals(ColumnarChainFile.fileSize(SIZE), Files.size(path));
+
+        double[] expected = new double[SIZE];
+        byte[] expectedStatus = new byte[SIZE];
+        LetsBeRationalBatch.impliedVolatilities(price, F, K, T, q, expected, expectedStatus);
+
+        try (ColumnarChainFile file = ColumnarChainFile.open(path)) {
+            assertEquals(SIZE, file.rows());
+            assertEquals(F[SIZE - 1], file.forward().get(SIZE - 1));
+            assertEquals(q[SIZE - 1], file.optionType().get(SIZE - 1));
+            file.solve();
+            file.force();
+            DoubleBuffer volatility = file.volatility();
+            for (int i = 0; i < SIZE; i++) {
+                assertEquals(expected[i], volatility.get(i), "Row " + i);
+                assertEquals(expectedStatus[i], file.status().get(i));
+            }
+            assertEquals(LetsBeRationalBatch.STATUS_BELOW_INTRINSIC, file.status().get(3));
+            assertThrows(ReadOnlyBufferException.class, () -> file.price().put(0, 1.0));
+        }
+
+        // Solutions persist in the file
+        try (ColumnarChainFile file = ColumnarChainFile.open(path)) {
+            assertEquals(expected[SIZE - 1], file.volatility().get(SIZE - 1));
+        }
+    }
+
+    @Test
+    void testCreateAndFill() throws IOException {
+        Path path = directory.resolve("filled.lbr");
+        try (ColumnarChainFile file = ColumnarChainFile.create(path, 2)) {
+            file.forward().put(0, 100.0).put(1, 100.0);
+            file.strike().put(0, 100.0).put(1, 120.0);
+            file.expiry().put(0, 1.0).put(1, 1.0);
+            file.price().put(0, 7.965567455405804).put(1, 200.0);
+            file.optionType().put(0, 1).put(1, -1);
+            file.solve();
+            assertEquals(0.2, file.volatility().get(0), 1e-14);
+            assertEquals(LetsBeRationalBatch.STATUS_ABOVE_MAXIMUM, file.status().get(1));
+        }
+    }
+
+    @Test
+    void testCreateAndOpenAtTheRowLimit() throws IOException {
+        // The file is sparse: only the header and the last byte are written
+        Path path = directory.resolve("limit.lbr");
+        try (ColumnarChainFile file = ColumnarChainFile.create(path, ColumnarChainFile.MAXIMUM_ROWS)) {
+            assertEquals(ColumnarChainFile.MAXIMUM_ROWS, file.forward().capacity());
+            assertEquals(ColumnarChainFile.MAXIMUM_ROWS, file.status().capacity());
+        }
+        assertEquals(ColumnarChainFile.fileSize(ColumnarChainFile.MAXIMUM_ROWS), Files.size(path));
+        try (ColumnarChainFile file = ColumnarChainFile.open(path)) {
+            assertEquals(ColumnarChainFile.MAXIMUM_ROWS, file.rows());
+        }
+        Files.delete(path);
+
+        assertThrows(IllegalArgumentException.class,
+                     () -> ColumnarChainFile.create(path, ColumnarChainFile.MAXIMUM_ROWS + 1));
+        ByteBuffer header = ByteBuffer.allocate(ColumnarChainFile.HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        header.putLong(ColumnarChainFile.MAGIC).putInt(ColumnarChainFile.VERSION).putInt(0)
+              .putLong(ColumnarChainFile.MAXIMUM_ROWS + 1L);
+        Files.write(path, header.array());
+        assertThrows(IOException.class, () -> ColumnarChainFile.open(path));
+    }
+
+    @Test
+    void testRejectsOtherFiles() throws IOException {
+        Path path = directory.resolve("other.lbr");
+        Files.write(path, new byte[100]);
+        assertThrows(IOException.class, () -> ColumnarChainFile.open(path));
+
+        Path csv = directory.resolve("bad.csv");
+        Files.writeString(csv, "F,K,T,price\n100,100,1,8\n");
+        assertThrows(IOException.class, () -> ColumnarChainFile.convertCsv(csv, path));
+        Files.writeString(csv, "F,K,T,price,q\n100,100,1,eight,1\n");
+        assertThrows(IOException.class, () -> ColumnarChainFile.convertCsv(csv, path));
+    }
+}
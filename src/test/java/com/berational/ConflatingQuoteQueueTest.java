@@ -0,0 +1,89 @@
+package com.berational;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the conflating quote queue.
+ */
+class ConflatingQuoteQueueTest {
+
+    private static final double F = 100.0;
+    private static final double T = 0.5;
+
+    private static double price(double K, double sigma) {
+        double x = Math.log(F / K);
+        return Math.sqrt(F * K) * LetsBeRational.normalisedBlackCall(x, sigma * Math.sqrt(T));
+    }
+
+    private record Published(int instrument, long tag, double volatility, byte status) {
+    }
+
+    @Test
+    void testKeepsNewestQuoteInFirstArrivalOrder() {
+        ConflatingQuoteQueue queue = new ConflatingQuoteQueue(8);
+        assertTrue(queue.put(7, 1, price(110.0, 0.2), F, 110.0, T, 1));
+        assertTrue(queue.put(-3, 2, price(90.0, 0.3), F, 90.0, T, 1));
+        assertTrue(queue.put(7, 3, price(110.0, 0.25), F, 110.0, T, 1));
+        assertTrue(queue.put(7, 4, 0.0, F, 50.0, T, 1));
+        assertEquals(2, queue.size());
+        assertEquals(4, queue.received());
+        assertEquals(2, queue.conflated());
+
+        List<Published> results = new ArrayList<>();
+        assertEquals(2, queue.solve((i, tag, v, s) -> results.add(new Published(i, tag, v, s))));
+        assertEquals(0, queue.size());
+
+        assertEquals(7, results.get(0).instrument());
+        assertEquals(4, results.get(0).tag());
+        assertEquals(LetsBeRationalBatch.STATUS_BELOW_INTRINSIC, results.get(0).status());
+        assertEquals(-3, results.get(1).instrument());
+        assertEquals(2, results.get(1).tag());
+        assertEquals(0.3, results.get(1).volatility(), 1e-14);
+        assertEquals(LetsBeRationalBatch.STATUS_OK, results.get(1).status());
+
+        // Emptied: the same instrument starts a new batch
+        assertTrue(queue.put(7, 5, price(110.0, 0.2), F, 110.0, T, 1));
+        assertEquals(1, queue.size());
+        assertEquals(2, queue.conflated());
+    }
+
+    @Test
+    void testCollidingInstrumentsAndCapacity() {
+        int capacity = 64;
+        ConflatingQuoteQueue queue = new ConflatingQuoteQueue(capacity);
+        for (int round = 0; round < 3; round++) {
+            // Multiples of 2^20 share their low bits
+            for (int i = 0; i < capacity; i++) {
+                double K = 80.0 + i;
+                assertTrue(queue.put(i << 20, i, price(K, 0.2 + 0.001 * i), F, K, T, -1));
+            }
+            assertFalse(queue.put(capacity << 20, 0, price(100.0, 0.2), F, 100.0, T, 1));
+            for (int i = 0; i < capacity; i++) {
+                double K = 80.0 + i;
+                assertTrue(queue.put(i << 20, 1000 + i, price(K, 0.3 + 0.001 * i), F, K, T, 1));
+            }
+            assertEquals(capacity, queue.size());
+
+            int[] count = new int[1];
+            queue.solve((instrument, tag, volatility, status) -> {
+                int i = instrument >> 20;
+                assertEquals(count[0]++, i);
+                assertEquals(1000 + i, tag);
+                assertEquals(0.3 + 0.001 * i, volatility, 1e-13);
+            });
+            assertEquals(capacity, count[0]);
+        }
+        assertEquals(6 * capacity, queue.received());
+        assertEquals(3 * capacity, queue.conflated());
+    }
+
+    @Test
+    void testInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new ConflatingQuoteQueue(0));
+    }
+}
@@ -0,0 +1,199 @@
+package com.berational;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the streaming CSV reader and its decimal parser.
+ */
+class CsvChainReaderTest {
+
+    private static final int SIZE = 3001;
+
+    @TempDir
+    Path directory;
+
+    private final double[] price;
+    private final double[] F;
+    private final double[] K;
+    private final double[] T;
+    private final int[] q;
+
+    CsvChainReaderTest() {
+        RandomOptions options = new RandomOptions(SIZE, 37);
+        price = options.price;
+        F = options.F;
+        K = options.K;
+        T = options.T;
+        q = options.q;
+    }
+
+    private static double parse(String text) {
+        byte[] b = (" " + text + " ").getBytes(StandardCharsets.US_ASCII);
+        return DecimalParser.parseDouble(b, 1, b.length - 1);
+    }
+
+    private static void assertParsesLikeJdk(String text) {
+        assertEquals(Double.doubleToRawLongBits(Double.parseDouble(text)),
+                     Double.doubleToRawLongBits(parse(text)), text);
+    }
+
+    @Test
+    void testParseDoubleOfShortestRepresentations() {
+        Random random = new Random(41);
+        for (int i = 0; i < 200_000; i++) {
+            double value = Double.longBitsToDouble(random.nextLong());
+            if (Double.isFinite(value)) {
+                assertParsesLikeJdk(Double.toString(value));
+            }
+            assertParsesLikeJdk(Double.toString(random.nextDouble() * 1000.0));
+        }
+    }
+
+    @Test
+    void testParseDoubleOfRandomDecimals() {
+        Random random = new Random(43);
+        for (int i = 0; i < 200_000; i++) {
+            StringBuilder text = new StringBuilder(random.nextBoolean() ? "-" : "");
+            int digits = 1 + random.nextInt(19);
+            int point = random.nextInt(digits + 1);
+            for (int d = 0; d < digits; d++) {
+                if (d == point) {
+                    text.append('.');
+                }
+                text.append((char) ('0' + random.nextInt(10)));
+            }
+            if (random.nextBoolean()) {
+                text.append('e').append(random.nextInt(700) - 350);
+            }
+            assertParsesLikeJdk(text.toString());
+        }
+    }
+
+    @Test
+    void testParseDoubleEdgeCases() {
+        String[] cases = {
+            "0", "-0", "0.0", "+1", "1.", ".5", "00012.50", "0.000000000000000000000001234",
+            "1e308", "1.7976931348623157e308", "1.7976931348623158e308", "1.8e308", "1e309",
+            "4.9e-324", "2.4703282292062328e-324", "2.4703282292062327e-324", "1e-400",
+            "2.2250738585072011e-308", "2.2250738585072014e-308", "9007199254740993",
+            "9007199254740992.5", "123456789012345678901234567890", "0.1000000000000000055511151231257827",
+            "1.00000000000000011102230246251565404236316680908203125", "7.2057594037927933e16",
+            "1e23", "8.589973e9", "1E+2", "5e-1"
+        };
+        for (String text : cases) {
+            assertParsesLikeJdk(text);
+        }
+        for (String text : new String[] {"", "-", ".", "e5", "1e", "1e+", "1.2.3", "1,5", "abc", "NaN", "1 2"}) {
+            assertThrows(NumberFormatException.class, () -> parse(text), text);
+        }
+    }
+
+    @Test
+    void testParseInt() {
+        byte[] b = "-1,+1,2147483647,-2147483648,2147483648,x".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(-1, DecimalParser.parseInt(b, 0, 2));
+        assertEquals(1, DecimalParser.parseInt(b, 3, 5));
+        assertEquals(Integer.MAX_VALUE, DecimalParser.parseInt(b, 6, 16));
+        assertEquals(Integer.MIN_VALUE, DecimalParser.parseInt(b, 17, 28));
+        assertThrows(NumberFormatException.class, () -> DecimalParser.parseInt(b, 29, 39));
+        assertThrows(NumberFormatException.class, () -> DecimalParser.parseInt(b, 40, 41));
+    }
+
+    @Test
+    void testReadInChunksAcrossBufferBoundaries() throws IOException {
+        Path csv = directory.resolve("chain.csv");
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(csv))) {
+            writer.print("id,q,T,\"comment\",price,K,F\r\n");
+            for (int i = 0; i < SIZE; i++) {
+                writer.print("X" + i + "," + q[i] + "," + T[i] + ",\"a, b\"," + price[i] + ", " + K[i] + " ,\"" + F[i] + "\"\r\n");
+                if (i % 100 == 0) {
+                    writer.print("\r\n  \r\n");
+                }
+            }
+        }
+
+        // A buffer of 200 bytes holds a couple of lines, so most lines straddle a refill
+        try (CsvChainReader reader = new CsvChainReader(csv, 512, 200)) {
+            int row = 0;
+            for (int n; (n = reader.next()) > 0; row += n) {
+                assertTrue(n == 512 || row + n == SIZE);
+                for (int i = 0; i < n; i++) {
+                    assertEquals(F[row + i], reader.forward()[i]);
+                    assertEquals(K[row + i], reader.strike()[i]);
+                    assertEquals(T[row + i], reader.expiry()[i]);
+                    assertEquals(price[row + i], reader.price()[i]);
+                    assertEquals(q[row + i], reader.optionType()[i]);
+                }
+            }
+            assertEquals(SIZE, row);
+            assertEquals(SIZE, reader.rowsRead());
+            assertEquals(0, reader.next());
+        }
+    }
+
+    @Test
+    void testChunksFeedTheBatchSolver() throws IOException {
+        Path csv = directory.resolve("chain.csv");
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(csv))) {
+            writer.println("F,K,T,price,q");
+            for (int i = 0; i < SIZE; i++) {
+                writer.print(F[i] + "," + K[i] + "," + T[i] + "," + price[i] + "," + q[i]);
+                // No line ending after the last line
+                if (i < SIZE - 1) {
+                    writer.println();
+                }
+            }
+        }
+
+        double[] expected = new double[SIZE];
+        LetsBeRationalBatch.impliedVolatilities(price, F, K, T, q, expected);
+        double[] out = new double[1000];
+        byte[] status = new byte[1000];
+        try (CsvChainReader reader = new CsvChainReader(csv, 1000)) {
+            int row = 0;
+            for (int n; (n = reader.next()) > 0; row += n) {
+                LetsBeRationalBatch.impliedVolatilities(reader.price(), reader.forward(), reader.strike(),
+                                                        reader.expiry(), reader.optionType(), out, status, 0, n);
+                for (int i = 0; i < n; i++) {
+                    assertEquals(expected[row + i], out[i]);
+                    assertEquals(LetsBeRationalBatch.STATUS_OK, status[i]);
+                }
+            }
+            assertEquals(SIZE, row);
+        }
+    }
+
+    @Test
+    void testMalformedInput() throws IOException {
+        Path csv = directory.resolve("bad.csv");
+        Files.writeString(csv, "");
+        assertThrows(IOException.class, () -> new CsvChainReader(csv, 16));
+        Files.writeString(csv, "F,K,T,price\n100,100,1,8\n");
+        assertThrows(IOException.class, () -> new CsvChainReader(csv, 16));
+
+        Files.writeString(csv, "F,K,T,price,q\n100,100,1,8,1\n100,100,1,eight,1\n");
+        try (CsvChainReader reader = new CsvChainReader(csv, 16)) {
+            IOException e = assertThrows(IOException.class, reader::next);
+            assertTrue(e.getMessage().contains("line 3"), e.getMessage());
+        }
+        Files.writeString(csv, "F,K,T,price,q\n100,100,1,8\n");
+        try (CsvChainReader reader = new CsvChainReader(csv, 16)) {
+            assertThrows(IOException.class, reader::next);
+        }
+        Files.writeString(csv, "F,K,T,price,q\n100,100,1,8,1\n" + "1".repeat(100) + "\n");
+        try (CsvChainReader reader = new CsvChainReader(csv, 16, 64)) {
+            assertThrows(IOException.class, reader::next);
+        }
+        assertThrows(IllegalArgumentException.class, () -> new CsvChainReader(csv, 0));
+    }
+}
@@ -0,0 +1,51 @@
+package com.berational;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LatencyHistogram.
+ */
+class LatencyHistogramTest {
+
+    @Test
+    void testBucketsAreContiguousAndBounded() {
+        // Every bucket starts one past the end of the previous one
+        long previous = -1;
+        for (int bucket = 0; bucket <= LatencyHistogram.bucketOf(Long.MAX_VALUE); bucket++) {
+            long highest = LatencyHistogram.highestValueOf(bucket);
+            assertEquals(bucket, LatencyHistogram.bucketOf(previous + 1), "Start of bucket " + bucket);
+            assertEquals(bucket, LatencyHistogram.bucketOf(highest), "End of bucket " + bucket);
+            assertTrue(highest > previous);
+            // Relative width at most 1/16
+            assertTrue(highest - previous <= Math.max(1, (previous + 1) / 16), "Width of bucket " + bucket);
+            previous = highest;
+        }
+        assertEquals(Long.MAX_VALUE, previous);
+    }
+
+    @Test
+    void testPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.valueAtPercentile(99.9));
+
+        for (long v = 1; v <= 10000; v++) {
+            histogram.record(v);
+        }
+        assertEquals(10000, histogram.count());
+        for (double p : new double[]{1.0, 50.0, 90.0, 99.0, 99.9, 100.0}) {
+            double exact = p / 100.0 * 10000;
+            long value = histogram.valueAtPercentile(p);
+            assertTrue(value >= exact && value <= exact * (1 + 1.0 / 16), "p" + p + " = " + value);
+        }
+        assertEquals(10, histogram.valueAtPercentile(0.1));
+
+        histogram.record(-5);
+        assertEquals(0, histogram.valueAtPercentile(0));
+
+        histogram.reset();
+        assertEquals(0, histogram.count());
+        assertThrows(IllegalArgumentException.class, () -> histogram.valueAtPercentile(100.5));
+    }
+}
@@ -0,0 +1,112 @@
+package com.berational;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the batch implied volatility entry points.
+ */
+class LetsBeRationalBatchTest {
+
+    private static final int SIZE = 1027;  // Not a multiple of any lane count
+
+    private final double[] price;
+    private final double[] F;
+    private final double[] K;
+    private final double[] T;
+    private final int[] q;
+
+    LetsBeRationalBatchTest() {
+        RandomOptions options = new RandomOptions(SIZE, 7);
+        price = options.price;
+        F = options.F;
+        K = options.K;
+        T = options.T;
+        q = options.q;
+    }
+
+    @Test
+    void testBatchMatchesScalarBitForBit() {
+        double[] out = new double[SIZE];
+        LetsBeRationalBatch.impliedVolatilities(price, F, K, T, q, out);
+
+        for (int i = 0; i < SIZE; i++) {
+            double expected = LetsBeRational.impliedVolatilityFromATransformedRationalGuess(
+                    price[i], F[i], K[i], T[i], q[i]);
+            assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(out[i]),
+                    "Batch result differs from scalar at index " + i);
+        }
+    }
+
+    @Test
+    void testScalarFallbackMatchesBatch() {
+        double[] batch = new double[SIZE];
+        double[] scalar = new double[SIZE];
+        LetsBeRationalBatch.impliedVolatilities(price, F, K, T, q, batch);
+        LetsBeRationalBatch.scalarImpliedVolatilities(price, F, K, T, q, scalar, null, 0, SIZE);
+
+        assertArrayEquals(scalar, batch);
+    }
+
+    @Test
+    void testRangeLeavesOtherEntriesUntouched() {
+        double[] out = new double[SIZE];
+        LetsBeRationalBatch.impliedVolatilities(price, F, K, T, q, out, 10, 20);
+
+        for (int i = 0; i < SIZE; i++) {
+            if (i < 10 || i >= 20) {
+                assertEquals(0.0, out[i]);
+            } else {
+                assertTrue(out[i] > 0.0);
+            }
+        }
+    }
+
+    @Test
+    void testBelowIntrinsicIsReported() {
+        double[] badPrice = price.clone();
+        int bad = 5;
+        F[bad] = 110.0;
+        K[bad] = 100.0;
+        q[bad] = 1;
+        badPrice[bad] = 5.0;  // Intrinsic is 10.0
+
+        assertThrows(BelowIntrinsicException.class, () ->
+                LetsBeRationalBatch.impliedVolatilities(badPrice, F, K, T, q, new double[SIZE]));
+    }
+
+    @Test
+    void testStatusColumnReportsBadQuotesWithoutThrowing() {
+        double[] badPrice = price.clone();
+        F[3] = 110.0;
+        K[3] = 100.0;
+        q[3] = 1;
+        badPrice[3] = 5.0;    // Below intrinsic of 10.0
+        q[700] = -1;
+        badPrice[700] = K[700];  // Put at its maximum value
+
+        double[] out = new double[SIZE];
+        byte[] status = new byte[SIZE];
+        LetsBeRationalBatch.impliedVolatilities(badPrice, F, K, T, q, out, status);
+
+        assertEquals(LetsBeRationalBatch.STATUS_BELOW_INTRINSIC, status[3]);
+        assertEquals(Constants.VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_BELOW_INTRINSIC, out[3]);
+        assertEquals(LetsBeRationalBatch.STATUS_ABOVE_MAXIMUM, status[700]);
+        assertEquals(Constants.VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_ABOVE_MAXIMUM, out[700]);
+
+        for (int i = 0; i < SIZE; i++) {
+            if (i != 3 && i != 700) {
+                assertEquals(LetsBeRationalBatch.STATUS_OK, status[i]);
+                assertEquals(LetsBeRational.impliedVolatilityFromATransformedRationalGuess(
+                        badPrice[i], F[i], K[i], T[i], q[i]), out[i]);
+            }
+        }
+    }
+
+    @Test
+    void testMismatchedColumnsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () ->
+                LetsBeRationalBatch.impliedVolatilities(price, F, K, T, q, new double[SIZE - 1]));
+    }
+}
@@ -274,6 +274,25 @@ public class LetsBeRationalTest {
         });
     }
 
+    @Test
+    public void testSignalValuesInsteadOfExceptions() {
+        // Same invalid inputs as above, reported through the signal values
+        assertEquals(Constants.VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_BELOW_INTRINSIC,
+                LetsBeRational.impliedVolatilityFromATransformedRationalGuessOrSignal(5.0, 110.0, 100.0, 1.0, 1));
+        assertEquals(Constants.VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_ABOVE_MAXIMUM,
+                LetsBeRational.impliedVolatilityFromATransformedRationalGuessOrSignal(105.0, 100.0, 100.0, 1.0, 1));
+        assertEquals(Constants.VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_BELOW_INTRINSIC,
+                LetsBeRational.normalisedImpliedVolatilityFromATransformedRationalGuessOrSignal(0.01, 0.2, 1));
+        assertEquals(Constants.VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_ABOVE_MAXIMUM,
+                LetsBeRational.normalisedImpliedVolatilityFromATransformedRationalGuessOrSignal(1.5, 0.0, 1));
+        assertThrows(AboveMaximumException.class, () ->
+                LetsBeRational.normalisedImpliedVolatilityFromATransformedRationalGuess(1.5, 0.0, 1));
+
+        double price = blackPrice(100.0, 95.0, 0.3, 1.0, -1);
+        assertEquals(LetsBeRational.impliedVolatilityFromATransformedRationalGuess(price, 100.0, 95.0, 1.0, -1),
+                LetsBeRational.impliedVolatilityFromATransformedRationalGuessOrSignal(price, 100.0, 95.0, 1.0, -1));
+    }
+
     @Test
     public void testPutCallParity() {
         // Verify that call and put with same strike give same implied vol
@@ -324,6 +343,152 @@ public class LetsBeRationalTest {
         assertTrue(vega > 0.0, "Vega should be positive for s > 0");
     }
 
+    @Test
+    public void testSharedExponentialFactorMatchesSeparateEvaluation() {
+        // One (x, s) pair in each of the four Black regions, plus at-the-money and x > 0
+        double[][] points = {{-5.0, 0.2}, {-0.1, 0.1}, {-0.5, 3.0}, {-0.5, 0.8}, {0.0, 0.5}, {0.3, 0.4}};
+
+        for (double[] point : points) {
+            double x = point[0];
+            double s = point[1];
+            double e = LetsBeRational.normalisedBlackExponentialFactor(x, s);
+
+            assertEquals(Double.doubleToLongBits(LetsBeRational.normalisedBlackCall(x, s)),
+                         Double.doubleToLongBits(LetsBeRational.normalisedBlackCall(x, s, e)),
+                         "Price differs at x=" + x + ", s=" + s);
+            assertEquals(Double.doubleToLongBits(LetsBeRational.normalisedVega(x, s)),
+                         Double.doubleToLongBits(Constants.ONE_OVER_SQRT_TWO_PI * e),
+                         "Vega differs at x=" + x + ", s=" + s);
+        }
+    }
+
+    @Test
+    public void testLogNormalisedBlackCall() {
+        // Each of the four Black regions, at-the-money and x > 0
+        double[][] points = {{-5.0, 0.2}, {-0.1, 0.1}, {-0.5, 3.0}, {-0.5, 0.8}, {0.0, 0.5}, {0.3, 0.4}};
+        for (double[] point : points) {
+            double expected = Math.log(LetsBeRational.normalisedBlackCall(point[0], point[1]));
+            assertEquals(expected, LetsBeRational.logNormalisedBlackCall(point[0], point[1]),
+                         1e-14 * Math.abs(expected), "x=" + point[0] + ", s=" + point[1]);
+        }
+
+        // Deep out of the money the price underflows, its logarithm does not
+        assertEquals(0.0, LetsBeRational.normalisedBlackCall(-60.0, 0.5));
+        double lnB = LetsBeRational.logNormalisedBlackCall(-60.0, 0.5);
+        assertTrue(lnB < -7000.0 && lnB > -8000.0, "ln b=" + lnB);
+    }
+
+    @Test
+    public void testImpliedVolatilityFromLogPrice() {
+        for (double x : new double[] {-0.5, -3.0, -20.0, -60.0}) {
+            for (double s : new double[] {0.05, 0.3, 1.0}) {
+                double lnBeta = LetsBeRational.logNormalisedBlackCall(x, s);
+                assertEquals(s, LetsBeRational.normalisedImpliedVolatilityFromLogPrice(lnBeta, x, 1), 1e-13 * s,
+                             "Call x=" + x + ", s=" + s);
+                assertEquals(s, LetsBeRational.normalisedImpliedVolatilityFromLogPrice(lnBeta, -x, -1), 1e-13 * s,
+                             "Put x=" + -x + ", s=" + s);
+            }
+        }
+
+        // In the money, and invalid prices
+        double beta = LetsBeRational.normalisedBlackCall(0.2, 0.3);
+        assertEquals(LetsBeRational.normalisedImpliedVolatilityFromATransformedRationalGuess(beta, 0.2, 1),
+                     LetsBeRational.normalisedImpliedVolatilityFromLogPrice(Math.log(beta), 0.2, 1), 1e-14);
+        assertEquals(Constants.VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_ABOVE_MAXIMUM,
+                     LetsBeRational.normalisedImpliedVolatilityFromLogPriceOrSignal(-0.4, -1.0, 1));
+        assertEquals(0.0, LetsBeRational.normalisedImpliedVolatilityFromLogPrice(Double.NEGATIVE_INFINITY, -1.0, 1));
+    }
+
+    @Test
+    public void testWarmStartFromPreviousSolution() {
+        // Ticks a few basis points of volatility away from the previous solution
+        double F = 100.0;
+        double T = 0.5;
+        for (double K : new double[] {60.0, 90.0, 100.0, 115.0, 180.0}) {
+            for (int q : new int[] {1, -1}) {
+                double sigma = 0.3;
+                double price = blackPrice(F, K, sigma, T, q);
+                double full = LetsBeRational.impliedVolatilityFromATransformedRationalGuess(price, F, K, T, q);
+
+                for (double previous : new double[] {0.2995, 0.3, 0.3004}) {
+                    double warm = LetsBeRational.impliedVolatilityFromPreviousSolution(price, F, K, T, q, previous);
+                    assertEquals(full, warm, 1e-14, "K=" + K + ", q=" + q + ", previous=" + previous);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testWarmStartFallsBackToRationalGuess() {
+        double F = 100.0;
+        double K = 110.0;
+        double T = 1.0;
+        double price = blackPrice(F, K, 0.4, T, 1);
+        double full = LetsBeRational.impliedVolatilityFromATransformedRationalGuess(price, F, K, T, 1);
+
+        // Price moved too far, or no previous solution: identical to the full solver
+        for (double previous : new double[] {0.1, 0.0, Double.NaN}) {
+            assertEquals(full, LetsBeRational.impliedVolatilityFromPreviousSolution(price, F, K, T, 1, previous));
+        }
+
+        assertEquals(Constants.VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_BELOW_INTRINSIC,
+                     LetsBeRational.impliedVolatilityFromPreviousSolutionOrSignal(5.0, 110.0, 100.0, T, 1, 0.2));
+    }
+
+    @Test
+    public void testAtTheMoneyClosedForm() {
+        // x = 0 is inverted without iteration; check the round trip over many decades of s
+        for (double s = 1e-4; s < 8.0; s *= 1.7) {
+            double beta = LetsBeRational.normalisedBlackCall(0.0, s);
+            double implied = LetsBeRational.normalisedImpliedVolatilityFromATransformedRationalGuess(beta, 0.0, 1);
+            // A relative price error of 1e-14 moves s by 1e-14·β/vega
+            assertEquals(s, implied, 1e-14 * beta / LetsBeRational.normalisedVega(0.0, s),
+                         "ATM round trip failed for s=" + s);
+            assertEquals(implied, LetsBeRational.normalisedImpliedVolatilityFromATransformedRationalGuess(beta, 0.0, -1));
+        }
+    }
+
+    @Test
+    public void testNearTheMoneyClosedForm() {
+        // |x| ≤ √ε·β is inverted to first order in x; the round trip must hold as at x = 0,
+        // for calls and puts on both sides of the money and just beyond the threshold
+        for (double s = 1e-4; s < 8.0; s *= 1.7) {
+            double atm = LetsBeRational.normalisedBlackCall(0.0, s);
+            for (double r : new double[] {1e-6, 0.5, 1.0, 2.0}) {
+                for (double x : new double[] {-r * Constants.SQRT_DBL_EPSILON * atm, r * Constants.SQRT_DBL_EPSILON * atm}) {
+                    for (int q : new int[] {1, -1}) {
+                        double beta = LetsBeRational.normalisedBlackCall(q * x, s);
+                        double implied = LetsBeRational.normalisedImpliedVolatilityFromATransformedRationalGuess(beta, x, q);
+                        double otm = LetsBeRational.normalisedBlackCall(-Math.abs(x), s);
+                        assertEquals(s, implied, 1e-14 * otm / LetsBeRational.normalisedVega(x, s),
+                                     "Near-ATM round trip failed for s=" + s + ", x=" + x + ", q=" + q);
+                    }
+                }
+            }
+        }
+        assertTrue(LetsBeRational.isNearTheMoney(0.1, -1e-12));
+        assertFalse(LetsBeRational.isNearTheMoney(0.1, -1e-6));
+    }
+
+    @Test
+    public void testPrecisionTiers() {
+        double F = 100.0;
+        double T = 0.75;
+        double sigma = 0.35;
+        for (double K : new double[] {70.0, 95.0, 100.0, 120.0}) {
+            for (int q : new int[] {1, -1}) {
+                double price = blackPrice(F, K, sigma, T, q);
+
+                assertEquals(LetsBeRational.impliedVolatilityFromATransformedRationalGuess(price, F, K, T, q),
+                             LetsBeRational.impliedVolatilityFromATransformedRationalGuess(price, F, K, T, q, Precision.FULL));
+                assertEquals(sigma, LetsBeRational.impliedVolatilityFromATransformedRationalGuess(
+                        price, F, K, T, q, Precision.ONE_ITERATION), 1e-6 * sigma);
+                assertEquals(sigma, LetsBeRational.impliedVolatilityFromATransformedRationalGuess(
+                        price, F, K, T, q, Precision.GUESS_ONLY), 0.1 * sigma);
+            }
+        }
+    }
+
     /**
      * Helper: Compute Black option price.
      * Uses the normalized Black call implementation from LetsBeRational.
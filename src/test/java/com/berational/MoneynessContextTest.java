@@ -0,0 +1,91 @@
+package com.berational;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for solving through a precomputed moneyness context.
+ */
+class MoneynessContextTest {
+
+    @Test
+    void testNormalisedMatchesScalarAcrossAllBranches() {
+        Random random = new Random(19);
+        for (int i = 0; i < 400; i++) {
+            double x = (random.nextBoolean() ? 1 : -1) * Math.pow(10, -3 + 4 * random.nextDouble());
+            MoneynessContext context = MoneynessContext.ofLogMoneyness(x);
+
+            // Many prices per context, as for repeated ticks at a fixed strike
+            for (int j = 0; j < 20; j++) {
+                double s = Math.pow(10, -2 + 3 * random.nextDouble());
+                int q = random.nextBoolean() ? 1 : -1;
+                double beta = LetsBeRational.normalisedBlackCall(q < 0 ? -x : x, s);
+
+                double expected = LetsBeRational.normalisedImpliedVolatilityFromATransformedRationalGuessOrSignal(
+                        beta, x, q);
+                double actual = LetsBeRational.normalisedImpliedVolatilityFromATransformedRationalGuessOrSignal(
+                        beta, context, q);
+                assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(actual),
+                        "Context result differs from scalar at x=" + x + ", beta=" + beta + ", q=" + q);
+            }
+        }
+    }
+
+    @Test
+    void testPricesMatchScalar() {
+        Random random = new Random(23);
+        double F = 100.0;
+        for (int i = 0; i < 200; i++) {
+            double K = F * Math.exp(0.3 * random.nextGaussian());
+            MoneynessContext context = MoneynessContext.of(F, K);
+            double x = Math.log(F / K);
+
+            for (int j = 0; j < 20; j++) {
+                double T = 0.1 + 2.0 * random.nextDouble();
+                int q = random.nextBoolean() ? 1 : -1;
+                double s = (0.05 + 0.8 * random.nextDouble()) * Math.sqrt(T);
+                double price = Math.sqrt(F) * Math.sqrt(K) * LetsBeRational.normalisedBlackCall(q < 0 ? -x : x, s);
+
+                double expected = LetsBeRational.impliedVolatilityFromATransformedRationalGuessOrSignal(
+                        price, F, K, T, q);
+                double actual = LetsBeRational.impliedVolatilityFromATransformedRationalGuessOrSignal(
+                        price, context, T, q);
+                assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(actual));
+            }
+        }
+    }
+
+    @Test
+    void testAtTheMoney() {
+        MoneynessContext context = MoneynessContext.of(100.0, 100.0);
+        for (int q : new int[] {1, -1}) {
+            double expected = LetsBeRational.impliedVolatilityFromATransformedRationalGuess(8.0, 100.0, 100.0, 1.0, q);
+            double actual = LetsBeRational.impliedVolatilityFromATransformedRationalGuess(8.0, context, 1.0, q);
+            assertEquals(Double.doubleToLongBits(expected), Double.doubleToLongBits(actual));
+        }
+    }
+
+    @Test
+    void testInvalidPrices() {
+        MoneynessContext context = MoneynessContext.of(110.0, 100.0);
+
+        assertThrows(BelowIntrinsicException.class, () ->
+                LetsBeRational.impliedVolatilityFromATransformedRationalGuess(5.0, context, 1.0, 1));
+        assertThrows(AboveMaximumException.class, () ->
+                LetsBeRational.impliedVolatilityFromATransformedRationalGuess(110.0, context, 1.0, 1));
+        assertEquals(Constants.VOLATILITY_VALUE_TO_SIGNAL_PRICE_IS_BELOW_INTRINSIC,
+                LetsBeRational.impliedVolatilityFromATransformedRationalGuessOrSignal(5.0, context, 1.0, 1));
+    }
+
+    @Test
+    void testLogMoneynessContextNeedsNormalisedPrices() {
+        MoneynessContext context = MoneynessContext.ofLogMoneyness(0.1);
+
+        assertFalse(context.hasForwardAndStrike());
+        assertThrows(IllegalStateException.class, () ->
+                LetsBeRational.impliedVolatilityFromATransformedRationalGuess(5.0, context, 1.0, 1));
+    }
+}
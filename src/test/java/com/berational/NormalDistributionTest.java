@@ -5,6 +5,8 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -232,6 +234,70 @@ class NormalDistributionTest {
         }
     }
 
+    @Test
+    void testInverseCentralCdf() {
+        // 2Φ(z) - 1 = p, matching inverseCdf((1 + p)/2) where that is exact
+        double[] central = {0.1, 0.5, 0.85, 0.9, 0.99};
+        for (double p : central) {
+            double z = NormalDistribution.inverseCentralCdf(p);
+            assertEquals(NormalDistribution.inverseCdf(0.5 + 0.5 * p), z, 1e-14);
+            assertEquals(p, 2.0 * NormalDistribution.cdf(z) - 1.0, 1e-15);
+        }
+
+        // Small p keeps full relative precision: z ≈ p·√(π/2)
+        assertEquals(1e-12 * Constants.SQRT_PI_OVER_TWO, NormalDistribution.inverseCentralCdf(1e-12), 1e-27);
+        assertEquals(0.0, NormalDistribution.inverseCentralCdf(0.0));
+        assertEquals(Double.POSITIVE_INFINITY, NormalDistribution.inverseCentralCdf(1.0));
+    }
+
+    @Test
+    void testInverseCdfArrayMatchesScalar() {
+        // Central, near-tail and far-tail regions mixed in every block, boundaries and an odd tail
+        double[] special = {0.0, 1.0, Double.NaN, -0.1, 1.1, 0.075, 0.925, 1e-300, 1.0 - 1e-16, 0.5};
+        Random random = new Random(7);
+        double[] u = new double[1001];
+        for (int i = 0; i < u.length; i++) {
+            if (i < special.length) {
+                u[i] = special[i];
+            } else {
+                u[i] = i % 3 == 0 ? Math.pow(10.0, -300.0 * random.nextDouble()) : random.nextDouble();
+            }
+        }
+        double[] out = new double[u.length];
+
+        NormalDistribution.inverseCdf(u, out);
+        for (int i = 0; i < u.length; i++) {
+            assertEquals(NormalDistribution.inverseCdf(u[i]), out[i], 0.0, "u=" + u[i]);
+        }
+        NormalDistribution.fastInverseCdf(u, out);
+        for (int i = 0; i < u.length; i++) {
+            assertEquals(NormalDistribution.fastInverseCdf(u[i]), out[i], 0.0, "u=" + u[i]);
+        }
+
+        // In place
+        double[] inPlace = u.clone();
+        NormalDistribution.inverseCdf(inPlace, inPlace);
+        for (int i = 0; i < u.length; i++) {
+            assertEquals(NormalDistribution.inverseCdf(u[i]), inPlace[i], 0.0, "u=" + u[i]);
+        }
+    }
+
+    @Test
+    void testFastInverseCdfAccuracy() {
+        // PPND7 is accurate to about 1 part in 10^7 across the range
+        for (int k = 1; k < 100000; k++) {
+            double u = k / 100000.0;
+            double exact = NormalDistribution.inverseCdf(u);
+            assertEquals(exact, NormalDistribution.fastInverseCdf(u), 2e-7 * Math.max(Math.abs(exact), 1e-3),
+                String.format("fastInverseCdf(%.5f)", u));
+        }
+        for (double u : new double[]{1e-300, 1e-100, 1e-20, 1e-10}) {
+            double exact = NormalDistribution.inverseCdf(u);
+            assertEquals(exact, NormalDistribution.fastInverseCdf(u), 2e-7 * Math.abs(exact));
+        }
+        assertEquals(Double.NEGATIVE_INFINITY, NormalDistribution.fastInverseCdf(0.0));
+    }
+
     @Test
     void testInverseCdfKnownValues() {
         // inverseCDF(0.5) = 0
@@ -327,6 +393,31 @@ class NormalDistributionTest {
         }
     }
 
+    @Test
+    void testLogCdf() {
+        // Matches ln Φ wherever Φ is a normal double
+        for (double z = -37.0; z <= 8.0; z += 0.25) {
+            double expected = Math.log(NormalDistribution.cdf(z));
+            assertEquals(expected, NormalDistribution.logCdf(z), 1e-14 * Math.max(1.0, Math.abs(expected)),
+                "logCdf differs at z=" + z);
+        }
+
+        // Beyond underflow, ln Φ(z) → -z²/2 - ln(-z) - ½·ln(2π)
+        double z = -1e4;
+        double leading = -0.5 * z * z - Math.log(-z) - 0.5 * Math.log(2.0 * Math.PI);
+        assertEquals(leading, NormalDistribution.logCdf(z), 1e-8 * Math.abs(leading));
+    }
+
+    @Test
+    void testInverseLogCdfRoundTrip() {
+        for (double lnU : new double[] {-0.1, -1.0, -10.0, -700.0, -708.5, -750.0, -1e4, -1e8}) {
+            double z = NormalDistribution.inverseLogCdf(lnU);
+            assertEquals(lnU, NormalDistribution.logCdf(z), 1e-14 * Math.abs(lnU),
+                "Round trip failed for ln u=" + lnU);
+        }
+        assertEquals(Double.NEGATIVE_INFINITY, NormalDistribution.inverseLogCdf(Double.NEGATIVE_INFINITY));
+    }
+
     // ==================== Edge Cases ====================
 
     @Test
@@ -0,0 +1,88 @@
+package com.berational;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for solving a whole option chain against a shared forward.
+ */
+class OptionChainTest {
+
+    private static final int SIZE = 81;
+    private static final double T = 0.4;
+
+    private final double[] K = new double[SIZE];
+    private final int[] q = new int[SIZE];
+
+    OptionChainTest() {
+        for (int i = 0; i < SIZE; i++) {
+            K[i] = 60.0 + i;         // Includes the at-the-money strike 100
+            q[i] = i % 2 == 0 ? 1 : -1;
+        }
+    }
+
+    private double[] prices(double F) {
+        double[] price = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            double x = Math.log(F / K[i]);
+            double sigma = 0.2 + 0.002 * Math.abs(i - 40);
+            price[i] = Math.sqrt(F) * Math.sqrt(K[i]) *
+                       LetsBeRational.normalisedBlackCall(q[i] < 0 ? -x : x, sigma * Math.sqrt(T));
+        }
+        return price;
+    }
+
+    @Test
+    void testMatchesScalarForSeveralForwards() {
+        OptionChain chain = new OptionChain(T, K, q);
+        double[] out = new double[SIZE];
+
+        for (double F : new double[] {95.0, 100.0, 103.5}) {
+            double[] price = prices(F);
+            chain.impliedVolatilities(F, price, out);
+
+            for (int i = 0; i < SIZE; i++) {
+                double expected = LetsBeRational.impliedVolatilityFromATransformedRationalGuess(
+                        price[i], F, K[i], T, q[i]);
+                assertEquals(expected, out[i], 1e-12 * expected, "F=" + F + ", K=" + K[i]);
+            }
+        }
+    }
+
+    @Test
+    void testAtTheMoneyStrikeIsExact() {
+        OptionChain chain = new OptionChain(T, K, q);
+        double[] price = prices(100.0);
+        double[] out = new double[SIZE];
+        chain.impliedVolatilities(100.0, price, out);
+
+        assertEquals(LetsBeRational.impliedVolatilityFromATransformedRationalGuess(price[40], 100.0, 100.0, T, q[40]),
+                     out[40]);
+    }
+
+    @Test
+    void testStatusColumn() {
+        OptionChain chain = new OptionChain(T, K, q);
+        double[] price = prices(100.0);
+        price[0] = 1.0;      // Call struck at 60: below intrinsic of 40
+        price[1] = 200.0;    // Put struck at 61: above maximum
+        double[] out = new double[SIZE];
+        byte[] status = new byte[SIZE];
+
+        chain.impliedVolatilities(100.0, price, out, status);
+
+        assertEquals(LetsBeRationalBatch.STATUS_BELOW_INTRINSIC, status[0]);
+        assertEquals(LetsBeRationalBatch.STATUS_ABOVE_MAXIMUM, status[1]);
+        assertEquals(LetsBeRationalBatch.STATUS_OK, status[2]);
+        assertThrows(BelowIntrinsicException.class, () -> chain.impliedVolatilities(100.0, price, out));
+    }
+
+    @Test
+    void testMismatchedColumnsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new OptionChain(T, K, new int[SIZE - 1]));
+        OptionChain chain = new OptionChain(T, K, q);
+        assertThrows(IllegalArgumentException.class, () ->
+                chain.impliedVolatilities(100.0, new double[SIZE], new double[SIZE - 1]));
+    }
+}
@@ -0,0 +1,79 @@
+package com.berational;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the fork/join batch driver.
+ */
+class ParallelBatchSolverTest {
+
+    private static final int SIZE = 20011;  // Not a multiple of the chunk size
+
+    private final double[] price;
+    private final double[] F;
+    private final double[] K;
+    private final double[] T;
+    private final int[] q;
+
+    ParallelBatchSolverTest() {
+        RandomOptions options = new RandomOptions(SIZE, 13);
+        price = options.price;
+        F = options.F;
+        K = options.K;
+        T = options.T;
+        q = options.q;
+    }
+
+    @Test
+    void testBitIdenticalToSequentialForAnyParallelism() {
+        double[] expected = new double[SIZE];
+        LetsBeRationalBatch.impliedVolatilities(price, F, K, T, q, expected);
+
+        for (int parallelism : new int[] {1, 3, 8}) {
+            ForkJoinPool pool = new ForkJoinPool(parallelism);
+            try {
+                double[] out = new double[SIZE];
+                new ParallelBatchSolver(pool, 1000).impliedVolatilities(price, F, K, T, q, out);
+                assertArrayEquals(expected, out, "parallelism " + parallelism);
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void testStatusColumnAndExceptions() {
+        double[] badPrice = price.clone();
+        badPrice[12345] = F[12345] + K[12345];  // Above maximum for either flag
+        double[] out = new double[SIZE];
+        byte[] status = new byte[SIZE];
+
+        ParallelBatchSolver solver = new ParallelBatchSolver();
+        solver.impliedVolatilities(badPrice, F, K, T, q, out, status);
+
+        assertEquals(LetsBeRationalBatch.STATUS_ABOVE_MAXIMUM, status[12345]);
+        assertEquals(LetsBeRationalBatch.STATUS_OK, status[0]);
+        assertThrows(AboveMaximumException.class, () -> solver.impliedVolatilities(badPrice, F, K, T, q, out));
+    }
+
+    @Test
+    void testChunkSizeIsRoundedToCacheLines() {
+        assertEquals(8, ParallelBatchSolver.roundUpToCacheLine(1));
+        assertEquals(4096, ParallelBatchSolver.roundUpToCacheLine(4096));
+        assertEquals(Integer.MAX_VALUE - 7, ParallelBatchSolver.roundUpToCacheLine(Integer.MAX_VALUE - 3));
+        assertEquals(Integer.MAX_VALUE - 7, ParallelBatchSolver.roundUpToCacheLine(Integer.MAX_VALUE));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelBatchSolver(ForkJoinPool.commonPool(), 0));
+
+        // A chunk size near Integer.MAX_VALUE solves the whole batch in one leaf task
+        ParallelBatchSolver solver = new ParallelBatchSolver(ForkJoinPool.commonPool(), Integer.MAX_VALUE);
+        double[] out = new double[SIZE];
+        solver.impliedVolatilities(price, F, K, T, q, out);
+        double[] expected = new double[SIZE];
+        LetsBeRationalBatch.impliedVolatilities(price, F, K, T, q, expected);
+        assertArrayEquals(expected, out);
+    }
+}
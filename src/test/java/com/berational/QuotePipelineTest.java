@@ -0,0 +1,110 @@
+package com.berational;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the single-producer, single-consumer quote pipeline.
+ */
+class QuotePipelineTest {
+
+    private static final int SIZE = 10007;
+
+    private final double[] price;
+    private final double[] F;
+    private final double[] K;
+    private final double[] T;
+    private final int[] q;
+
+    QuotePipelineTest() {
+        RandomOptions options = new RandomOptions(SIZE, 29);
+        price = options.price;
+        F = options.F;
+        K = options.K;
+        T = options.T;
+        q = options.q;
+        // One quote below intrinsic value
+        price[17] = 0.0;
+        K[17] = 0.5 * F[17];
+        q[17] = 1;
+    }
+
+    /**
+     * Publisher checking that tags arrive in order with the scalar solver's result.
+     */
+    private class Checker implements QuotePipeline.Publisher {
+        int published;
+
+        @Override
+        public void publish(long tag, double volatility, byte status) {
+            int i = (int) tag;
+            assertEquals(published, i, "Out of order");
+            double expected = LetsBeRational.impliedVolatilityFromATransformedRationalGuessOrSignal(
+                    price[i], F[i], K[i], T[i], q[i]);
+            assertEquals(expected, volatility, "Quote " + i);
+            assertEquals(LetsBeRationalBatch.statusOf(expected), status);
+            published++;
+        }
+    }
+
+    @Test
+    void testSingleThreadedWrapAround() {
+        Checker checker = new Checker();
+        QuotePipeline pipeline = new QuotePipeline(64, 24, checker);
+
+        int offered = 0;
+        while (checker.published < SIZE) {
+            while (offered < SIZE && pipeline.offer(offered, price[offered], F[offered], K[offered],
+                                                    T[offered], q[offered])) {
+                offered++;
+            }
+            assertTrue(pipeline.poll() <= 24);
+        }
+        assertEquals(0, pipeline.poll());
+        assertEquals(0, pipeline.size());
+    }
+
+    @Test
+    void testFullRingRejectsOffers() {
+        QuotePipeline pipeline = new QuotePipeline(4, 4, new Checker());
+        for (int i = 0; i < 4; i++) {
+            assertTrue(pipeline.offer(i, price[i], F[i], K[i], T[i], q[i]));
+        }
+        assertFalse(pipeline.offer(4, price[4], F[4], K[4], T[4], q[4]));
+        assertEquals(4, pipeline.size());
+        assertEquals(4, pipeline.poll());
+        assertTrue(pipeline.offer(4, price[4], F[4], K[4], T[4], q[4]));
+    }
+
+    @Test
+    void testProducerAndConsumerThreads() throws InterruptedException {
+        Checker checker = new Checker();
+        QuotePipeline pipeline = new QuotePipeline(256, 64, checker);
+
+        Thread producer = new Thread(() -> {
+            for (int i = 0; i < SIZE; i++) {
+                while (!pipeline.offer(i, price[i], F[i], K[i], T[i], q[i])) {
+                    Thread.onSpinWait();
+                }
+            }
+        });
+        producer.start();
+        long deadline = System.nanoTime() + 30_000_000_000L;
+        while (checker.published < SIZE && System.nanoTime() < deadline) {
+            if (pipeline.poll() == 0) {
+                Thread.yield();
+            }
+        }
+        producer.join();
+        assertEquals(SIZE, checker.published);
+    }
+
+    @Test
+    void testInvalidArguments() {
+        QuotePipeline.Publisher ignore = (tag, volatility, status) -> { };
+        assertThrows(IllegalArgumentException.class, () -> new QuotePipeline(48, 8, ignore));
+        assertThrows(IllegalArgumentException.class, () -> new QuotePipeline(64, 0, ignore));
+        assertThrows(IllegalArgumentException.class, () -> new QuotePipeline(64, 65, ignore));
+    }
+}
@@ -0,0 +1,37 @@
+package com.berational;
+
+import java.util.Random;
+
+/**
+ * Random calls and puts near the money, priced at a known volatility, for the batch tests.
+ *
+ * F is uniform in [50, 150), K = F·exp(0.2·Z), T uniform in [0.1, 3.1) and σ uniform
+ * in [0.1, 1.1). The same seed gives the same options.
+ */
+final class RandomOptions {
+
+    final double[] price;
+    final double[] F;
+    final double[] K;
+    final double[] T;
+    final int[] q;
+
+    RandomOptions(int size, long seed) {
+        price = new double[size];
+        F = new double[size];
+        K = new double[size];
+        T = new double[size];
+        q = new int[size];
+        Random random = new Random(seed);
+        for (int i = 0; i < size; i++) {
+            F[i] = 50.0 + 100.0 * random.nextDouble();
+            K[i] = F[i] * Math.exp(0.2 * random.nextGaussian());
+            T[i] = 0.1 + 3.0 * random.nextDouble();
+            q[i] = random.nextBoolean() ? 1 : -1;
+            double sigma = 0.1 + random.nextDouble();
+            double x = Math.log(F[i] / K[i]);
+            price[i] = Math.sqrt(F[i] * K[i]) *
+                       LetsBeRational.normalisedBlackCall(q[i] < 0 ? -x : x, sigma * Math.sqrt(T[i]));
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.berational;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for the JFR events; the instrumented surefire execution samples every solve.
+ */
+class SolverEventsTest {
+
+    @Test
+    void testBatchEventCountsFailures() throws IOException {
+        double[] price = {5.0, 0.5, 150.0};
+        double[] F = {100.0, 100.0, 100.0};
+        double[] K = {100.0, 110.0, 90.0};
+        double[] T = {1.0, 1.0, 1.0};
+        int[] q = {1, 1, -1};
+        double[] out = new double[3];
+        byte[] status = new byte[3];
+
+        List<RecordedEvent> events = record("com.berational.BatchSolve", () -> {
+            LetsBeRationalBatch.impliedVolatilities(price, F, K, T, q, out, status);
+            // 110 strike put below its intrinsic value of 10
+            int[] puts = {1, -1, -1};
+            assertThrows(BelowIntrinsicException.class,
+                         () -> LetsBeRationalBatch.impliedVolatilities(price, F, K, T, puts, out));
+        });
+
+        assertEquals(2, events.size());
+        RecordedEvent statusBatch = events.get(0);
+        assertEquals("LetsBeRationalBatch", statusBatch.getString("solver"));
+        assertEquals(3, statusBatch.getInt("size"));
+        assertEquals(0, statusBatch.getInt("belowIntrinsic"));
+        assertEquals(1, statusBatch.getInt("aboveMaximum"));
+        RecordedEvent throwingBatch = events.get(1);
+        assertEquals(1, throwingBatch.getInt("belowIntrinsic"));
+        assertEquals(0, throwingBatch.getInt("aboveMaximum"));
+    }
+
+    @Test
+    void testDisabledBatchEventIsShared() {
+        // No recording enables the event here, so batch calls allocate no event
+        BatchSolveEvent event = BatchSolveEvent.start("LetsBeRationalBatch", 3);
+        assertSame(event, BatchSolveEvent.start("OptionChain", 5));
+        event.failed(new BelowIntrinsicException());
+        event.finish(null, 0, 3);
+        assertEquals(0, event.belowIntrinsic);
+    }
+
+    @Test
+    void testSampledSolveEvents() throws IOException {
+        assumeTrue(SolverEvents.SAMPLE_INTERVAL == 1, "Run with -Dcom.berational.jfr.sampleInterval=1");
+
+        // Branch 1 at x = -1, then at the money
+        double x = -1.0;
+        double beta = LetsBeRational.normalisedBlackCall(x, 0.3);
+        long sampled = SolverEvents.sampledLatencies().count();
+
+        List<RecordedEvent> events = record("com.berational.Solve", () -> {
+            LetsBeRational.normalisedImpliedVolatilityFromATransformedRationalGuess(beta, x, 1);
+            LetsBeRational.normalisedImpliedVolatilityFromATransformedRationalGuess(0.1, 0.0, 1);
+        });
+
+        assertEquals(2, events.size());
+        assertEquals(1, events.get(0).getInt("branch"));
+        assertEquals(2, events.get(0).getInt("iterations"));
+        assertEquals(SolverStatistics.AT_THE_MONEY, events.get(1).getInt("branch"));
+        assertEquals(0, events.get(1).getInt("iterations"));
+        assertTrue(SolverEvents.sampledLatencies().count() >= sampled + 2);
+    }
+
+    /**
+     * Run an action under a recording of one event type and read the events back in order.
+     */
+    private static List<RecordedEvent> record(String eventName, Runnable action) throws IOException {
+        Path file = Files.createTempFile("solver-events", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(e -> e.getEventType().getName().equals(eventName)
+                                 && e.getThread().getJavaThreadId() == Thread.currentThread().threadId())
+                    .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                    .toList();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.berational;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for SolverStatistics; the instrumented surefire execution enables recording.
+ */
+class SolverStatisticsTest {
+
+    @Test
+    void testCountsBranchesRegionsAndIterations() {
+        assumeTrue(SolverStatistics.ENABLED, "Run with -Dcom.berational.statistics=true");
+
+        // At x = -1, one σ√T per branch: 1 and 2 below s_C = √2, 3 and 4 above
+        double x = -1.0;
+        double[] s = {0.3, 1.2, 2.0, 6.0};
+
+        SolverStatistics.Snapshot before = SolverStatistics.snapshot();
+        for (double si : s) {
+            double beta = LetsBeRational.normalisedBlackCall(x, si);
+            LetsBeRational.normalisedImpliedVolatilityFromATransformedRationalGuess(beta, x, 1);
+        }
+        LetsBeRational.normalisedImpliedVolatilityFromATransformedRationalGuess(0.1, 0.0, 1);
+        SolverStatistics.Snapshot delta = SolverStatistics.snapshot().minus(before);
+
+        assertEquals(5, delta.solves(), delta.toString());
+        assertEquals(1, delta.branch(SolverStatistics.AT_THE_MONEY));
+        for (int branch = 1; branch <= 4; branch++) {
+            assertEquals(1, delta.branch(branch), "Branch " + branch + " in " + delta);
+        }
+
+        // One Householder(3) run per solve away from the money, two steps each
+        long runs = 0;
+        for (int n = 0; n <= SolverStatistics.MAXIMUM_RECORDED_ITERATIONS; n++) {
+            runs += delta.iterations(n);
+        }
+        assertEquals(4, runs, delta.toString());
+        assertEquals(0, delta.bisections(), delta.toString());
+
+        long evaluations = 0;
+        for (int region = 0; region < SolverStatistics.REGION_COUNT; region++) {
+            evaluations += delta.region(region);
+        }
+        assertTrue(evaluations >= 4 * 3, delta.toString());
+        assertTrue(delta.region(SolverStatistics.REGION_II) > 0, delta.toString());
+        assertTrue(delta.region(SolverStatistics.REGION_III) > 0, delta.toString());
+    }
+
+    @Test
+    void testReset() {
+        assumeTrue(SolverStatistics.ENABLED, "Run with -Dcom.berational.statistics=true");
+
+        LetsBeRational.normalisedImpliedVolatilityFromATransformedRationalGuess(0.05, -0.5, 1);
+        SolverStatistics.reset();
+        SolverStatistics.Snapshot snapshot = SolverStatistics.snapshot();
+
+        assertEquals(0, snapshot.solves());
+        assertEquals(0, snapshot.region(SolverStatistics.REGION_IV));
+        assertEquals(0, snapshot.directionReversals());
+    }
+}
@@ -0,0 +1,111 @@
+package com.berational;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test the table-driven erfcx against a 50-digit reference and against Cody's.
+ */
+class TableErfcxTest {
+
+    // Measured against the reference: the table is within 1.07 ulp on [0, 4) and 3.13 ulp on
+    // (-4, 0), where the reflection rounds exp(x²); Cody is up to 6.47 ulp off near x = 2.28
+    private static final double MAX_ULPS_FROM_EXACT = 1.25;
+    private static final double MAX_ULPS_FROM_EXACT_REFLECTED = 3.5;
+    private static final long MAX_ULPS = 7;
+
+    private static final MathContext REFERENCE = new MathContext(50);
+    private static final BigDecimal TWO_OVER_SQRT_PI = BigDecimal.valueOf(2).divide(
+        new BigDecimal("3.14159265358979323846264338327950288419716939937510582097494459").sqrt(REFERENCE),
+        REFERENCE);
+    private static final BigDecimal NEGLIGIBLE = new BigDecimal("1e-55");
+
+    private static long ulps(double a, double b) {
+        return Math.abs(Double.doubleToLongBits(a) - Double.doubleToLongBits(b));
+    }
+
+    /**
+     * erfcx(x) = exp(x²) - 2/√π·Σ 2ⁿx²ⁿ⁺¹/(2n+1)!! to 50 digits, for |x| ≤ 4 where the
+     * cancellation costs at most 8 of them.
+     */
+    private static BigDecimal exactErfcx(double x) {
+        BigDecimal y = new BigDecimal(x);
+        BigDecimal y2 = y.multiply(y, REFERENCE);
+        BigDecimal exp = BigDecimal.ONE;
+        BigDecimal term = BigDecimal.ONE;
+        for (int n = 1; term.compareTo(NEGLIGIBLE) > 0; n++) {
+            term = term.multiply(y2, REFERENCE).divide(BigDecimal.valueOf(n), REFERENCE);
+            exp = exp.add(term, REFERENCE);
+        }
+        BigDecimal sum = y;
+        term = y;
+        for (int n = 1; term.abs().compareTo(NEGLIGIBLE) > 0; n++) {
+            term = term.multiply(y2.add(y2), REFERENCE).divide(BigDecimal.valueOf(2 * n + 1), REFERENCE);
+            sum = sum.add(term, REFERENCE);
+        }
+        return exp.subtract(TWO_OVER_SQRT_PI.multiply(sum, REFERENCE), REFERENCE);
+    }
+
+    private static double ulpsFromExact(double x, double value) {
+        BigDecimal exact = exactErfcx(x);
+        return exact.subtract(new BigDecimal(value)).abs().doubleValue() / Math.ulp(exact.doubleValue());
+    }
+
+    @Test
+    void testWithinOneUlpOfExactOnTable() {
+        Random random = new Random(13);
+        for (int i = 0; i < 4000; i++) {
+            double x = 4.0 * random.nextDouble();
+            double error = ulpsFromExact(x, TableErfcx.erfcx(x));
+            assertTrue(error <= MAX_ULPS_FROM_EXACT, String.format("erfcx(%.17g): %.2f ulp", x, error));
+        }
+    }
+
+    @Test
+    void testWithinFewUlpsOfExactOnReflection() {
+        Random random = new Random(17);
+        for (int i = 0; i < 2000; i++) {
+            double x = -4.0 * random.nextDouble();
+            double error = ulpsFromExact(x, TableErfcx.erfcx(x));
+            assertTrue(error <= MAX_ULPS_FROM_EXACT_REFLECTED, String.format("erfcx(%.17g): %.2f ulp", x, error));
+        }
+    }
+
+    @Test
+    void testWithinFewUlpsOfCody() {
+        Random random = new Random(11);
+        for (int i = 0; i < 200000; i++) {
+            // Table range, its reflection and the Cody ranges either side
+            double x = (random.nextDouble() - 0.5) * (i % 2 == 0 ? 8.0 : 60.0);
+            assertTrue(ulps(CodyErf.erfcx(x), TableErfcx.erfcx(x)) <= MAX_ULPS,
+                String.format("erfcx(%.17g): cody=%.17g table=%.17g", x, CodyErf.erfcx(x), TableErfcx.erfcx(x)));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {
+        // Segment edges, the table limit and Cody's region boundaries
+        0.0, 0.0625, 0.46875, 0.5, 1.0, 3.9375, 4.0 - 1e-15, 4.0,
+        -0.0625, -0.46875, -1.0, -4.0 + 1e-15, -4.0, 1e-300, -1e-300
+    })
+    void testBoundaries(double x) {
+        assertTrue(ulps(CodyErf.erfcx(x), TableErfcx.erfcx(x)) <= MAX_ULPS,
+            String.format("erfcx(%.17g)", x));
+    }
+
+    @Test
+    void testSpecialValues() {
+        assertEquals(1.0, TableErfcx.erfcx(0.0), 1e-16);
+        assertEquals(CodyErf.erfcx(-30.0), TableErfcx.erfcx(-30.0));
+        assertEquals(CodyErf.erfcx(1e10), TableErfcx.erfcx(1e10));
+        assertEquals(0.0, TableErfcx.erfcx(Double.POSITIVE_INFINITY));
+        assertTrue(Double.isNaN(TableErfcx.erfcx(Double.NaN)));
+    }
+}